@@ -0,0 +1,251 @@
+package de.yanwittmann.j2chartjs.chart;
+
+import de.yanwittmann.util.JsonWriter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Records the configuration of a chart as it was sent to a client and creates compact update payloads from later
+ * states of the chart, so that a live chart does not have to be transferred completely on every refresh.<br>
+ * A delta contains the values of the chart data and the datasets that changed. Arrays that only lost elements at
+ * their start and gained elements at their end, like the labels and data of a sliding window, are transferred as the
+ * amount of removed elements and the appended elements. Changed options are transferred completely.<br>
+ * The delta is applied on the client using the {@link #APPLY_DELTA_FUNCTION}:
+ * <pre>
+ * var applyDelta = ...; // ChartBaseline.APPLY_DELTA_FUNCTION
+ * applyDelta(chart, delta);
+ * </pre>
+ * The baseline has to be created from the same configuration the client created the chart with.
+ */
+public class ChartBaseline {
+
+    /**
+     * A JavaScript function <code>(chart, delta)</code> that applies a delta to a Chart.js chart and updates it.
+     */
+    public final static String APPLY_DELTA_FUNCTION = "function(chart,delta){" +
+            "function patch(target,p){var k,i;" +
+            "if(p.set)for(k in p.set)target[k]=p.set[k];" +
+            "if(p.unset)for(i=0;i<p.unset.length;i++)delete target[p.unset[i]];" +
+            "if(p.arrays)for(k in p.arrays){target[k].splice(0,p.arrays[k][0]);for(i=0;i<p.arrays[k][1].length;i++)target[k].push(p.arrays[k][1][i])}}" +
+            "if(delta.type)chart.config.type=delta.type;" +
+            "if(delta.data){patch(chart.data,delta.data);" +
+            "if(delta.data.datasetPatches)for(var i=0;i<delta.data.datasetPatches.length;i++)" +
+            "if(delta.data.datasetPatches[i])patch(chart.data.datasets[i],delta.data.datasetPatches[i])}" +
+            "if(delta.options)chart.options=delta.options;" +
+            "chart.update()}";
+
+    private String type;
+    private Map<String, String> data;
+    private List<Map<String, String>> datasets;
+    private String options;
+
+    /**
+     * @param configuration The configuration the client created the chart with, as created by {@link Chart#build()}.
+     */
+    public ChartBaseline(String configuration) {
+        record(configuration);
+    }
+
+    public static ChartBaseline of(Chart<?, ?, ?, ?> chart) {
+        return new ChartBaseline(chart.build());
+    }
+
+    public static ChartBaseline of(MixedChart chart) {
+        return new ChartBaseline(chart.toString());
+    }
+
+    /**
+     * Creates the delta from the recorded configuration to the given configuration. The baseline is not modified.
+     *
+     * @param configuration The current configuration of the chart.
+     * @return The delta, <code>{}</code> if nothing changed.
+     */
+    public String diff(String configuration) {
+        ChartBaseline current = new ChartBaseline(configuration);
+        StringBuilder builder = new StringBuilder();
+        JsonWriter writer = new JsonWriter(builder).beginObject();
+
+        if (!Objects.equals(type, current.type)) {
+            writer.name("type").rawValue(current.type == null ? "null" : current.type);
+        }
+
+        String dataPatch = patch(data, current.data, datasetPatches(current.datasets));
+        if (dataPatch != null) writer.name("data").rawValue(dataPatch);
+
+        if (!Objects.equals(options, current.options)) {
+            writer.name("options").rawValue(current.options == null ? "{}" : current.options);
+        }
+
+        writer.endObject();
+        return builder.toString();
+    }
+
+    public String diff(Chart<?, ?, ?, ?> chart) {
+        return diff(chart.build());
+    }
+
+    public String diff(MixedChart chart) {
+        return diff(chart.toString());
+    }
+
+    /**
+     * Creates the delta from the recorded configuration to the given configuration and records the given
+     * configuration as new baseline, for clients that apply every delta.
+     *
+     * @param configuration The current configuration of the chart.
+     * @return The delta, <code>{}</code> if nothing changed.
+     */
+    public String update(String configuration) {
+        String delta = diff(configuration);
+        record(configuration);
+        return delta;
+    }
+
+    public String update(Chart<?, ?, ?, ?> chart) {
+        return update(chart.build());
+    }
+
+    public String update(MixedChart chart) {
+        return update(chart.toString());
+    }
+
+    private void record(String configuration) {
+        Map<String, String> chart = ConfigurationScanner.parseObject(configuration);
+        type = chart.get("type");
+        options = chart.get("options");
+        String rawData = chart.get("data");
+        data = rawData != null && rawData.startsWith("{") ? ConfigurationScanner.parseObject(rawData) : Collections.emptyMap();
+        String rawDatasets = data.get("datasets");
+        datasets = new ArrayList<>();
+        if (rawDatasets != null && rawDatasets.startsWith("[")) {
+            for (String dataset : ConfigurationScanner.splitElements(rawDatasets)) {
+                datasets.add(dataset.startsWith("{") ? ConfigurationScanner.parseObject(dataset) : null);
+            }
+        }
+    }
+
+    /**
+     * @return The patches of the datasets if their amount did not change, <code>null</code> if the datasets have to
+     * be replaced, an empty string if none of them changed.
+     */
+    private String datasetPatches(List<Map<String, String>> currentDatasets) {
+        if (datasets.size() != currentDatasets.size() || datasets.contains(null) || currentDatasets.contains(null)) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        JsonWriter writer = new JsonWriter(builder).beginArray();
+        boolean changed = false;
+        for (int i = 0; i < datasets.size(); i++) {
+            String patch = patch(datasets.get(i), currentDatasets.get(i), "");
+            if (patch != null) {
+                writer.rawValue(patch);
+                changed = true;
+            } else {
+                writer.nullValue();
+            }
+        }
+        writer.endArray();
+        return changed ? builder.toString() : "";
+    }
+
+    /**
+     * Creates the patch of an object.
+     *
+     * @param previous       The recorded properties of the object.
+     * @param current        The current properties of the object.
+     * @param datasetPatches The patches of the datasets of the object, see {@link #datasetPatches(List)}.
+     * @return The patch, <code>null</code> if nothing changed.
+     */
+    private static String patch(Map<String, String> previous, Map<String, String> current, String datasetPatches) {
+        Map<String, String> set = new LinkedHashMap<>();
+        Map<String, List<String>> arrays = new LinkedHashMap<>();
+        Map<String, Integer> shifts = new LinkedHashMap<>();
+        List<String> unset = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            String key = entry.getKey();
+            String value = entry.getValue();
+            String previousValue = previous.get(key);
+            if (value.equals(previousValue)) continue;
+            if (key.equals("datasets") && datasetPatches != null) continue;
+
+            if (previousValue != null && previousValue.startsWith("[") && value.startsWith("[")) {
+                List<String> previousElements = ConfigurationScanner.splitElements(previousValue);
+                List<String> elements = ConfigurationScanner.splitElements(value);
+                int shift = findShift(previousElements, elements);
+                int kept = previousElements.size() - shift;
+                if (kept > 0) {
+                    shifts.put(key, shift);
+                    arrays.put(key, elements.subList(kept, elements.size()));
+                    continue;
+                }
+            }
+            set.put(key, value);
+        }
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) unset.add(key);
+        }
+
+        boolean hasDatasetPatches = datasetPatches != null && !datasetPatches.isEmpty();
+        if (set.isEmpty() && arrays.isEmpty() && unset.isEmpty() && !hasDatasetPatches) return null;
+
+        StringBuilder builder = new StringBuilder();
+        JsonWriter writer = new JsonWriter(builder).beginObject();
+        if (!set.isEmpty()) {
+            writer.name("set").beginObject();
+            for (Map.Entry<String, String> entry : set.entrySet()) {
+                writer.name(entry.getKey()).rawValue(entry.getValue());
+            }
+            writer.endObject();
+        }
+        if (!unset.isEmpty()) {
+            writer.name("unset").value(unset);
+        }
+        if (!arrays.isEmpty()) {
+            writer.name("arrays").beginObject();
+            for (Map.Entry<String, List<String>> entry : arrays.entrySet()) {
+                writer.name(entry.getKey()).beginArray().value(shifts.get(entry.getKey())).beginArray();
+                for (String element : entry.getValue()) {
+                    writer.rawValue(element);
+                }
+                writer.endArray().endArray();
+            }
+            writer.endObject();
+        }
+        if (hasDatasetPatches) {
+            writer.name("datasetPatches").rawValue(datasetPatches);
+        }
+        writer.endObject();
+        return builder.toString();
+    }
+
+    /**
+     * Finds the smallest amount of elements that have to be removed from the start of the previous elements so that
+     * the remaining elements are the start of the current elements. The longest start of the current elements that
+     * ends the previous elements is searched using the prefix function of the current elements, like in the
+     * Knuth-Morris-Pratt algorithm, so that the search takes linear time even for repetitive values instead of
+     * comparing the remaining elements for every possible shift.
+     */
+    private static int findShift(List<String> previous, List<String> current) {
+        if (current.isEmpty()) return previous.size();
+        int[] prefix = new int[current.size()];
+        for (int i = 1, length = 0; i < current.size(); i++) {
+            while (length > 0 && !current.get(i).equals(current.get(length))) length = prefix[length - 1];
+            if (current.get(i).equals(current.get(length))) length++;
+            prefix[i] = length;
+        }
+        int matched = 0;
+        for (int i = Math.max(0, previous.size() - current.size()); i < previous.size(); i++) {
+            while (matched > 0 && (matched == current.size() || !previous.get(i).equals(current.get(matched)))) {
+                matched = prefix[matched - 1];
+            }
+            if (previous.get(i).equals(current.get(matched))) matched++;
+        }
+        return previous.size() - matched;
+    }
+}
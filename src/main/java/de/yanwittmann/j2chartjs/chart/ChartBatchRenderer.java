@@ -0,0 +1,254 @@
+package de.yanwittmann.j2chartjs.chart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Renders many charts concurrently, each into its own output stream. The amount of charts being rendered at the same
+ * time is limited, so that submitting a large batch does not queue all charts at once. A chart that fails to render
+ * does not affect the other charts of the batch, its error is reported in its {@link Result}.<br>
+ * The results are passed to the callback in the order of the charts, while the rendering itself completes in any
+ * order.
+ * <pre>
+ * List&lt;Result&lt;LineChart&gt;&gt; results = new ChartBatchRenderer().render(charts, LineChart::writeTo,
+ *         (chart, index) -&gt; Files.newOutputStream(directory.resolve("chart-" + index + ".json")));
+ * </pre>
+ * The charts are rendered on virtual threads if the Java runtime supports them, otherwise on the common
+ * <code>ForkJoinPool</code>. Charts must not be modified while they are rendered.
+ */
+public class ChartBatchRenderer {
+
+    private final Executor executor;
+    private final int maxInFlight;
+
+    /**
+     * Creates a renderer using the {@link #defaultExecutor()} that renders up to twice as many charts at once as
+     * processors are available.
+     */
+    public ChartBatchRenderer() {
+        this(defaultExecutor(), 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param executor    The executor to render the charts on.
+     * @param maxInFlight The maximum amount of charts that are submitted to the executor and not completed yet.
+     */
+    public ChartBatchRenderer(Executor executor, int maxInFlight) {
+        if (executor == null) throw new IllegalArgumentException("The executor must not be null");
+        if (maxInFlight < 1) throw new IllegalArgumentException("At least one chart has to be rendered at once: " + maxInFlight);
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @return An executor starting a virtual thread per chart if the Java runtime supports virtual threads (Java 21 and
+     * later), otherwise the common <code>ForkJoinPool</code>.
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Renders the charts and waits until all of them are completed.
+     *
+     * @param charts The charts to render.
+     * @param writer Writes a chart into a stream, for example <code>Chart::writeTo</code>.
+     * @param sink   Opens the stream to write a chart into. The stream is closed after the chart was written.
+     * @param <T>    The type of the charts.
+     * @return The results in the order of the charts.
+     * @throws InterruptedException If the thread is interrupted while waiting. Charts that were already submitted
+     *                              are still rendered.
+     */
+    public <T> List<Result<T>> render(Collection<T> charts, ChartWriter<? super T> writer, ChartSink<? super T> sink) throws InterruptedException {
+        return render(charts, writer, sink, null);
+    }
+
+    /**
+     * Renders the charts and waits until all of them are completed.
+     *
+     * @param charts   The charts to render.
+     * @param writer   Writes a chart into a stream, for example <code>Chart::writeTo</code>.
+     * @param sink     Opens the stream to write a chart into. The stream is closed after the chart was written.
+     * @param callback If not <code>null</code>, called with the result of every chart in the order of the charts, as
+     *                 soon as the chart and all charts before it are completed. Calls do not overlap.
+     * @param <T>      The type of the charts.
+     * @return The results in the order of the charts.
+     * @throws InterruptedException If the thread is interrupted while waiting. Charts that were already submitted
+     *                              are still rendered.
+     */
+    public <T> List<Result<T>> render(Collection<T> charts, ChartWriter<? super T> writer, ChartSink<? super T> sink, Consumer<? super Result<T>> callback) throws InterruptedException {
+        Batch<T> batch = new Batch<>(charts.size(), callback);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        int index = 0;
+        for (T chart : charts) {
+            int chartIndex = index++;
+            inFlight.acquire();
+            Runnable task = () -> {
+                try {
+                    batch.complete(renderChart(chart, chartIndex, writer, sink));
+                } catch (Error e) {
+                    batch.complete(new Result<>(chart, chartIndex, e));
+                    throw e;
+                } finally {
+                    inFlight.release();
+                }
+            };
+            try {
+                executor.execute(task);
+            } catch (RuntimeException e) {
+                inFlight.release();
+                batch.complete(new Result<>(chart, chartIndex, e));
+            }
+        }
+        batch.await();
+        return batch.getResults();
+    }
+
+    private static <T> Result<T> renderChart(T chart, int index, ChartWriter<? super T> writer, ChartSink<? super T> sink) {
+        try (OutputStream out = sink.open(chart, index)) {
+            writer.write(chart, out);
+            return new Result<>(chart, index, null);
+        } catch (Exception e) {
+            return new Result<>(chart, index, e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChartWriter<T> {
+        void write(T chart, OutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ChartSink<T> {
+        /**
+         * @param chart The chart that is rendered.
+         * @param index The index of the chart in the batch.
+         * @return The stream to write the chart into.
+         * @throws IOException If the stream cannot be opened.
+         */
+        OutputStream open(T chart, int index) throws IOException;
+    }
+
+    /**
+     * The outcome of rendering a single chart of a batch.
+     *
+     * @param <T> The type of the chart.
+     */
+    public static class Result<T> {
+        private final T chart;
+        private final int index;
+        private final Throwable error;
+
+        private Result(T chart, int index, Throwable error) {
+            this.chart = chart;
+            this.index = index;
+            this.error = error;
+        }
+
+        public T getChart() {
+            return chart;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return The error that occurred while opening the stream or rendering the chart, <code>null</code> if the
+         * chart was rendered successfully.
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    /**
+     * Collects the results of a batch and passes them to the callback in order.
+     */
+    private static class Batch<T> {
+        private final Result<T>[] results;
+        private final Consumer<? super Result<T>> callback;
+        private final CountDownLatch remaining;
+        private int nextCallback = 0;
+        private Throwable callbackError;
+
+        @SuppressWarnings("unchecked")
+        private Batch(int size, Consumer<? super Result<T>> callback) {
+            this.results = new Result[size];
+            this.callback = callback;
+            this.remaining = new CountDownLatch(size);
+        }
+
+        /**
+         * Records the result and passes all results that are next in order to the callback. A result for a chart that
+         * already has one is ignored. The first exception or error thrown by the callback is rethrown by
+         * {@link #await()}, the callback is not called anymore afterwards.
+         */
+        private synchronized void complete(Result<T> result) {
+            if (results[result.index] != null) return;
+            results[result.index] = result;
+            while (nextCallback < results.length && results[nextCallback] != null) {
+                Result<T> next = results[nextCallback++];
+                try {
+                    if (callback != null && callbackError == null) callback.accept(next);
+                } catch (Throwable e) {
+                    callbackError = e;
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        }
+
+        private void await() throws InterruptedException {
+            remaining.await();
+            Throwable error;
+            synchronized (this) {
+                error = callbackError;
+            }
+            if (error instanceof RuntimeException) throw (RuntimeException) error;
+            if (error instanceof Error) throw (Error) error;
+            if (error != null) throw new IllegalStateException("The callback failed", error);
+        }
+
+        private synchronized List<Result<T>> getResults() {
+            return Collections.unmodifiableList(Arrays.asList(results));
+        }
+    }
+
+    /**
+     * Looks up the virtual thread executor by reflection, since this library is compiled for Java 8.
+     */
+    private static class DefaultExecutor {
+        private final static Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return ForkJoinPool.commonPool();
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package de.yanwittmann.j2chartjs.chart;
+
+import de.yanwittmann.util.JsonWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates a single script that renders multiple charts on a page. Identical parts of the options of the charts, like
+ * shared fonts, scale grids or tooltip styling, and identical labels are only written once as constants of the script
+ * and referenced by every chart using them. Since Chart.js modifies the options passed to a chart, every chart
+ * receives its own copy of the shared values.<br>
+ * The options of a chart are found to be identical to other options by comparing their serialized form. Options that
+ * are shared as objects between the charts are only serialized once, since their serialization is memoized.
+ * <pre>
+ * ChartPage page = new ChartPage().add("salesChart", salesChart).add("costChart", costChart);
+ * String script = page.build(); // to be placed in a script tag after the canvas elements
+ * </pre>
+ */
+public class ChartPage {
+
+    private final static String COPY_FUNCTION = "function(v){" +
+            "if(Array.isArray(v))return v.map(c);" +
+            "if(v&&typeof v==='object'){var o={};for(var k in v)o[k]=c(v[k]);return o}" +
+            "return v}";
+
+    private final List<String> canvasIds = new ArrayList<>();
+    private final List<String> configurations = new ArrayList<>();
+    private int minSharedLength = 32;
+
+    /**
+     * Adds a chart that is rendered into the canvas element with the given id.
+     *
+     * @param canvasId The id of the canvas element.
+     * @param chart    The chart to render.
+     * @return This instance to allow for API chaining.
+     */
+    public ChartPage add(String canvasId, Chart<?, ?, ?, ?> chart) {
+        return add(canvasId, chart.build());
+    }
+
+    public ChartPage add(String canvasId, MixedChart chart) {
+        return add(canvasId, chart.toString());
+    }
+
+    /**
+     * @param canvasId      The id of the canvas element.
+     * @param configuration The configuration of the chart, as created by {@link Chart#build()}.
+     * @return This instance to allow for API chaining.
+     */
+    public ChartPage add(String canvasId, String configuration) {
+        canvasIds.add(canvasId);
+        configurations.add(configuration);
+        return this;
+    }
+
+    public int getMinSharedLength() {
+        return minSharedLength;
+    }
+
+    /**
+     * Sets the minimum length of options in characters to be shared between charts. Sharing shorter options would not
+     * reduce the size of the script. Defaults to <code>32</code>.
+     *
+     * @param minSharedLength The minimum length of shared options.
+     * @return This instance to allow for API chaining.
+     */
+    public ChartPage setMinSharedLength(int minSharedLength) {
+        this.minSharedLength = minSharedLength;
+        return this;
+    }
+
+    public String build() {
+        StringBuilder builder = new StringBuilder();
+        try {
+            build(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the script that creates all charts into the output.
+     *
+     * @param out The output to write the script to.
+     * @throws IOException If the output throws an exception while writing.
+     */
+    public void build(Appendable out) throws IOException {
+        List<Map<String, String>> charts = new ArrayList<>(configurations.size());
+        List<Map<String, String>> chartData = new ArrayList<>(configurations.size());
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (String configuration : configurations) {
+            Map<String, String> chart = ConfigurationScanner.parseObject(configuration);
+            charts.add(chart);
+            String options = chart.get("options");
+            if (options != null) countObjects(options, occurrences);
+            String data = chart.get("data");
+            Map<String, String> dataProperties = data != null && data.startsWith("{") ? ConfigurationScanner.parseObject(data) : null;
+            chartData.add(dataProperties);
+            String labels = dataProperties == null ? null : dataProperties.get("labels");
+            if (labels != null && labels.length() >= minSharedLength) occurrences.merge(labels, 1, Integer::sum);
+        }
+
+        Constants constants = new Constants(occurrences);
+        List<String> chartScripts = new ArrayList<>(charts.size());
+        for (int i = 0; i < charts.size(); i++) {
+            StringBuilder chartScript = new StringBuilder();
+            JsonWriter writer = new JsonWriter(chartScript);
+            chartScript.append("new Chart(document.getElementById(");
+            writer.value(canvasIds.get(i));
+            chartScript.append("),");
+            writer = new JsonWriter(chartScript).beginObject();
+            for (Map.Entry<String, String> property : charts.get(i).entrySet()) {
+                writer.name(property.getKey());
+                if (property.getKey().equals("options")) {
+                    String options = constants.replace(property.getValue(), 1);
+                    writer.rawValue(options.equals(property.getValue()) ? options : "c(" + options + ")");
+                } else if (property.getKey().equals("data") && chartData.get(i) != null) {
+                    writeData(writer, chartData.get(i), property.getValue(), constants);
+                } else {
+                    writer.rawValue(property.getValue());
+                }
+            }
+            writer.endObject();
+            chartScript.append(");");
+            chartScripts.add(chartScript.toString());
+        }
+
+        out.append("(function(){");
+        if (!constants.definitions.isEmpty()) {
+            out.append("var c=").append(COPY_FUNCTION).append(';');
+            for (String definition : constants.definitions) {
+                out.append(definition);
+            }
+        }
+        for (String chartScript : chartScripts) {
+            out.append(chartScript);
+        }
+        out.append("})();");
+    }
+
+    /**
+     * Writes the data of a chart, referencing the constant of the labels if they are shared.
+     */
+    private static void writeData(JsonWriter writer, Map<String, String> data, String rawData, Constants constants) {
+        String labels = data.get("labels");
+        if (labels == null || constants.occurrences.getOrDefault(labels, 0) < 2) {
+            writer.rawValue(rawData);
+            return;
+        }
+        writer.beginObject();
+        for (Map.Entry<String, String> property : data.entrySet()) {
+            writer.name(property.getKey());
+            if (property.getKey().equals("labels")) writer.rawValue("c(" + constants.nameOf(labels) + ")");
+            else writer.rawValue(property.getValue());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Counts how often every object in the value occurs, including nested objects.
+     */
+    private void countObjects(String value, Map<String, Integer> occurrences) {
+        if (value.startsWith("{")) {
+            if (value.length() >= minSharedLength) occurrences.merge(value, 1, Integer::sum);
+            for (String property : ConfigurationScanner.parseObject(value).values()) {
+                countObjects(property, occurrences);
+            }
+        } else if (value.startsWith("[")) {
+            for (String element : ConfigurationScanner.splitElements(value)) {
+                countObjects(element, occurrences);
+            }
+        }
+    }
+
+    /**
+     * The objects and labels that occur more than once, defined as constants <code>s0</code>, <code>s1</code>, ... in the order
+     * they are first used. Constants may reference other constants that were defined before them. Objects nested in a
+     * constant only become constants themselves if they also occur outside of it.
+     */
+    private class Constants {
+        private final Map<String, Integer> occurrences;
+        private final Map<String, String> names = new HashMap<>();
+        private final List<String> definitions = new ArrayList<>();
+
+        private Constants(Map<String, Integer> occurrences) {
+            this.occurrences = occurrences;
+        }
+
+        /**
+         * @param value          The value to replace the shared objects in.
+         * @param enclosingCount The amount of occurrences of the constant the value is part of.
+         * @return The value with all shared objects replaced by the names of their constants.
+         */
+        private String replace(String value, int enclosingCount) {
+            if (value.startsWith("{")) {
+                if (occurrences.getOrDefault(value, 0) > Math.max(1, enclosingCount)) return nameOf(value);
+                return replaceNested(value, enclosingCount);
+            }
+            if (value.startsWith("[")) return replaceNested(value, enclosingCount);
+            return value;
+        }
+
+        private String replaceNested(String value, int enclosingCount) {
+            StringBuilder builder = new StringBuilder();
+            JsonWriter writer = new JsonWriter(builder);
+            boolean changed = false;
+            if (value.startsWith("{")) {
+                writer.beginObject();
+                for (Map.Entry<String, String> property : ConfigurationScanner.parseObject(value).entrySet()) {
+                    String replaced = replace(property.getValue(), enclosingCount);
+                    changed |= !replaced.equals(property.getValue());
+                    writer.name(property.getKey()).rawValue(replaced);
+                }
+                writer.endObject();
+            } else {
+                writer.beginArray();
+                for (String element : ConfigurationScanner.splitElements(value)) {
+                    String replaced = replace(element, enclosingCount);
+                    changed |= !replaced.equals(element);
+                    writer.rawValue(replaced);
+                }
+                writer.endArray();
+            }
+            return changed ? builder.toString() : value;
+        }
+
+        private String nameOf(String object) {
+            String name = names.get(object);
+            if (name == null) {
+                String definition = object.startsWith("{") ? replaceNested(object, occurrences.get(object)) : object;
+                name = "s" + names.size();
+                names.put(object, name);
+                definitions.add("var " + name + "=" + definition + ";");
+            }
+            return name;
+        }
+    }
+}
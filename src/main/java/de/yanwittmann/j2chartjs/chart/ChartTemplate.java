@@ -0,0 +1,190 @@
+package de.yanwittmann.j2chartjs.chart;
+
+import de.yanwittmann.j2chartjs.data.ChartData;
+import de.yanwittmann.j2chartjs.dataset.ChartDataset;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Utf8Output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A chart configuration that is compiled once and rendered many times with different labels and data. The type,
+ * options and dataset styling are serialized while compiling and stored as constant segments, both as text and as
+ * UTF-8 encoded bytes. Rendering only serializes the labels and the data of the datasets into the holes between the
+ * segments.<br>
+ * Per-datapoint attributes of the datasets are serialized for the data of the chart at the time of compiling.
+ * Decimation and other data reductions of the chart data are not applied to the rendered data.
+ */
+public class ChartTemplate {
+
+    private final String[] segments;
+    private final byte[][] encodedSegments;
+    private final int decimalPrecision;
+
+    private ChartTemplate(String[] segments, int decimalPrecision) {
+        this.segments = segments;
+        this.encodedSegments = new byte[segments.length][];
+        for (int i = 0; i < segments.length; i++) {
+            encodedSegments[i] = segments[i].getBytes(StandardCharsets.UTF_8);
+        }
+        this.decimalPrecision = decimalPrecision;
+    }
+
+    /**
+     * Compiles the current configuration of the chart. Later modifications of the chart do not affect the template.
+     *
+     * @param chart The chart to compile.
+     * @return The template.
+     */
+    public static ChartTemplate compile(Chart<?, ?, ?, ?> chart) {
+        ChartData<?, ?, ?> chartData = chart.getChartData();
+        if (chartData == null) throw new IllegalArgumentException("The chart has no chart data to compile");
+
+        StringBuilder builder = new StringBuilder();
+        List<Integer> holes = new ArrayList<>();
+        JsonWriter writer = chart.createJsonWriter(builder)
+                .setDataReplacement(w -> {
+                    w.rawValue("");
+                    holes.add(builder.length());
+                });
+
+        writer.beginObject()
+                .property("type", chart.typeIdentifier)
+                .name("data").beginObject()
+                .name("labels").rawValue("");
+        holes.add(builder.length());
+        writer.name("datasets").beginArray();
+        for (ChartDataset<?, ?> dataset : chartData.getDatasets()) {
+            dataset.writeJson(writer);
+        }
+        writer.endArray()
+                .endObject()
+                .property("options", chart.getChartOptions())
+                .endObject();
+
+        if (holes.size() != chartData.getDatasets().size() + 1) {
+            throw new IllegalStateException("Expected a data placeholder for each of the " + chartData.getDatasets().size() + " datasets, found " + (holes.size() - 1));
+        }
+        String[] segments = new String[holes.size() + 1];
+        int start = 0;
+        for (int i = 0; i < holes.size(); i++) {
+            segments[i] = builder.substring(start, holes.get(i));
+            start = holes.get(i);
+        }
+        segments[holes.size()] = builder.substring(start);
+        return new ChartTemplate(segments, chart.getDecimalPrecision());
+    }
+
+    /**
+     * @return The amount of datasets the data has to be passed for when rendering.
+     */
+    public int getDatasetCount() {
+        return segments.length - 2;
+    }
+
+    /**
+     * @param labels The labels of the chart.
+     * @param data   The data of every dataset, in the order of the datasets. <code>NaN</code> values are written as
+     *               <code>null</code>.
+     * @return The chart configuration.
+     */
+    public String render(List<String> labels, double[]... data) {
+        return render(labels, (Object[]) data);
+    }
+
+    /**
+     * @param labels The labels of the chart.
+     * @param data   The data of every dataset, in the order of the datasets.
+     * @return The chart configuration.
+     */
+    public String render(List<String> labels, List<? extends List<?>> data) {
+        return render(labels, data.toArray());
+    }
+
+    /**
+     * Writes the chart configuration as UTF-8 into the stream and flushes it afterwards. The stream is not closed.
+     *
+     * @param out    The stream to write the configuration to.
+     * @param labels The labels of the chart.
+     * @param data   The data of every dataset, in the order of the datasets.
+     * @throws IOException If the stream throws an exception while writing.
+     */
+    public void writeTo(OutputStream out, List<String> labels, double[]... data) throws IOException {
+        writeTo(out, labels, (Object[]) data);
+    }
+
+    /**
+     * Writes the chart configuration as UTF-8 into the stream and flushes it afterwards. The stream is not closed.
+     *
+     * @param out    The stream to write the configuration to.
+     * @param labels The labels of the chart.
+     * @param data   The data of every dataset, in the order of the datasets.
+     * @throws IOException If the stream throws an exception while writing.
+     */
+    public void writeTo(OutputStream out, List<String> labels, List<? extends List<?>> data) throws IOException {
+        writeTo(out, labels, data.toArray());
+    }
+
+    private String render(List<String> labels, Object[] data) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            write(builder, null, labels, data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    private void writeTo(OutputStream out, List<String> labels, Object[] data) throws IOException {
+        Utf8Output output = Utf8Output.to(out);
+        try {
+            write(output, output, labels, data);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        output.flush();
+    }
+
+    /**
+     * Writes the segments and fills the holes between them.
+     *
+     * @param out   The output to write the holes to, and the segments if no encoded output is given.
+     * @param bytes If not <code>null</code>, the output to write the encoded segments to.
+     */
+    private void write(Appendable out, Utf8Output bytes, List<String> labels, Object[] data) throws IOException {
+        if (data.length != getDatasetCount()) {
+            throw new IllegalArgumentException("Expected data for " + getDatasetCount() + " datasets, got " + data.length);
+        }
+        JsonWriter writer = new JsonWriter(out).setDecimalPrecision(decimalPrecision);
+        for (int i = 0; i < segments.length; i++) {
+            if (bytes != null) bytes.write(encodedSegments[i]);
+            else out.append(segments[i]);
+
+            if (i == 0) {
+                writer.value(labels == null ? Collections.emptyList() : labels);
+            } else if (i <= data.length) {
+                writeData(writer, data[i - 1]);
+            }
+        }
+    }
+
+    private static void writeData(JsonWriter writer, Object data) {
+        if (data instanceof double[]) {
+            writer.beginArray();
+            for (double value : (double[]) data) {
+                writer.value(value);
+            }
+            writer.endArray();
+        } else if (data == null) {
+            writer.beginArray().endArray();
+        } else {
+            writer.value(data);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package de.yanwittmann.j2chartjs.chart;
+
+import org.json.JSONArray;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits built chart configurations into their elements without fully parsing them, since the configurations may
+ * contain JavaScript functions that are not valid JSON.
+ */
+final class ConfigurationScanner {
+
+    private ConfigurationScanner() {
+    }
+
+    /**
+     * Splits an object into its keys and the raw text of their values.
+     */
+    static Map<String, String> parseObject(String object) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (String property : splitElements(object)) {
+            int separator = skip(property, 0);
+            String key = property.substring(0, separator);
+            properties.put(unquote(key), property.substring(property.indexOf(':', separator) + 1).trim());
+        }
+        return properties;
+    }
+
+    /**
+     * Splits an array or object into the raw text of its elements. Nested arrays, objects, function calls and string
+     * literals are skipped, so that JavaScript functions in the configuration are kept intact.
+     */
+    static List<String> splitElements(String container) {
+        List<String> elements = new ArrayList<>();
+        int end = container.lastIndexOf(container.charAt(0) == '{' ? '}' : ']');
+        int start = 1;
+        int position = 1;
+        while (position < end) {
+            char c = container.charAt(position);
+            if (c == ',') {
+                elements.add(container.substring(start, position).trim());
+                start = ++position;
+            } else {
+                position = skip(container, position);
+            }
+        }
+        String last = container.substring(start, end).trim();
+        if (!last.isEmpty() || !elements.isEmpty()) elements.add(last);
+        return elements;
+    }
+
+    /**
+     * @return The position after the token starting at the given position.
+     */
+    static int skip(String text, int position) {
+        char c = text.charAt(position);
+        if (c == '"' || c == '\'') {
+            position++;
+            while (position < text.length() && text.charAt(position) != c) {
+                if (text.charAt(position) == '\\') position++;
+                position++;
+            }
+            return position + 1;
+        }
+        if (c == '[' || c == '{' || c == '(') {
+            int depth = 0;
+            do {
+                c = text.charAt(position);
+                if (c == '"' || c == '\'') {
+                    position = skip(text, position);
+                    continue;
+                }
+                if (c == '[' || c == '{' || c == '(') depth++;
+                else if (c == ']' || c == '}' || c == ')') depth--;
+                position++;
+            } while (depth > 0 && position < text.length());
+            return position;
+        }
+        return position + 1;
+    }
+
+    static String unquote(String key) {
+        if (key.indexOf('\\') == -1) return key.substring(1, key.length() - 1);
+        return new JSONArray("[" + key + "]").getString(0);
+    }
+}
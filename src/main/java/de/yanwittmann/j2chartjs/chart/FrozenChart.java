@@ -0,0 +1,114 @@
+package de.yanwittmann.j2chartjs.chart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * An immutable snapshot of a chart configuration, created using {@link Chart#freeze()} or {@link MixedChart#freeze()}.
+ * The configuration is serialized once when freezing the chart and stored both as text and as UTF-8 encoded bytes,
+ * together with their CRC32 checksum. Later modifications of the chart do not affect the snapshot.<br>
+ * A frozen chart can be cached and served by many threads concurrently without locking and without serializing the
+ * chart again.
+ */
+public final class FrozenChart {
+
+    private final String configuration;
+    private final byte[] bytes;
+    private final long checksum;
+
+    FrozenChart(String configuration) {
+        this.configuration = configuration;
+        this.bytes = configuration.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        this.checksum = crc.getValue();
+    }
+
+    /**
+     * @return The chart configuration, identical to the result of {@link Chart#build()} at the time of freezing.
+     */
+    public String build() {
+        return configuration;
+    }
+
+    public void build(Appendable out) throws IOException {
+        out.append(configuration);
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(configuration);
+        writer.flush();
+    }
+
+    /**
+     * Writes the UTF-8 encoded configuration into the stream and flushes it afterwards. The stream is not closed.
+     *
+     * @param out The stream to write the configuration to.
+     * @throws IOException If the stream throws an exception while writing.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+        out.flush();
+    }
+
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = asByteBuffer();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @param buffer The buffer to put the UTF-8 encoded configuration into.
+     * @throws java.nio.BufferOverflowException If the buffer does not have enough space remaining.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(bytes);
+    }
+
+    /**
+     * @return A read-only view of the UTF-8 encoded configuration.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return The length of the UTF-8 encoded configuration in bytes, for example for a <code>Content-Length</code>
+     * header.
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+    /**
+     * @return The CRC32 checksum of the UTF-8 encoded configuration, computed when freezing the chart.
+     * @see Chart#checksum()
+     */
+    public long checksum() {
+        return checksum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FrozenChart)) return false;
+        FrozenChart other = (FrozenChart) o;
+        return checksum == other.checksum && configuration.equals(other.configuration);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (checksum ^ (checksum >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return configuration;
+    }
+}
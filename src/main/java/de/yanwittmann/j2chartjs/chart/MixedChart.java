@@ -2,13 +2,27 @@ package de.yanwittmann.j2chartjs.chart;
 
 import de.yanwittmann.j2chartjs.data.MixedChartData;
 import de.yanwittmann.j2chartjs.options.ChartOptions;
-import de.yanwittmann.util.Util;
+import de.yanwittmann.util.DecimalFormatter;
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Utf8Output;
+import de.yanwittmann.util.Versions;
 import org.json.JSONObject;
 
-public class MixedChart {
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+public class MixedChart implements JsonWritable {
 
     protected MixedChartData chartData;
     protected ChartOptions chartOptions;
+    protected int decimalPrecision = 3;
 
     public MixedChart setChartData(MixedChartData chartData) {
         this.chartData = chartData;
@@ -28,15 +42,184 @@ public class MixedChart {
         return chartOptions;
     }
 
+    public int getDecimalPrecision() {
+        return decimalPrecision;
+    }
+
+    /**
+     * Sets the maximum amount of decimal places numbers are written with. Defaults to <code>3</code>.
+     *
+     * @param decimalPrecision The amount of decimal places, between <code>0</code> and {@link DecimalFormatter#MAX_PRECISION}.
+     * @return This instance to allow for API chaining.
+     */
+    public MixedChart setDecimalPrecision(int decimalPrecision) {
+        this.decimalPrecision = DecimalFormatter.checkPrecision(decimalPrecision);
+        return this;
+    }
+
+    /**
+     * Resets the chart data and chart options of this chart to reuse them for another chart without allocating new
+     * instances. Both stay part of this chart. Datasets and nested options are removed but not reset, so that
+     * instances kept by the caller can be reset and added again. The configuration can then be built into a reused
+     * buffer using {@link #build(Appendable)}.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    public MixedChart reset() {
+        if (chartData != null) chartData.reset();
+        if (chartOptions != null) chartOptions.reset();
+        return this;
+    }
+
+    protected JsonWriter createJsonWriter(Appendable out) {
+        return new JsonWriter(out).setDecimalPrecision(decimalPrecision);
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject()
+                .property("data", chartData)
+                .property("options", chartOptions)
+                .endObject();
+    }
+
     public JSONObject toJson() {
-        JSONObject chartDefinition = new JSONObject();
-        if (chartData != null) Util.addToJson(chartDefinition, "data", chartData);
-        if (chartOptions != null) Util.addToJson(chartDefinition, "options", chartOptions);
-        return chartDefinition;
+        return new JSONObject(JsonWriter.serialize(this::writeJson));
+    }
+
+    /**
+     * Streams the chart configuration into the given output without building the complete configuration in memory
+     * first.
+     *
+     * @param out The output to append the configuration to.
+     * @throws IOException If the output throws an exception while writing.
+     */
+    public void build(Appendable out) throws IOException {
+        try {
+            writeJson(createJsonWriter(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Streams the chart configuration into the given writer and flushes it afterwards.
+     *
+     * @param writer The writer to write the configuration to.
+     * @throws IOException If the writer throws an exception while writing.
+     * @see #build(Appendable)
+     */
+    public void writeTo(Writer writer) throws IOException {
+        build(writer);
+        writer.flush();
+    }
+
+    /**
+     * Encodes the chart configuration as UTF-8 while streaming it into the given output stream and flushes it
+     * afterwards. The stream is not closed.
+     *
+     * @param out The stream to write the configuration to.
+     * @throws IOException If the stream throws an exception while writing.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        Utf8Output output = Utf8Output.to(out);
+        build(output);
+        output.flush();
+    }
+
+    /**
+     * Encodes the chart configuration as UTF-8 while streaming it into the given channel. The channel is not closed.
+     *
+     * @param channel The channel to write the configuration to.
+     * @throws IOException If the channel throws an exception while writing.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        Utf8Output output = Utf8Output.to(channel);
+        build(output);
+        output.flush();
+    }
+
+    /**
+     * Encodes the chart configuration as UTF-8 directly into the given buffer, starting at its current position.
+     *
+     * @param buffer The buffer to write the configuration to.
+     * @throws java.nio.BufferOverflowException If the remaining space in the buffer is not sufficient.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        try {
+            Utf8Output output = Utf8Output.into(buffer);
+            build(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes the chart configuration as UTF-8 while streaming it into the given output stream and flushes it
+     * afterwards. The checksum is updated with the written bytes, so that it can be sent as <code>ETag</code> without
+     * hashing the configuration separately. The stream is not closed.
+     *
+     * @param out      The stream to write the configuration to.
+     * @param checksum The checksum to update, for example a {@link CRC32}.
+     * @throws IOException If the stream throws an exception while writing.
+     */
+    public void writeTo(OutputStream out, Checksum checksum) throws IOException {
+        Utf8Output output = Utf8Output.to(out).setChecksum(checksum);
+        build(output);
+        output.flush();
+    }
+
+    /**
+     * Computes the CRC32 checksum of the UTF-8 encoded chart configuration without building it in memory.
+     *
+     * @return The checksum.
+     * @see #writeTo(OutputStream, Checksum)
+     */
+    public long checksum() {
+        CRC32 checksum = new CRC32();
+        try {
+            Utf8Output output = Utf8Output.checksum(checksum);
+            build(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Serializes the chart into an immutable snapshot that can be shared between threads and served repeatedly
+     * without serializing the chart again. Later modifications of this chart do not affect the snapshot.
+     *
+     * @return The snapshot.
+     */
+    public FrozenChart freeze() {
+        return new FrozenChart(toString());
+    }
+
+    /**
+     * Combines the versions of the chart data, the datasets, the data reductions and the options into a value that
+     * changes whenever any of them is modified through their methods, without serializing the chart. Only the options
+     * are serialized, if they were modified since they were last serialized.<br>
+     * The fingerprint can be used as weak <code>ETag</code> that is valid while the application is running, since the
+     * versions are unique within the application. Modifications of lists returned by getters are only detected after
+     * calling <code>invalidate()</code> on the modified element.
+     *
+     * @return The fingerprint.
+     */
+    public long fingerprint() {
+        long fingerprint = Versions.mix(0, decimalPrecision);
+        JsonWriter writer = createJsonWriter(new StringBuilder(0));
+        fingerprint = Versions.mix(fingerprint, chartData == null ? 0 : chartData.fingerprint(writer));
+        fingerprint = Versions.mix(fingerprint, chartOptions == null ? 0 : chartOptions.fingerprint(writer));
+        return fingerprint;
     }
 
     @Override
     public String toString() {
-        return toJson().toString();
+        StringBuilder builder = new StringBuilder();
+        writeJson(createJsonWriter(builder));
+        return builder.toString();
     }
 }
@@ -2,9 +2,29 @@ package de.yanwittmann.j2chartjs.data;
 
 import de.yanwittmann.j2chartjs.dataset.BarChartDataset;
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
+import de.yanwittmann.j2chartjs.decimation.DataDecimation;
+import de.yanwittmann.j2chartjs.decimation.M4Decimation;
 import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 public class BarChartData extends ChartData<BarChartData, BarChartDataset, Number> {
+
+    public DataDecimation getDecimation() {
+        return decimation;
+    }
+
+    /**
+     * Reduces the amount of bars transferred to the browser while building the chart. The labels and the
+     * per-datapoint attributes of all datasets are reduced to the same datapoints. The data itself is not modified.
+     *
+     * @param decimation The decimation to apply, for example a {@link M4Decimation} to keep the extreme values.
+     *                   <code>null</code> to disable it.
+     * @return This instance to allow for API chaining.
+     */
+    public BarChartData setDecimation(DataDecimation decimation) {
+        this.decimation = decimation;
+        return modified();
+    }
+
     @Override
     public BarChartData applyDefaultStylePerDatapoint() {
         for (ChartDataset<BarChartDataset, Number> dataset : datasets) {
@@ -16,7 +36,7 @@ public class BarChartData extends ChartData<BarChartData, BarChartDataset, Numbe
                         .addBorderWidth(1);
             }
         }
-        return this;
+        return modified();
     }
 
     @Override
@@ -32,6 +52,6 @@ public class BarChartData extends ChartData<BarChartData, BarChartDataset, Numbe
                 colorIndex++;
             }
         }
-        return this;
+        return modified();
     }
 }
@@ -3,9 +3,55 @@ package de.yanwittmann.j2chartjs.data;
 import de.yanwittmann.j2chartjs.datapoint.BubbleChartDatapoint;
 import de.yanwittmann.j2chartjs.dataset.BubbleChartDataset;
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
+import de.yanwittmann.j2chartjs.decimation.BubbleClustering;
 import de.yanwittmann.j2chartjs.preset.ChartColors;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
+
+import java.util.function.Consumer;
 
 public class BubbleChartData extends ChartData<BubbleChartData, BubbleChartDataset, BubbleChartDatapoint> {
+
+    private BubbleClustering clustering;
+
+    public BubbleClustering getClustering() {
+        return clustering;
+    }
+
+    /**
+     * Merges bubbles that are close to each other while building the chart. The per-datapoint attributes of a merged
+     * bubble are taken from the first of its datapoints. The data itself is not modified.
+     *
+     * @param clustering The clustering to apply, <code>null</code> to disable it.
+     * @return This instance to allow for API chaining.
+     */
+    public BubbleChartData setClustering(BubbleClustering clustering) {
+        this.clustering = clustering;
+        return modified();
+    }
+
+    @Override
+    protected void writeDataset(JsonWriter writer, ChartDataset<BubbleChartDataset, BubbleChartDatapoint> dataset) {
+        BubbleClustering.Clusters clusters = clustering == null ? null : clustering.cluster(dataset.getData());
+        if (clusters == null) {
+            super.writeDataset(writer, dataset);
+            return;
+        }
+        int[] previousSelection = writer.getDatapointSelection();
+        Consumer<JsonWriter> previousReplacement = writer.getDataReplacement();
+        writer.setDatapointSelection(clusters.getSourceIndices()).setDataReplacement(clusters::writeJson);
+        try {
+            dataset.writeJson(writer);
+        } finally {
+            writer.setDatapointSelection(previousSelection).setDataReplacement(previousReplacement);
+        }
+    }
+
+    @Override
+    public long fingerprint(JsonWriter writer) {
+        return clustering == null ? super.fingerprint(writer) : Versions.mix(super.fingerprint(writer), clustering.getVersion());
+    }
+
     @Override
     public BubbleChartData applyDefaultStylePerDatapoint() {
         for (ChartDataset<BubbleChartDataset, BubbleChartDatapoint> dataset : datasets) {
@@ -15,7 +61,7 @@ public class BubbleChartData extends ChartData<BubbleChartData, BubbleChartDatas
                         .setBorderColor(ChartColors.BORDERS);
             }
         }
-        return this;
+        return modified();
     }
 
     @Override
@@ -29,6 +75,6 @@ public class BubbleChartData extends ChartData<BubbleChartData, BubbleChartDatas
                 colorIndex++;
             }
         }
-        return this;
+        return modified();
     }
 }
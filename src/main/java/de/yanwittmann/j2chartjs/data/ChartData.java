@@ -1,15 +1,20 @@
 package de.yanwittmann.j2chartjs.data;
 
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
-import org.json.JSONArray;
+import de.yanwittmann.j2chartjs.dataset.DatasetCache;
+import de.yanwittmann.j2chartjs.decimation.DataDecimation;
+import de.yanwittmann.util.DoubleSequence;
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.Executor;
 
 /**
  * @param <T>  Supertype of the <code>ChartData</code>
@@ -17,19 +22,24 @@ import java.util.stream.IntStream;
  * @param <D>  Datatype of the <code>ChartDataset</code>
  */
 @SuppressWarnings("unchecked")
-public abstract class ChartData<T, DT, D> {
+public abstract class ChartData<T, DT, D> implements JsonWritable {
 
     protected List<String> labels = new ArrayList<>();
     protected List<ChartDataset<DT, D>> datasets = new ArrayList<>();
+    protected DataDecimation decimation;
+    protected Executor serializationExecutor;
+    protected DatasetCache datasetCache;
+    protected LabelPool labelPool;
+    private volatile long version = Versions.next();
 
     public T addDataset(ChartDataset<DT, D>... datasets) {
         this.datasets.addAll(Arrays.asList(datasets));
-        return (T) this;
+        return modified();
     }
 
     public T removeDataset(ChartDataset<DT, D> dataset) {
         datasets.remove(dataset);
-        return (T) this;
+        return modified();
     }
 
     public List<ChartDataset<DT, D>> getDatasets() {
@@ -38,48 +48,217 @@ public abstract class ChartData<T, DT, D> {
 
     public T setLabels(Collection<String> labels) {
         this.labels.clear();
-        if (labels != null) this.labels.addAll(labels);
-        return (T) this;
+        if (labels != null) addPooled(labels);
+        return modified();
     }
 
     public T setLabels(String... labels) {
         this.labels.clear();
-        this.labels.addAll(Arrays.asList(labels));
-        return (T) this;
+        addPooled(Arrays.asList(labels));
+        return modified();
     }
 
     public T addLabels(Collection<String> labels) {
-        this.labels.addAll(labels);
-        return (T) this;
+        addPooled(labels);
+        return modified();
     }
 
     public T addLabels(String... labels) {
-        this.labels.addAll(Arrays.asList(labels));
-        return (T) this;
+        addPooled(Arrays.asList(labels));
+        return modified();
+    }
+
+    private void addPooled(Collection<String> labels) {
+        if (labelPool == null) {
+            this.labels.addAll(labels);
+        } else {
+            for (String label : labels) {
+                this.labels.add(labelPool.intern(label));
+            }
+        }
     }
 
     public List<String> getLabels() {
         return labels;
     }
 
-    public JSONObject toJson() {
-        JSONObject chartData = new JSONObject();
-        int requiredLabels = datasets.stream().mapToInt(d -> d.getData().size()).max().orElse(0);
-        if (labels.size() >= requiredLabels) {
-            chartData.put("labels", labels);
-        } else {
-            List<String> completeLabels = new ArrayList<>(labels);
-            completeLabels.addAll(IntStream.range(labels.size(), requiredLabels).mapToObj(d -> "").collect(Collectors.toList()));
-            chartData.put("labels", completeLabels);
+    public LabelPool getLabelPool() {
+        return labelPool;
+    }
+
+    /**
+     * Interns the current and all labels added later using the pool, to keep labels shared by many charts only once
+     * in memory.
+     *
+     * @param labelPool The pool to intern the labels with, <code>null</code> to stop interning labels.
+     * @return This instance to allow for API chaining.
+     */
+    public T setLabelPool(LabelPool labelPool) {
+        this.labelPool = labelPool;
+        if (labelPool != null) labels.replaceAll(labelPool::intern);
+        return modified();
+    }
+
+    public DatasetCache getDatasetCache() {
+        return datasetCache;
+    }
+
+    /**
+     * Reuses the serialization of datasets that did not change since the chart was last built.
+     *
+     * @param datasetCache The cache to store the serialized datasets in, <code>null</code> to serialize the datasets
+     *                     on every build.
+     * @return This instance to allow for API chaining.
+     */
+    public T setDatasetCache(DatasetCache datasetCache) {
+        this.datasetCache = datasetCache;
+        return modified();
+    }
+
+    public Executor getSerializationExecutor() {
+        return serializationExecutor;
+    }
+
+    /**
+     * Serializes the datasets concurrently on the given executor when building the chart, for example a
+     * <code>ForkJoinPool</code>. The output is identical to serializing them one after another.
+     *
+     * @param serializationExecutor The executor to use, <code>null</code> to serialize the datasets on the building
+     *                              thread.
+     * @return This instance to allow for API chaining.
+     */
+    public T setSerializationExecutor(Executor serializationExecutor) {
+        this.serializationExecutor = serializationExecutor;
+        return modified();
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        int requiredLabels = 0;
+        for (ChartDataset<DT, D> dataset : datasets) {
+            requiredLabels = Math.max(requiredLabels, dataset.getData().size());
         }
+        int[] selection = selectDatapoints(requiredLabels);
+        writer.name("labels").beginArray();
+        writeLabels(writer, selection, requiredLabels);
+        writer.endArray();
         if (datasets != null) {
-            JSONArray chartDatasets = new JSONArray();
-            for (ChartDataset<DT, D> genericDataset : datasets) {
-                chartDatasets.put(genericDataset.toJson());
+            int[] previousSelection = writer.getDatapointSelection();
+            writer.setDatapointSelection(selection);
+            try {
+                writer.name("datasets").beginArray();
+                writer.values(datasets, this::writeDataset, serializationExecutor);
+                writer.endArray();
+            } finally {
+                writer.setDatapointSelection(previousSelection);
             }
-            chartData.put("datasets", chartDatasets);
         }
-        return chartData;
+        writer.endObject();
+    }
+
+    /**
+     * Writes the labels as array elements, padded with empty labels up to the amount of datapoints.
+     *
+     * @param writer         The writer to write the labels to.
+     * @param selection      The selected datapoints, <code>null</code> if all of them are written.
+     * @param requiredLabels The amount of datapoints of the largest dataset.
+     */
+    protected void writeLabels(JsonWriter writer, int[] selection, int requiredLabels) {
+        if (selection == null) {
+            for (String label : labels) {
+                writer.value(label);
+            }
+            for (int i = labels.size(); i < requiredLabels; i++) {
+                writer.value("");
+            }
+        } else {
+            for (int index : selection) {
+                writer.value(index < labels.size() ? labels.get(index) : "");
+            }
+        }
+    }
+
+    protected void writeDataset(JsonWriter writer, ChartDataset<DT, D> dataset) {
+        if (datasetCache != null) datasetCache.write(writer, dataset, null);
+        else dataset.writeJson(writer);
+    }
+
+    /**
+     * Combines the datapoints selected by the decimation for every dataset. Datasets that do not consist of numbers
+     * are kept completely.
+     *
+     * @param dataSize The amount of datapoints of the largest dataset.
+     * @return The ascending indices of the datapoints to keep, <code>null</code> if all of them are kept.
+     */
+    protected int[] selectDatapoints(int dataSize) {
+        if (decimation == null) return null;
+        BitSet selected = new BitSet(dataSize);
+        for (ChartDataset<DT, D> dataset : datasets) {
+            List<D> data = dataset.getData();
+            if (data instanceof DoubleSequence) {
+                decimation.select((DoubleSequence) data, selected);
+            } else {
+                selected.set(0, data.size());
+            }
+        }
+        if (selected.cardinality() >= dataSize) return null;
+        return selected.stream().toArray();
+    }
+
+    public JSONObject toJson() {
+        return new JSONObject(JsonWriter.serialize(this::writeJson));
+    }
+
+    /**
+     * @return A version that changes whenever the labels, datasets or settings of this chart data are modified through
+     * its methods.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Marks this chart data as modified. This has to be called after modifying a list returned by a getter, like
+     * {@link #getLabels()}.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    public T invalidate() {
+        return modified();
+    }
+
+    /**
+     * Removes the labels and datasets of this chart data to reuse it for another chart, keeping the capacity of the
+     * lists they are stored in. The datasets are not reset themselves. Settings like the dataset cache, the
+     * serialization executor, the decimation and the label pool are kept.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    public T reset() {
+        labels.clear();
+        datasets.clear();
+        return modified();
+    }
+
+    protected T modified() {
+        version = Versions.next();
+        return (T) this;
+    }
+
+    /**
+     * Combines the versions of this chart data, its datasets and the options nested in the datasets into a value that
+     * changes whenever any of them is modified, without serializing the datasets.
+     *
+     * @param writer A writer with the settings the chart data will be serialized with. Nothing is written into it.
+     * @return The fingerprint.
+     */
+    public long fingerprint(JsonWriter writer) {
+        long fingerprint = Versions.mix(version, datasets.size());
+        for (ChartDataset<DT, D> dataset : datasets) {
+            fingerprint = Versions.mix(fingerprint, dataset.fingerprint(writer));
+        }
+        return fingerprint;
     }
 
     public abstract T applyDefaultStylePerDatapoint();
@@ -2,9 +2,72 @@ package de.yanwittmann.j2chartjs.data;
 
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
 import de.yanwittmann.j2chartjs.dataset.DoughnutPieChartDataset;
+import de.yanwittmann.j2chartjs.decimation.SliceFolding;
 import de.yanwittmann.j2chartjs.preset.ChartColors;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 public class DoughnutPieChartData extends ChartData<DoughnutPieChartData, DoughnutPieChartDataset, Number> {
+
+    private SliceFolding sliceFolding;
+
+    public SliceFolding getSliceFolding() {
+        return sliceFolding;
+    }
+
+    /**
+     * Merges the smallest slices into a single slice while building the chart. The labels and the per-slice attributes
+     * of all datasets are reduced to the same slices. The data itself is not modified.
+     *
+     * @param sliceFolding The folding to apply, <code>null</code> to disable it.
+     * @return This instance to allow for API chaining.
+     */
+    public DoughnutPieChartData setSliceFolding(SliceFolding sliceFolding) {
+        this.sliceFolding = sliceFolding;
+        return modified();
+    }
+
+    @Override
+    protected int[] selectDatapoints(int dataSize) {
+        if (sliceFolding == null) return super.selectDatapoints(dataSize);
+        List<List<Number>> data = new ArrayList<>();
+        for (ChartDataset<DoughnutPieChartDataset, Number> dataset : datasets) {
+            data.add(dataset.getData());
+        }
+        return sliceFolding.select(data, Math.max(dataSize, labels.size()));
+    }
+
+    @Override
+    protected void writeLabels(JsonWriter writer, int[] selection, int requiredLabels) {
+        if (sliceFolding == null || selection == null) super.writeLabels(writer, selection, requiredLabels);
+        else sliceFolding.writeFoldedLabels(writer, labels, selection);
+    }
+
+    @Override
+    protected void writeDataset(JsonWriter writer, ChartDataset<DoughnutPieChartDataset, Number> dataset) {
+        int[] selection = writer.getDatapointSelection();
+        if (sliceFolding == null || selection == null) {
+            super.writeDataset(writer, dataset);
+            return;
+        }
+        Consumer<JsonWriter> previousReplacement = writer.getDataReplacement();
+        writer.setDataReplacement(w -> sliceFolding.writeFoldedData(w, dataset.getData(), selection));
+        try {
+            dataset.writeJson(writer);
+        } finally {
+            writer.setDataReplacement(previousReplacement);
+        }
+    }
+
+    @Override
+    public long fingerprint(JsonWriter writer) {
+        return sliceFolding == null ? super.fingerprint(writer) : Versions.mix(super.fingerprint(writer), sliceFolding.getVersion());
+    }
+
     @Override
     public DoughnutPieChartData applyDefaultStylePerDatapoint() {
         for (ChartDataset<DoughnutPieChartDataset, Number> dataset : datasets) {
@@ -14,7 +77,7 @@ public class DoughnutPieChartData extends ChartData<DoughnutPieChartData, Doughn
                         .setBorderColor(ChartColors.BORDERS);
             }
         }
-        return this;
+        return modified();
     }
 
     @Override
@@ -28,6 +91,6 @@ public class DoughnutPieChartData extends ChartData<DoughnutPieChartData, Doughn
                 colorIndex++;
             }
         }
-        return this;
+        return modified();
     }
 }
@@ -0,0 +1,66 @@
+package de.yanwittmann.j2chartjs.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns labels that are shared between many charts, like the timestamps of a dashboard, so that every distinct label
+ * is only kept once in memory. A pool can be set on multiple chart data instances using
+ * {@link ChartData#setLabelPool(LabelPool)} and {@link MixedChartData#setLabelPool(LabelPool)}.<br>
+ * The pool is bounded: once it holds the maximum amount of labels, it is cleared before the next new label is added,
+ * so that labels that are not used anymore, like the timestamps of a rolling window, do not accumulate. Labels that
+ * were interned before stay valid.<br>
+ * To also transfer labels shared by multiple charts only once, the charts can be emitted using a
+ * {@link de.yanwittmann.j2chartjs.chart.ChartPage}.
+ */
+public class LabelPool {
+
+    private final ConcurrentHashMap<String, String> labels = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates a pool holding up to <code>65536</code> labels.
+     */
+    public LabelPool() {
+        this(1 << 16);
+    }
+
+    /**
+     * @param maxSize The maximum amount of labels in this pool. If multiple threads add labels at the same time, the
+     *                pool may briefly hold slightly more labels.
+     */
+    public LabelPool(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("The pool has to hold at least one label: " + maxSize);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param label The label to intern.
+     * @return The pooled instance equal to the label, <code>null</code> if the label is <code>null</code>.
+     */
+    public String intern(String label) {
+        if (label == null) return null;
+        String pooled = labels.get(label);
+        if (pooled != null) return pooled;
+        if (labels.size() >= maxSize) labels.clear();
+        pooled = labels.putIfAbsent(label, label);
+        return pooled == null ? label : pooled;
+    }
+
+    /**
+     * @return The amount of distinct labels in this pool.
+     */
+    public int size() {
+        return labels.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all labels from this pool. Labels that were interned before stay valid.
+     */
+    public void clear() {
+        labels.clear();
+    }
+}
@@ -2,9 +2,52 @@ package de.yanwittmann.j2chartjs.data;
 
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
 import de.yanwittmann.j2chartjs.dataset.LineChartDataset;
+import de.yanwittmann.j2chartjs.decimation.DataDecimation;
+import de.yanwittmann.j2chartjs.decimation.LttbDecimation;
+import de.yanwittmann.j2chartjs.decimation.M4Decimation;
 import de.yanwittmann.j2chartjs.preset.ChartColors;
+import de.yanwittmann.util.RingList;
+
+import java.util.ArrayList;
 
 public class LineChartData extends ChartData<LineChartData, LineChartDataset, Number> {
+
+    public DataDecimation getDecimation() {
+        return decimation;
+    }
+
+    /**
+     * Reduces the amount of datapoints transferred to the browser while building the chart. The labels and the
+     * per-datapoint attributes of all datasets are reduced to the same datapoints. The data itself is not modified.
+     *
+     * @param decimation The decimation to apply, for example a {@link LttbDecimation} or a {@link M4Decimation}.
+     *                   <code>null</code> to disable it.
+     * @return This instance to allow for API chaining.
+     */
+    public LineChartData setDecimation(DataDecimation decimation) {
+        this.decimation = decimation;
+        return modified();
+    }
+
+    /**
+     * Keeps only the latest labels and datapoints of the chart, for example for live data: once the window is full,
+     * adding a label or datapoint removes the oldest one in constant time. The window is applied to the labels and to
+     * all datasets that are currently part of this chart data, see {@link LineChartDataset#setWindow(int)}.
+     *
+     * @param capacity The maximum amount of labels and datapoints, <code>0</code> to disable the window mode.
+     * @return This instance to allow for API chaining.
+     */
+    public LineChartData setWindow(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The window capacity must not be negative: " + capacity);
+        labels = capacity > 0 ? new RingList<>(capacity, labels) : new ArrayList<>(labels);
+        for (ChartDataset<LineChartDataset, Number> dataset : datasets) {
+            if (dataset instanceof LineChartDataset) {
+                ((LineChartDataset) dataset).setWindow(capacity);
+            }
+        }
+        return modified();
+    }
+
     @Override
     public LineChartData applyDefaultStylePerDatapoint() {
         return applyDefaultStylePerDataset();
@@ -22,6 +65,6 @@ public class LineChartData extends ChartData<LineChartData, LineChartDataset, Nu
                 colorIndex++;
             }
         }
-        return this;
+        return modified();
     }
 }
@@ -2,27 +2,34 @@ package de.yanwittmann.j2chartjs.data;
 
 import de.yanwittmann.j2chartjs.dataset.*;
 import de.yanwittmann.j2chartjs.preset.ChartColors;
-import org.json.JSONArray;
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
-public class MixedChartData {
+public class MixedChartData implements JsonWritable {
 
     private List<String> labels = new ArrayList<>();
     private List<ChartDataset> datasets = new ArrayList<>();
+    private Executor serializationExecutor;
+    private DatasetCache datasetCache;
+    private LabelPool labelPool;
+    private volatile long version = Versions.next();
 
     public MixedChartData addDataset(ChartDataset... dataset) {
         datasets.addAll(Arrays.asList(dataset));
-        return this;
+        return modified();
     }
 
     public MixedChartData removeDataset(ChartDataset dataset) {
         datasets.remove(dataset);
-        return this;
+        return modified();
     }
 
     public List<ChartDataset> getDatasets() {
@@ -31,55 +38,177 @@ public class MixedChartData {
 
     public MixedChartData setLabels(Collection<String> labels) {
         this.labels.clear();
-        if (labels != null) this.labels.addAll(labels);
-        return this;
+        if (labels != null) addPooled(labels);
+        return modified();
     }
 
     public MixedChartData addLabels(String... label) {
-        this.labels.addAll(Arrays.asList(label));
-        return this;
+        addPooled(Arrays.asList(label));
+        return modified();
+    }
+
+    private void addPooled(Collection<String> labels) {
+        if (labelPool == null) {
+            this.labels.addAll(labels);
+        } else {
+            for (String label : labels) {
+                this.labels.add(labelPool.intern(label));
+            }
+        }
     }
 
     public List<String> getLabels() {
         return labels;
     }
 
+    public LabelPool getLabelPool() {
+        return labelPool;
+    }
+
+    /**
+     * Interns the current and all labels added later using the pool, to keep labels shared by many charts only once
+     * in memory.
+     *
+     * @param labelPool The pool to intern the labels with, <code>null</code> to stop interning labels.
+     * @return This instance to allow for API chaining.
+     */
+    public MixedChartData setLabelPool(LabelPool labelPool) {
+        this.labelPool = labelPool;
+        if (labelPool != null) labels.replaceAll(labelPool::intern);
+        return modified();
+    }
+
+    public DatasetCache getDatasetCache() {
+        return datasetCache;
+    }
+
+    /**
+     * Reuses the serialization of datasets that did not change since the chart was last built.
+     *
+     * @param datasetCache The cache to store the serialized datasets in, <code>null</code> to serialize the datasets
+     *                     on every build.
+     * @return This instance to allow for API chaining.
+     */
+    public MixedChartData setDatasetCache(DatasetCache datasetCache) {
+        this.datasetCache = datasetCache;
+        return modified();
+    }
+
+    public Executor getSerializationExecutor() {
+        return serializationExecutor;
+    }
+
+    /**
+     * Serializes the datasets concurrently on the given executor when building the chart, for example a
+     * <code>ForkJoinPool</code>. The output is identical to serializing them one after another.
+     *
+     * @param serializationExecutor The executor to use, <code>null</code> to serialize the datasets on the building
+     *                              thread.
+     * @return This instance to allow for API chaining.
+     */
+    public MixedChartData setSerializationExecutor(Executor serializationExecutor) {
+        this.serializationExecutor = serializationExecutor;
+        return modified();
+    }
+
     public MixedChartData applyDefaultStylePerDatapoint() {
         datasets.forEach(ChartColors::applyDefaultStylePerDatapoint);
-        return this;
+        return modified();
     }
 
     public MixedChartData applyDefaultStylePerDataset() {
         datasets.forEach(ChartColors::applyDefaultStylePerDataset);
-        return this;
+        return modified();
     }
 
-    public JSONObject toJson() {
-        JSONObject chartData = new JSONObject();
-        chartData.put("labels", getLabels());
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject();
+        writer.property("labels", getLabels());
         if (datasets != null) {
-            JSONArray chartDatasets = new JSONArray();
-            for (ChartDataset genericDataset : datasets) {
-                JSONObject datasetJson = genericDataset.toJson();
-                if (genericDataset instanceof BarChartDataset) {
-                    datasetJson.put("type", "bar");
-                } else if (genericDataset instanceof BubbleChartDataset) {
-                    datasetJson.put("type", "bubble");
-                } else if (genericDataset instanceof DoughnutPieChartDataset) {
-                    datasetJson.put("type", "pie");
-                } else if (genericDataset instanceof LineChartDataset) {
-                    datasetJson.put("type", "line");
-                } else if (genericDataset instanceof PolarAreaChartDataset) {
-                    datasetJson.put("type", "polarArea");
-                } else if (genericDataset instanceof RadarChartDataset) {
-                    datasetJson.put("type", "radar");
-                } else if (genericDataset instanceof ScatterChartDataset) {
-                    datasetJson.put("type", "scatter");
-                }
-                chartDatasets.put(datasetJson);
-            }
-            chartData.put("datasets", chartDatasets);
+            writer.name("datasets").beginArray();
+            writer.values(datasets, this::writeDataset, serializationExecutor);
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
+    private void writeDataset(JsonWriter writer, ChartDataset dataset) {
+        if (datasetCache != null) datasetCache.write(writer, dataset, getTypeIdentifier(dataset));
+        else dataset.writeJson(writer, getTypeIdentifier(dataset));
+    }
+
+    public JSONObject toJson() {
+        return new JSONObject(JsonWriter.serialize(this::writeJson));
+    }
+
+    /**
+     * @return A version that changes whenever the labels or datasets of this chart data are modified through its
+     * methods.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Marks this chart data as modified. This has to be called after modifying a list returned by a getter, like
+     * {@link #getLabels()}.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    public MixedChartData invalidate() {
+        return modified();
+    }
+
+    /**
+     * Removes the labels and datasets of this chart data to reuse it for another chart, keeping the capacity of the
+     * lists they are stored in. The datasets are not reset themselves. Settings like the dataset cache, the
+     * serialization executor and the label pool are kept.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    public MixedChartData reset() {
+        labels.clear();
+        datasets.clear();
+        return modified();
+    }
+
+    private MixedChartData modified() {
+        version = Versions.next();
+        return this;
+    }
+
+    /**
+     * Combines the versions of this chart data, its datasets and the options nested in the datasets into a value that
+     * changes whenever any of them is modified, without serializing the datasets.
+     *
+     * @param writer A writer with the settings the chart data will be serialized with. Nothing is written into it.
+     * @return The fingerprint.
+     */
+    public long fingerprint(JsonWriter writer) {
+        long fingerprint = Versions.mix(version, datasets.size());
+        for (ChartDataset dataset : datasets) {
+            fingerprint = Versions.mix(fingerprint, dataset.fingerprint(writer));
+        }
+        return fingerprint;
+    }
+
+    private static String getTypeIdentifier(ChartDataset dataset) {
+        if (dataset instanceof BarChartDataset) {
+            return "bar";
+        } else if (dataset instanceof BubbleChartDataset) {
+            return "bubble";
+        } else if (dataset instanceof DoughnutPieChartDataset) {
+            return "pie";
+        } else if (dataset instanceof LineChartDataset) {
+            return "line";
+        } else if (dataset instanceof PolarAreaChartDataset) {
+            return "polarArea";
+        } else if (dataset instanceof RadarChartDataset) {
+            return "radar";
+        } else if (dataset instanceof ScatterChartDataset) {
+            return "scatter";
         }
-        return chartData;
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -16,7 +16,7 @@ public class RadarChartData extends ChartData<RadarChartData, RadarChartDataset,
                 colorIndex++;
             }
         }
-        return this;
+        return modified();
     }
 
     @Override
@@ -30,6 +30,6 @@ public class RadarChartData extends ChartData<RadarChartData, RadarChartDataset,
                 colorIndex++;
             }
         }
-        return this;
+        return modified();
     }
 }
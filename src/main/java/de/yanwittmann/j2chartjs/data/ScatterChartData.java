@@ -15,7 +15,7 @@ public class ScatterChartData extends ChartData<ScatterChartData, ScatterChartDa
                         .setBorderColor(ChartColors.BORDERS);
             }
         }
-        return this;
+        return modified();
     }
 
     @Override
@@ -29,6 +29,6 @@ public class ScatterChartData extends ChartData<ScatterChartData, ScatterChartDa
                 colorIndex++;
             }
         }
-        return this;
+        return modified();
     }
 }
@@ -1,9 +1,10 @@
 package de.yanwittmann.j2chartjs.datapoint;
 
-import de.yanwittmann.util.Util;
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
 import org.json.JSONObject;
 
-public class BubbleChartDatapoint {
+public class BubbleChartDatapoint implements JsonWritable {
 
     private Number x;
     private Number y;
@@ -84,11 +85,16 @@ public class BubbleChartDatapoint {
         return this;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject()
+                .property("x", x)
+                .property("y", y)
+                .property("r", r)
+                .endObject();
+    }
+
     public JSONObject toJson() {
-        JSONObject datapointJson = new JSONObject();
-        Util.addToJson(datapointJson, "x", x);
-        Util.addToJson(datapointJson, "y", y);
-        Util.addToJson(datapointJson, "r", r);
-        return datapointJson;
+        return new JSONObject(JsonWriter.serialize(this::writeJson));
     }
 }
@@ -0,0 +1,212 @@
+package de.yanwittmann.j2chartjs.datapoint;
+
+import de.yanwittmann.util.DoubleList;
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Stores bubble datapoints column by column in parallel <code>double</code> arrays instead of one object per
+ * datapoint. A radius of <code>NaN</code> means that the datapoint has no radius. Used by a
+ * {@link de.yanwittmann.j2chartjs.dataset.BubbleChartDataset} once its data is set using
+ * <code>setXYR(double[], double[], double[])</code> or <code>setXY(double[], double[])</code>.<br>
+ * The datapoints returned by {@link #get(int)} are created on access and read and write the values at their index,
+ * which is not updated when datapoints are inserted or removed before them. Their values are always {@link Double}s.
+ */
+public class BubbleChartDatapointList extends AbstractList<BubbleChartDatapoint> implements RandomAccess, JsonWritable {
+
+    private final DoubleList x = new DoubleList();
+    private final DoubleList y = new DoubleList();
+    private final DoubleList r = new DoubleList();
+
+    public double getX(int index) {
+        return x.getDouble(index);
+    }
+
+    public double getY(int index) {
+        return y.getDouble(index);
+    }
+
+    public double getR(int index) {
+        return r.getDouble(index);
+    }
+
+    public void setXYR(int index, double x, double y, double r) {
+        this.x.setDouble(index, x);
+        this.y.setDouble(index, y);
+        this.r.setDouble(index, r);
+    }
+
+    public void addXYR(double x, double y, double r) {
+        this.x.addDouble(x);
+        this.y.addDouble(y);
+        this.r.addDouble(r);
+        modCount++;
+    }
+
+    /**
+     * Adds a datapoint for every triple of values in the arrays.
+     *
+     * @param x The x values.
+     * @param y The y values, has to be of the same length as the x values.
+     * @param r The radius values, has to be of the same length as the x values. If <code>null</code>, the datapoints
+     *          will not have a radius.
+     */
+    public void addAll(double[] x, double[] y, double[] r) {
+        if (x.length != y.length || (r != null && x.length != r.length)) {
+            throw new IllegalArgumentException("x, y and r values have to be of the same length: " + x.length + ", " + y.length + ", " + (r == null ? x.length : r.length));
+        }
+        this.x.addAll(x);
+        this.y.addAll(y);
+        if (r != null) {
+            this.r.addAll(r);
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                this.r.addDouble(Double.NaN);
+            }
+        }
+        modCount++;
+    }
+
+    @Override
+    public BubbleChartDatapoint get(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return new ColumnDatapoint(index);
+    }
+
+    /**
+     * @return A datapoint with the values at the index that is independent of the list.
+     */
+    private BubbleChartDatapoint copyOf(int index) {
+        BubbleChartDatapoint datapoint = new BubbleChartDatapoint(x.getDouble(index), y.getDouble(index));
+        double radius = r.getDouble(index);
+        if (!Double.isNaN(radius)) datapoint.setR(radius);
+        return datapoint;
+    }
+
+    @Override
+    public BubbleChartDatapoint set(int index, BubbleChartDatapoint element) {
+        BubbleChartDatapoint previous = copyOf(index);
+        x.set(index, element.getX());
+        y.set(index, element.getY());
+        r.set(index, element.getR());
+        return previous;
+    }
+
+    @Override
+    public void add(int index, BubbleChartDatapoint element) {
+        x.add(index, element.getX());
+        y.add(index, element.getY());
+        r.add(index, element.getR());
+        modCount++;
+    }
+
+    @Override
+    public BubbleChartDatapoint remove(int index) {
+        BubbleChartDatapoint previous = copyOf(index);
+        x.remove(index);
+        y.remove(index);
+        r.remove(index);
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        x.clear();
+        y.clear();
+        r.clear();
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return x.size();
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginArray();
+        for (int i = 0; i < x.size(); i++) {
+            writer.beginObject()
+                    .name("x").value(x.getDouble(i))
+                    .name("y").value(y.getDouble(i));
+            double radius = r.getDouble(i);
+            if (!Double.isNaN(radius)) writer.name("r").value(radius);
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    /**
+     * A datapoint that reads and writes its values from and to the columns of the list.
+     */
+    private class ColumnDatapoint extends BubbleChartDatapoint {
+        private final int index;
+
+        private ColumnDatapoint(int index) {
+            super(0, 0);
+            this.index = index;
+        }
+
+        @Override
+        public Number getX() {
+            return x.getDouble(index);
+        }
+
+        @Override
+        public BubbleChartDatapoint setX(int x) {
+            return setX((double) x);
+        }
+
+        @Override
+        public BubbleChartDatapoint setX(double x) {
+            BubbleChartDatapointList.this.x.setDouble(index, x);
+            return this;
+        }
+
+        @Override
+        public Number getY() {
+            return y.getDouble(index);
+        }
+
+        @Override
+        public BubbleChartDatapoint setY(int y) {
+            return setY((double) y);
+        }
+
+        @Override
+        public BubbleChartDatapoint setY(double y) {
+            BubbleChartDatapointList.this.y.setDouble(index, y);
+            return this;
+        }
+
+        @Override
+        public Number getR() {
+            double radius = r.getDouble(index);
+            return Double.isNaN(radius) ? null : radius;
+        }
+
+        @Override
+        public BubbleChartDatapoint setR(int r) {
+            return setR((double) r);
+        }
+
+        @Override
+        public BubbleChartDatapoint setR(double r) {
+            BubbleChartDatapointList.this.r.setDouble(index, r);
+            return this;
+        }
+
+        @Override
+        public void writeJson(JsonWriter writer) {
+            writer.beginObject()
+                    .property("x", getX())
+                    .property("y", getY())
+                    .property("r", getR())
+                    .endObject();
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package de.yanwittmann.j2chartjs.datapoint;
 
-import de.yanwittmann.util.Util;
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
 import org.json.JSONObject;
 
-public class ScatterChartDatapoint {
+public class ScatterChartDatapoint implements JsonWritable {
 
     private Number x;
     private Number y;
@@ -51,10 +52,15 @@ public class ScatterChartDatapoint {
         return this;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginObject()
+                .property("x", x)
+                .property("y", y)
+                .endObject();
+    }
+
     public JSONObject toJson() {
-        JSONObject datapointJson = new JSONObject();
-        Util.addToJson(datapointJson, "x", x);
-        Util.addToJson(datapointJson, "y", y);
-        return datapointJson;
+        return new JSONObject(JsonWriter.serialize(this::writeJson));
     }
 }
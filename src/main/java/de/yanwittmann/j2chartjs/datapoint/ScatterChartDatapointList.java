@@ -0,0 +1,162 @@
+package de.yanwittmann.j2chartjs.datapoint;
+
+import de.yanwittmann.util.DoubleList;
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Stores scatter datapoints column by column in parallel <code>double</code> arrays instead of one object per
+ * datapoint. Used by a {@link de.yanwittmann.j2chartjs.dataset.ScatterChartDataset} once its data is set using
+ * <code>setXY(double[], double[])</code>.<br>
+ * The datapoints returned by {@link #get(int)} are created on access and read and write the values at their index,
+ * which is not updated when datapoints are inserted or removed before them. Their coordinates are always
+ * {@link Double}s.
+ */
+public class ScatterChartDatapointList extends AbstractList<ScatterChartDatapoint> implements RandomAccess, JsonWritable {
+
+    private final DoubleList x = new DoubleList();
+    private final DoubleList y = new DoubleList();
+
+    public double getX(int index) {
+        return x.getDouble(index);
+    }
+
+    public double getY(int index) {
+        return y.getDouble(index);
+    }
+
+    public void setXY(int index, double x, double y) {
+        this.x.setDouble(index, x);
+        this.y.setDouble(index, y);
+    }
+
+    public void addXY(double x, double y) {
+        this.x.addDouble(x);
+        this.y.addDouble(y);
+        modCount++;
+    }
+
+    /**
+     * Adds a datapoint for every pair of values in the arrays.
+     *
+     * @param x The x values.
+     * @param y The y values, has to be of the same length as the x values.
+     */
+    public void addAll(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y values have to be of the same length: " + x.length + " != " + y.length);
+        }
+        this.x.addAll(x);
+        this.y.addAll(y);
+        modCount++;
+    }
+
+    @Override
+    public ScatterChartDatapoint get(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return new ColumnDatapoint(index);
+    }
+
+    @Override
+    public ScatterChartDatapoint set(int index, ScatterChartDatapoint element) {
+        ScatterChartDatapoint previous = new ScatterChartDatapoint(x.getDouble(index), y.getDouble(index));
+        x.set(index, element.getX());
+        y.set(index, element.getY());
+        return previous;
+    }
+
+    @Override
+    public void add(int index, ScatterChartDatapoint element) {
+        x.add(index, element.getX());
+        y.add(index, element.getY());
+        modCount++;
+    }
+
+    @Override
+    public ScatterChartDatapoint remove(int index) {
+        ScatterChartDatapoint previous = new ScatterChartDatapoint(x.getDouble(index), y.getDouble(index));
+        x.remove(index);
+        y.remove(index);
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        x.clear();
+        y.clear();
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return x.size();
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.beginArray();
+        for (int i = 0; i < x.size(); i++) {
+            writer.beginObject()
+                    .name("x").value(x.getDouble(i))
+                    .name("y").value(y.getDouble(i))
+                    .endObject();
+        }
+        writer.endArray();
+    }
+
+    /**
+     * A datapoint that reads and writes its coordinates from and to the columns of the list.
+     */
+    private class ColumnDatapoint extends ScatterChartDatapoint {
+        private final int index;
+
+        private ColumnDatapoint(int index) {
+            super(0, 0);
+            this.index = index;
+        }
+
+        @Override
+        public Number getX() {
+            return x.getDouble(index);
+        }
+
+        @Override
+        public ScatterChartDatapoint setX(int x) {
+            return setX((double) x);
+        }
+
+        @Override
+        public ScatterChartDatapoint setX(double x) {
+            ScatterChartDatapointList.this.x.setDouble(index, x);
+            return this;
+        }
+
+        @Override
+        public Number getY() {
+            return y.getDouble(index);
+        }
+
+        @Override
+        public ScatterChartDatapoint setY(int y) {
+            return setY((double) y);
+        }
+
+        @Override
+        public ScatterChartDatapoint setY(double y) {
+            ScatterChartDatapointList.this.y.setDouble(index, y);
+            return this;
+        }
+
+        @Override
+        public void writeJson(JsonWriter writer) {
+            writer.beginObject()
+                    .property("x", getX())
+                    .property("y", getY())
+                    .endObject();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package de.yanwittmann.j2chartjs.dataset;
 
+import de.yanwittmann.util.DoubleList;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.MappedDoubleList;
 import de.yanwittmann.util.Util;
-import org.json.JSONObject;
 
 import java.awt.*;
 import java.util.Arrays;
@@ -34,13 +36,68 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
     private List<Number> hoverBorderRadius = null;
     private List<String> hoverBorderSkipped = null;
 
+    public BarChartDataset() {
+        super(new DoubleList());
+    }
+
+    /**
+     * Replaces the data of this dataset with the given values without boxing them. <code>NaN</code> values are
+     * written as <code>null</code>.
+     *
+     * @param data The new values.
+     * @return This instance to allow for API chaining.
+     */
+    public BarChartDataset setData(double[] data) {
+        clearData();
+        modifiableData().addAll(data);
+        return modified();
+    }
+
+    /**
+     * Adds a value to the data of this dataset without boxing it. <code>NaN</code> is written as <code>null</code>.
+     *
+     * @param value The value to add.
+     * @return This instance to allow for API chaining.
+     */
+    public BarChartDataset addData(double value) {
+        modifiableData().addDouble(value);
+        return modified();
+    }
+
+    /**
+     * Uses the values of the mapped file region as data of this dataset without copying them onto the heap. They are
+     * only read while the chart is being built.<br>
+     * The mapped data is read-only, so data cannot be added to it. Setting or clearing the data replaces it with
+     * regular data again.
+     *
+     * @param source The mapped values.
+     * @return This instance to allow for API chaining.
+     */
+    public BarChartDataset setDataSource(MappedDoubleList source) {
+        this.data = source;
+        return modified();
+    }
+
+    @Override
+    public BarChartDataset clearData() {
+        if (!(data instanceof DoubleList)) data = new DoubleList();
+        return super.clearData();
+    }
+
+    private DoubleList modifiableData() {
+        if (!(data instanceof DoubleList)) {
+            throw new UnsupportedOperationException("The data of this dataset is read-only, use setData or clearData to replace it");
+        }
+        return (DoubleList) data;
+    }
+
     public String getLabel() {
         return label;
     }
 
     public BarChartDataset setLabel(String label) {
         this.label = label;
-        return this;
+        return modified();
     }
 
     public String getxAxisID() {
@@ -49,7 +106,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setxAxisID(String xAxisID) {
         this.xAxisID = xAxisID;
-        return this;
+        return modified();
     }
 
     public String getyAxisID() {
@@ -58,7 +115,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setyAxisID(String yAxisID) {
         this.yAxisID = yAxisID;
-        return this;
+        return modified();
     }
 
     public String getStack() {
@@ -67,7 +124,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setStack(String stack) {
         this.stack = stack;
-        return this;
+        return modified();
     }
 
     public String getIndexAxis() {
@@ -76,7 +133,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setIndexAxis(String indexAxis) {
         this.indexAxis = indexAxis;
-        return this;
+        return modified();
     }
 
     public Number getBase() {
@@ -85,17 +142,17 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBase(int base) {
         this.base = base;
-        return this;
+        return modified();
     }
 
     public BarChartDataset setBase(double base) {
         this.base = base;
-        return this;
+        return modified();
     }
 
     public BarChartDataset setBase(Number base) {
         this.base = base;
-        return this;
+        return modified();
     }
 
     public Number getBarPercentage() {
@@ -104,17 +161,17 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBarPercentage(Number barPercentage) {
         this.barPercentage = barPercentage;
-        return this;
+        return modified();
     }
 
     public BarChartDataset setBarPercentage(int barPercentage) {
         this.barPercentage = barPercentage;
-        return this;
+        return modified();
     }
 
     public BarChartDataset setBarPercentage(double barPercentage) {
         this.barPercentage = barPercentage;
-        return this;
+        return modified();
     }
 
     public Number getBarThickness() {
@@ -123,7 +180,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBarThickness(Number barThickness) {
         this.barThickness = barThickness;
-        return this;
+        return modified();
     }
 
     public Number getCategoryPercentage() {
@@ -132,7 +189,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setCategoryPercentage(Number categoryPercentage) {
         this.categoryPercentage = categoryPercentage;
-        return this;
+        return modified();
     }
 
     public Number getMinBarLength() {
@@ -141,17 +198,17 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setMinBarLength(Number minBarLength) {
         this.minBarLength = minBarLength;
-        return this;
+        return modified();
     }
 
     public BarChartDataset setMinBarLength(int minBarLength) {
         this.minBarLength = minBarLength;
-        return this;
+        return modified();
     }
 
     public BarChartDataset setMinBarLength(double minBarLength) {
         this.minBarLength = minBarLength;
-        return this;
+        return modified();
     }
 
     public Boolean getGrouped() {
@@ -160,7 +217,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setGrouped(Boolean grouped) {
         this.grouped = grouped;
-        return this;
+        return modified();
     }
 
     public Boolean getSkipNull() {
@@ -169,7 +226,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setSkipNull(Boolean skipNull) {
         this.skipNull = skipNull;
-        return this;
+        return modified();
     }
 
     public List<Color> getBackgroundColor() {
@@ -178,7 +235,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBackgroundColor(List<Color> backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getBorderColor() {
@@ -187,7 +244,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBorderColor(List<Color> borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getBorderWidth() {
@@ -196,7 +253,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBorderWidth(List<Number> borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getBorderRadius() {
@@ -205,7 +262,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBorderRadius(List<Number> borderRadius) {
         this.borderRadius = borderRadius;
-        return this;
+        return modified();
     }
 
     public List<String> getBorderSkipped() {
@@ -214,7 +271,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setBorderSkipped(List<String> borderSkipped) {
         this.borderSkipped = borderSkipped;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBackgroundColor() {
@@ -223,7 +280,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setHoverBackgroundColor(List<Color> hoverBackgroundColor) {
         this.hoverBackgroundColor = hoverBackgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBorderColor() {
@@ -232,7 +289,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setHoverBorderColor(List<Color> hoverBorderColor) {
         this.hoverBorderColor = hoverBorderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverBorderWidth() {
@@ -241,7 +298,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setHoverBorderWidth(List<Number> hoverBorderWidth) {
         this.hoverBorderWidth = hoverBorderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverBorderRadius() {
@@ -250,7 +307,7 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setHoverBorderRadius(List<Number> hoverBorderRadius) {
         this.hoverBorderRadius = hoverBorderRadius;
-        return this;
+        return modified();
     }
 
     public List<String> getHoverBorderSkipped() {
@@ -259,95 +316,120 @@ public class BarChartDataset extends ChartDataset<BarChartDataset, Number> {
 
     public BarChartDataset setHoverBorderSkipped(List<String> hoverBorderSkipped) {
         this.hoverBorderSkipped = hoverBorderSkipped;
-        return this;
+        return modified();
     }
 
     public BarChartDataset addBackgroundColor(Color... colors) {
         backgroundColor = Util.initializeListIfNull(backgroundColor);
         backgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addBorderColor(Color... colors) {
         borderColor = Util.initializeListIfNull(borderColor);
         borderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addBorderWidth(Number... widths) {
         borderWidth = Util.initializeListIfNull(borderWidth);
         borderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addBorderRadius(Number... radiuses) {
         borderRadius = Util.initializeListIfNull(borderRadius);
         borderRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addBorderSkipped(String... edges) {
         borderSkipped = Util.initializeListIfNull(borderSkipped);
         borderSkipped.addAll(Arrays.asList(edges));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addHoverBackgroundColor(Color... colors) {
         hoverBackgroundColor = Util.initializeListIfNull(hoverBackgroundColor);
         hoverBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addHoverBorderColor(Color... colors) {
         hoverBorderColor = Util.initializeListIfNull(hoverBorderColor);
         hoverBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addHoverBorderWidth(Number... widths) {
         hoverBorderWidth = Util.initializeListIfNull(hoverBorderWidth);
         hoverBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addHoverBorderRadius(Number... radiuses) {
         hoverBorderRadius = Util.initializeListIfNull(hoverBorderRadius);
         hoverBorderRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public BarChartDataset addHoverBorderSkipped(String... edges) {
         hoverBorderSkipped = Util.initializeListIfNull(hoverBorderSkipped);
         hoverBorderSkipped.addAll(Arrays.asList(edges));
-        return this;
+        return modified();
+    }
+
+    @Override
+    public BarChartDataset reset() {
+        label = null;
+        xAxisID = null;
+        yAxisID = null;
+        stack = null;
+        indexAxis = null;
+        base = null;
+        barPercentage = null;
+        barThickness = null;
+        categoryPercentage = null;
+        minBarLength = null;
+        grouped = null;
+        skipNull = null;
+        backgroundColor = cleared(backgroundColor);
+        borderColor = cleared(borderColor);
+        borderWidth = cleared(borderWidth);
+        borderRadius = cleared(borderRadius);
+        borderSkipped = cleared(borderSkipped);
+        hoverBackgroundColor = cleared(hoverBackgroundColor);
+        hoverBorderColor = cleared(hoverBorderColor);
+        hoverBorderWidth = cleared(hoverBorderWidth);
+        hoverBorderRadius = cleared(hoverBorderRadius);
+        hoverBorderSkipped = cleared(hoverBorderSkipped);
+        return super.reset();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject datasetJson = new JSONObject();
-        Util.addToJson(datasetJson, "data", data);
-        Util.addToJson(datasetJson, "label", label);
-        Util.addToJson(datasetJson, "xAxisID", xAxisID);
-        Util.addToJson(datasetJson, "yAxisID", yAxisID);
-        Util.addToJson(datasetJson, "stack", stack);
-        Util.addToJson(datasetJson, "indexAxis", indexAxis);
-        Util.addToJson(datasetJson, "base", base);
-        Util.addToJson(datasetJson, "barPercentage", barPercentage);
-        Util.addToJson(datasetJson, "barThickness", barThickness);
-        Util.addToJson(datasetJson, "categoryPercentage", categoryPercentage);
-        Util.addToJson(datasetJson, "minBarLength", minBarLength);
-        Util.addToJson(datasetJson, "grouped", grouped);
-        Util.addToJson(datasetJson, "skipNull", skipNull);
-        Util.addToJson(datasetJson, "backgroundColor", backgroundColor);
-        Util.addToJson(datasetJson, "borderColor", borderColor);
-        Util.addToJson(datasetJson, "borderWidth", borderWidth);
-        Util.addToJson(datasetJson, "borderRadius", borderRadius);
-        Util.addToJson(datasetJson, "borderSkipped", borderSkipped);
-        Util.addToJson(datasetJson, "hoverBackgroundColor", hoverBackgroundColor);
-        Util.addToJson(datasetJson, "hoverBorderColor", hoverBorderColor);
-        Util.addToJson(datasetJson, "hoverBorderWidth", hoverBorderWidth);
-        Util.addToJson(datasetJson, "hoverBorderRadius", hoverBorderRadius);
-        Util.addToJson(datasetJson, "hoverBorderSkipped", hoverBorderSkipped);
-        return datasetJson;
+    protected void writeProperties(JsonWriter writer) {
+        writeDatapointProperty(writer, "data", data);
+        writer.property("label", label);
+        writer.property("xAxisID", xAxisID);
+        writer.property("yAxisID", yAxisID);
+        writer.property("stack", stack);
+        writer.property("indexAxis", indexAxis);
+        writer.property("base", base);
+        writer.property("barPercentage", barPercentage);
+        writer.property("barThickness", barThickness);
+        writer.property("categoryPercentage", categoryPercentage);
+        writer.property("minBarLength", minBarLength);
+        writer.property("grouped", grouped);
+        writer.property("skipNull", skipNull);
+        writeDatapointProperty(writer, "backgroundColor", backgroundColor);
+        writeDatapointProperty(writer, "borderColor", borderColor);
+        writeDatapointProperty(writer, "borderWidth", borderWidth);
+        writeDatapointProperty(writer, "borderRadius", borderRadius);
+        writeDatapointProperty(writer, "borderSkipped", borderSkipped);
+        writeDatapointProperty(writer, "hoverBackgroundColor", hoverBackgroundColor);
+        writeDatapointProperty(writer, "hoverBorderColor", hoverBorderColor);
+        writeDatapointProperty(writer, "hoverBorderWidth", hoverBorderWidth);
+        writeDatapointProperty(writer, "hoverBorderRadius", hoverBorderRadius);
+        writeDatapointProperty(writer, "hoverBorderSkipped", hoverBorderSkipped);
     }
 }
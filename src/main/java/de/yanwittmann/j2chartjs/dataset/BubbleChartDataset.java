@@ -1,13 +1,13 @@
 package de.yanwittmann.j2chartjs.dataset;
 
 import de.yanwittmann.j2chartjs.datapoint.BubbleChartDatapoint;
+import de.yanwittmann.j2chartjs.datapoint.BubbleChartDatapointList;
+import de.yanwittmann.util.JsonWriter;
 import de.yanwittmann.util.Util;
-import org.json.JSONObject;
 
 import java.awt.*;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("unchecked")
 public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleChartDatapoint> {
@@ -46,13 +46,59 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
      */
     private List<String> pointStyle = null;
 
+    /**
+     * Replaces the data of this dataset with a datapoint for every triple of values in the arrays, without creating a
+     * datapoint object for each of them. The data is stored in a {@link BubbleChartDatapointList} from then on.
+     *
+     * @param x The x values.
+     * @param y The y values, has to be of the same length as the x values.
+     * @param r The radius values, has to be of the same length as the x values.
+     * @return This instance to allow for API chaining.
+     */
+    public BubbleChartDataset setXYR(double[] x, double[] y, double[] r) {
+        columnarData().addAll(x, y, r);
+        return modified();
+    }
+
+    /**
+     * Replaces the data of this dataset with datapoints without a radius for every pair of values in the arrays. The
+     * data is stored in a {@link BubbleChartDatapointList} from then on.
+     *
+     * @param x The x values.
+     * @param y The y values, has to be of the same length as the x values.
+     * @return This instance to allow for API chaining.
+     */
+    public BubbleChartDataset setXY(double[] x, double[] y) {
+        columnarData().addAll(x, y, null);
+        return modified();
+    }
+
+    public BubbleChartDataset addXYR(double x, double y, double r) {
+        if (data instanceof BubbleChartDatapointList) {
+            ((BubbleChartDatapointList) data).addXYR(x, y, r);
+        } else {
+            data.add(new BubbleChartDatapoint(x, y, r));
+        }
+        return modified();
+    }
+
+    /**
+     * @return The data of this dataset after clearing it, stored in a {@link BubbleChartDatapointList}.
+     */
+    private BubbleChartDatapointList columnarData() {
+        BubbleChartDatapointList datapoints = data instanceof BubbleChartDatapointList ? (BubbleChartDatapointList) data : new BubbleChartDatapointList();
+        datapoints.clear();
+        data = datapoints;
+        return datapoints;
+    }
+
     public String getLabel() {
         return label;
     }
 
     public BubbleChartDataset setLabel(String label) {
         this.label = label;
-        return this;
+        return modified();
     }
 
     public String getxAxisID() {
@@ -61,7 +107,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setxAxisID(String xAxisID) {
         this.xAxisID = xAxisID;
-        return this;
+        return modified();
     }
 
     public String getyAxisID() {
@@ -70,7 +116,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setyAxisID(String yAxisID) {
         this.yAxisID = yAxisID;
-        return this;
+        return modified();
     }
 
     public List<Number> getRotation() {
@@ -79,7 +125,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setRotation(List<Number> rotation) {
         this.rotation = rotation;
-        return this;
+        return modified();
     }
 
     public List<String> getPointStyle() {
@@ -88,7 +134,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setPointStyle(List<String> pointStyle) {
         this.pointStyle = pointStyle;
-        return this;
+        return modified();
     }
 
     public List<Color> getBackgroundColor() {
@@ -97,7 +143,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setBackgroundColor(List<Color> backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getBorderColor() {
@@ -106,7 +152,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setBorderColor(List<Color> borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getBorderWidth() {
@@ -115,7 +161,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setBorderWidth(List<Number> borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getBorderRadius() {
@@ -124,7 +170,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setBorderRadius(List<Number> borderRadius) {
         this.borderRadius = borderRadius;
-        return this;
+        return modified();
     }
 
     public List<String> getBorderSkipped() {
@@ -133,7 +179,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setBorderSkipped(List<String> borderSkipped) {
         this.borderSkipped = borderSkipped;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBackgroundColor() {
@@ -142,7 +188,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setHoverBackgroundColor(List<Color> hoverBackgroundColor) {
         this.hoverBackgroundColor = hoverBackgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBorderColor() {
@@ -151,7 +197,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setHoverBorderColor(List<Color> hoverBorderColor) {
         this.hoverBorderColor = hoverBorderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverBorderWidth() {
@@ -160,7 +206,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setHoverBorderWidth(List<Number> hoverBorderWidth) {
         this.hoverBorderWidth = hoverBorderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverBorderRadius() {
@@ -169,7 +215,7 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setHoverBorderRadius(List<Number> hoverBorderRadius) {
         this.hoverBorderRadius = hoverBorderRadius;
-        return this;
+        return modified();
     }
 
     public List<String> getHoverBorderSkipped() {
@@ -178,100 +224,118 @@ public class BubbleChartDataset extends ChartDataset<BubbleChartDataset, BubbleC
 
     public BubbleChartDataset setHoverBorderSkipped(List<String> hoverBorderSkipped) {
         this.hoverBorderSkipped = hoverBorderSkipped;
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addBackgroundColor(Color... colors) {
         backgroundColor = Util.initializeListIfNull(backgroundColor);
         backgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addBorderColor(Color... colors) {
         borderColor = Util.initializeListIfNull(borderColor);
         borderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addBorderWidth(Number... widths) {
         borderWidth = Util.initializeListIfNull(borderWidth);
         borderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addBorderRadius(Number... radiuses) {
         borderRadius = Util.initializeListIfNull(borderRadius);
         borderRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addBorderSkipped(String... edges) {
         borderSkipped = Util.initializeListIfNull(borderSkipped);
         borderSkipped.addAll(Arrays.asList(edges));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addHoverBackgroundColor(Color... colors) {
         hoverBackgroundColor = Util.initializeListIfNull(hoverBackgroundColor);
         hoverBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addHoverBorderColor(Color... colors) {
         hoverBorderColor = Util.initializeListIfNull(hoverBorderColor);
         hoverBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addHoverBorderWidth(Number... widths) {
         hoverBorderWidth = Util.initializeListIfNull(hoverBorderWidth);
         hoverBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addHoverBorderRadius(Number... radiuses) {
         hoverBorderRadius = Util.initializeListIfNull(hoverBorderRadius);
         hoverBorderRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addHoverBorderSkipped(String... edges) {
         hoverBorderSkipped = Util.initializeListIfNull(hoverBorderSkipped);
         hoverBorderSkipped.addAll(Arrays.asList(edges));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addPointStyle(String... styles) {
         pointStyle = Util.initializeListIfNull(pointStyle);
         pointStyle.addAll(Arrays.asList(styles));
-        return this;
+        return modified();
     }
 
     public BubbleChartDataset addRotation(Number... rotations) {
         rotation = Util.initializeListIfNull(rotation);
         rotation.addAll(Arrays.asList(rotations));
-        return this;
+        return modified();
+    }
+
+    @Override
+    public BubbleChartDataset reset() {
+        label = null;
+        xAxisID = null;
+        yAxisID = null;
+        backgroundColor = cleared(backgroundColor);
+        borderColor = cleared(borderColor);
+        borderWidth = cleared(borderWidth);
+        borderRadius = cleared(borderRadius);
+        borderSkipped = cleared(borderSkipped);
+        hoverBackgroundColor = cleared(hoverBackgroundColor);
+        hoverBorderColor = cleared(hoverBorderColor);
+        hoverBorderWidth = cleared(hoverBorderWidth);
+        hoverBorderRadius = cleared(hoverBorderRadius);
+        hoverBorderSkipped = cleared(hoverBorderSkipped);
+        rotation = cleared(rotation);
+        pointStyle = cleared(pointStyle);
+        return super.reset();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject datasetJson = new JSONObject();
-        Util.addToJson(datasetJson, "data", data.stream().map(BubbleChartDatapoint::toJson).collect(Collectors.toList()));
-        Util.addToJson(datasetJson, "label", label);
-        Util.addToJson(datasetJson, "xAxisID", xAxisID);
-        Util.addToJson(datasetJson, "yAxisID", yAxisID);
-        Util.addToJson(datasetJson, "backgroundColor", backgroundColor);
-        Util.addToJson(datasetJson, "borderColor", borderColor);
-        Util.addToJson(datasetJson, "borderWidth", borderWidth);
-        Util.addToJson(datasetJson, "borderRadius", borderRadius);
-        Util.addToJson(datasetJson, "borderSkipped", borderSkipped);
-        Util.addToJson(datasetJson, "hoverBackgroundColor", hoverBackgroundColor);
-        Util.addToJson(datasetJson, "hoverBorderColor", hoverBorderColor);
-        Util.addToJson(datasetJson, "hoverBorderWidth", hoverBorderWidth);
-        Util.addToJson(datasetJson, "hoverBorderRadius", hoverBorderRadius);
-        Util.addToJson(datasetJson, "hoverBorderSkipped", hoverBorderSkipped);
-        Util.addToJson(datasetJson, "rotation", rotation);
-        Util.addToJson(datasetJson, "pointStyle", pointStyle);
-        return datasetJson;
+    protected void writeProperties(JsonWriter writer) {
+        writeDatapointProperty(writer, "data", data);
+        writer.property("label", label);
+        writer.property("xAxisID", xAxisID);
+        writer.property("yAxisID", yAxisID);
+        writeDatapointProperty(writer, "backgroundColor", backgroundColor);
+        writeDatapointProperty(writer, "borderColor", borderColor);
+        writeDatapointProperty(writer, "borderWidth", borderWidth);
+        writeDatapointProperty(writer, "borderRadius", borderRadius);
+        writeDatapointProperty(writer, "borderSkipped", borderSkipped);
+        writeDatapointProperty(writer, "hoverBackgroundColor", hoverBackgroundColor);
+        writeDatapointProperty(writer, "hoverBorderColor", hoverBorderColor);
+        writeDatapointProperty(writer, "hoverBorderWidth", hoverBorderWidth);
+        writeDatapointProperty(writer, "hoverBorderRadius", hoverBorderRadius);
+        writeDatapointProperty(writer, "hoverBorderSkipped", hoverBorderSkipped);
+        writeDatapointProperty(writer, "rotation", rotation);
+        writeDatapointProperty(writer, "pointStyle", pointStyle);
     }
 }
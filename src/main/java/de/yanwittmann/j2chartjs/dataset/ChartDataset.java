@@ -1,5 +1,8 @@
 package de.yanwittmann.j2chartjs.dataset;
 
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -8,30 +11,42 @@ import java.util.Collection;
 import java.util.List;
 
 @SuppressWarnings("unchecked")
-public abstract class ChartDataset<T, D> {
+public abstract class ChartDataset<T, D> implements JsonWritable {
 
-    protected final List<D> data = new ArrayList<>();
+    protected List<D> data;
+    private volatile long version = Versions.next();
+
+    protected ChartDataset() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * @param data The list to store the data of this dataset in.
+     */
+    protected ChartDataset(List<D> data) {
+        this.data = data;
+    }
 
     public T setData(Collection<? extends D> data) {
         clearData();
         this.data.addAll(data);
-        return (T) this;
+        return modified();
     }
 
     public T setData(D... data) {
         clearData();
         this.data.addAll(Arrays.asList(data));
-        return (T) this;
+        return modified();
     }
 
     public T addData(Collection<? extends D> data) {
         this.data.addAll(data);
-        return (T) this;
+        return modified();
     }
 
     public T addData(D... data) {
         this.data.addAll(Arrays.asList(data));
-        return (T) this;
+        return modified();
     }
 
     public List<D> getData() {
@@ -40,8 +55,112 @@ public abstract class ChartDataset<T, D> {
 
     public T clearData() {
         data.clear();
+        return modified();
+    }
+
+    /**
+     * @return A version that changes whenever this dataset is modified through its methods, used to detect whether
+     * the cached serialization of the dataset is still valid. Versions are unique across all datasets.
+     * @see DatasetCache
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Combines the version of this dataset with the versions of the options nested in it, like the fill of a line
+     * dataset, into a value that changes whenever any of them is modified through their methods.
+     *
+     * @param writer A writer with the settings the dataset will be serialized with. Nothing is written into it.
+     * @return The fingerprint.
+     * @see DatasetCache
+     */
+    public long fingerprint(JsonWriter writer) {
+        return version;
+    }
+
+    /**
+     * Marks this dataset as modified, so that cached serializations of it are not used anymore. This is done
+     * automatically by the methods of the dataset, but has to be called after modifying a list returned by a getter,
+     * like {@link #getData()}, or an object referenced by the dataset.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    public T invalidate() {
+        return modified();
+    }
+
+    /**
+     * Resets this dataset to the state after its construction to reuse it for another chart. The data and the
+     * per-datapoint attributes are cleared while keeping the lists they are stored in and their capacity, so that
+     * adding values afterwards does not allocate new lists. Lists passed to the setters are cleared as well, unless
+     * they cannot be modified. All other properties are removed.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    public T reset() {
+        return clearData();
+    }
+
+    /**
+     * @return The list after clearing it, <code>null</code> if the list is <code>null</code> or cannot be modified.
+     */
+    protected static <E> List<E> cleared(List<E> list) {
+        if (list == null) return null;
+        try {
+            list.clear();
+            return list;
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    protected T modified() {
+        version = Versions.next();
         return (T) this;
     }
 
-    public abstract JSONObject toJson();
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writeJson(writer, null);
+    }
+
+    /**
+     * Writes this dataset as an object into the writer.
+     *
+     * @param writer         The writer to write the dataset to.
+     * @param typeIdentifier If not <code>null</code>, the chart type to write as <code>type</code> property. This is
+     *                       used for datasets in a mixed chart.
+     */
+    public void writeJson(JsonWriter writer, String typeIdentifier) {
+        writer.beginObject();
+        writeProperties(writer);
+        writer.property("type", typeIdentifier);
+        writer.endObject();
+    }
+
+    protected abstract void writeProperties(JsonWriter writer);
+
+    /**
+     * Writes a list of values that contains one value for every datapoint of this dataset. If the values are the data
+     * of this dataset, the {@link JsonWriter#getDataReplacement() data replacement} of the writer is used if set.
+     * Empty lists other than the data are not written, like lists that are not set.
+     *
+     * @param writer The writer to write the values to.
+     * @param key    The key under which to add the values.
+     * @param values The per-datapoint values.
+     */
+    protected void writeDatapointProperty(JsonWriter writer, String key, List<?> values) {
+        if (values != data && values != null && values.isEmpty()) return;
+        if (values == data && writer.getDataReplacement() != null) {
+            writer.name(key);
+            writer.getDataReplacement().accept(writer);
+        } else {
+            writer.datapointProperty(key, values, data.size());
+        }
+    }
+
+    public JSONObject toJson() {
+        return new JSONObject(JsonWriter.serialize(this::writeJson));
+    }
 }
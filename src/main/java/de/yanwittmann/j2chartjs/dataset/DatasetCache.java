@@ -0,0 +1,203 @@
+package de.yanwittmann.j2chartjs.dataset;
+
+import de.yanwittmann.util.JsonWriter;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the serialized form of datasets so that datasets that did not change since the last time a chart was built
+ * do not have to be serialized again. A cached serialization is used as long as the
+ * {@link ChartDataset#fingerprint(JsonWriter) fingerprint} of the dataset, which includes the versions of the options
+ * nested in it, and the settings of the writer are the same. Datasets written with a datapoint selection or a data
+ * replacement, for example because of a decimation, are not cached.<br>
+ * The cache is bounded by the total length of the cached serializations; the least recently used entries are evicted
+ * first. The datasets are only referenced weakly, so datasets that are not used anymore can be garbage collected
+ * together with their data, and their serializations are removed the next time the cache is accessed. A cache can be
+ * shared by multiple charts and used by multiple threads.
+ */
+public class DatasetCache {
+
+    private final long maxLength;
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<ChartDataset<?, ?>> collected = new ReferenceQueue<>();
+    private final Probe probe = new Probe();
+    private long length = 0;
+
+    /**
+     * @param maxLength The maximum total amount of characters of all cached serializations.
+     */
+    public DatasetCache(long maxLength) {
+        if (maxLength < 0) throw new IllegalArgumentException("The maximum length must not be negative: " + maxLength);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Writes the dataset as value into the writer, using the cached serialization if it is still valid.
+     *
+     * @param writer         The writer to write the dataset to.
+     * @param dataset        The dataset to write.
+     * @param typeIdentifier The type identifier to write, see {@link ChartDataset#writeJson(JsonWriter, String)}.
+     */
+    public void write(JsonWriter writer, ChartDataset<?, ?> dataset, String typeIdentifier) {
+        if (writer.getDatapointSelection() != null || writer.getDataReplacement() != null) {
+            dataset.writeJson(writer, typeIdentifier);
+            return;
+        }
+
+        long fingerprint = dataset.fingerprint(writer);
+        String fragment = get(dataset, fingerprint, writer, typeIdentifier);
+        if (fragment == null) {
+            StringBuilder builder = new StringBuilder();
+            dataset.writeJson(writer.copySettings(builder), typeIdentifier);
+            fragment = builder.toString();
+            put(dataset, fingerprint, writer, typeIdentifier, fragment);
+        }
+        writer.rawValue(fragment);
+    }
+
+    private synchronized String get(ChartDataset<?, ?> dataset, long fingerprint, JsonWriter writer, String typeIdentifier) {
+        removeCollected();
+        Entry entry = entries.get(probe.of(dataset));
+        probe.dataset = null;
+        if (entry == null || !entry.isValid(fingerprint, writer, typeIdentifier)) return null;
+        return entry.fragment;
+    }
+
+    private synchronized void put(ChartDataset<?, ?> dataset, long fingerprint, JsonWriter writer, String typeIdentifier, String fragment) {
+        removeCollected();
+        remove(dataset);
+        if (fragment.length() > maxLength) return;
+        Key key = new Key(dataset, collected);
+        entries.put(key, new Entry(fingerprint, writer, typeIdentifier, fragment));
+        length += fragment.length();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (length > maxLength && iterator.hasNext()) {
+            length -= iterator.next().fragment.length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes the cached serialization of the dataset.
+     *
+     * @param dataset The dataset to remove.
+     */
+    public synchronized void invalidate(ChartDataset<?, ?> dataset) {
+        remove(dataset);
+    }
+
+    public synchronized void clear() {
+        removeCollected();
+        entries.clear();
+        length = 0;
+    }
+
+    /**
+     * @return The amount of cached datasets.
+     */
+    public synchronized int size() {
+        removeCollected();
+        return entries.size();
+    }
+
+    /**
+     * @return The total amount of characters of all cached serializations.
+     */
+    public synchronized long getLength() {
+        removeCollected();
+        return length;
+    }
+
+    public long getMaxLength() {
+        return maxLength;
+    }
+
+    private void remove(ChartDataset<?, ?> dataset) {
+        Entry previous = entries.remove(probe.of(dataset));
+        probe.dataset = null;
+        if (previous != null) length -= previous.fragment.length();
+    }
+
+    /**
+     * Removes the serializations of datasets that were garbage collected.
+     */
+    private void removeCollected() {
+        Object key;
+        while ((key = collected.poll()) != null) {
+            Entry previous = entries.remove(key);
+            if (previous != null) length -= previous.fragment.length();
+        }
+    }
+
+    /**
+     * Weakly references a cached dataset, compared by identity.
+     */
+    private static class Key extends WeakReference<ChartDataset<?, ?>> {
+        private final int hash;
+
+        private Key(ChartDataset<?, ?> dataset, ReferenceQueue<ChartDataset<?, ?>> queue) {
+            super(dataset, queue);
+            this.hash = System.identityHashCode(dataset);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+    }
+
+    /**
+     * Looks up the key of a dataset without creating a new key for every lookup. Only used while holding the lock.
+     */
+    private static class Probe {
+        private ChartDataset<?, ?> dataset;
+
+        private Probe of(ChartDataset<?, ?> dataset) {
+            this.dataset = dataset;
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(dataset);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).get() == dataset;
+        }
+    }
+
+    private static class Entry {
+        private final long fingerprint;
+        private final boolean compactDatapointAttributes;
+        private final int decimalPrecision;
+        private final String typeIdentifier;
+        private final String fragment;
+
+        private Entry(long fingerprint, JsonWriter writer, String typeIdentifier, String fragment) {
+            this.fingerprint = fingerprint;
+            this.compactDatapointAttributes = writer.isCompactDatapointAttributes();
+            this.decimalPrecision = writer.getDecimalPrecision();
+            this.typeIdentifier = typeIdentifier;
+            this.fragment = fragment;
+        }
+
+        private boolean isValid(long fingerprint, JsonWriter writer, String typeIdentifier) {
+            return this.fingerprint == fingerprint
+                    && compactDatapointAttributes == writer.isCompactDatapointAttributes()
+                    && decimalPrecision == writer.getDecimalPrecision()
+                    && Objects.equals(this.typeIdentifier, typeIdentifier);
+        }
+    }
+}
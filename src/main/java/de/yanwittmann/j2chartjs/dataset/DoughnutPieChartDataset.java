@@ -1,7 +1,7 @@
 package de.yanwittmann.j2chartjs.dataset;
 
+import de.yanwittmann.util.JsonWriter;
 import de.yanwittmann.util.Util;
-import org.json.JSONObject;
 
 import java.awt.*;
 import java.util.Arrays;
@@ -77,7 +77,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setLabel(String label) {
         this.label = label;
-        return this;
+        return modified();
     }
 
     public Integer getCircumference() {
@@ -86,7 +86,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setCircumference(Integer circumference) {
         this.circumference = circumference;
-        return this;
+        return modified();
     }
 
     public Integer getRotation() {
@@ -95,7 +95,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setRotation(Integer rotation) {
         this.rotation = rotation;
-        return this;
+        return modified();
     }
 
     public String getRadius() {
@@ -104,7 +104,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setRadius(String radius) {
         this.radius = radius;
-        return this;
+        return modified();
     }
 
     public String getCutout() {
@@ -113,7 +113,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setCutout(String cutout) {
         this.cutout = cutout;
-        return this;
+        return modified();
     }
 
     public List<Color> getBackgroundColor() {
@@ -122,7 +122,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setBackgroundColor(List<Color> backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getBorderColor() {
@@ -131,7 +131,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setBorderColor(List<Color> borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getBorderWidth() {
@@ -140,7 +140,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setBorderWidth(List<Number> borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getOffset() {
@@ -149,7 +149,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setOffset(List<Number> offset) {
         this.offset = offset;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBackgroundColor() {
@@ -158,7 +158,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setHoverBackgroundColor(List<Color> hoverBackgroundColor) {
         this.hoverBackgroundColor = hoverBackgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBorderColor() {
@@ -167,7 +167,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setHoverBorderColor(List<Color> hoverBorderColor) {
         this.hoverBorderColor = hoverBorderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverBorderWidth() {
@@ -176,7 +176,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setHoverBorderWidth(List<Number> hoverBorderWidth) {
         this.hoverBorderWidth = hoverBorderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverOffset() {
@@ -185,7 +185,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setHoverOffset(List<Number> hoverOffset) {
         this.hoverOffset = hoverOffset;
-        return this;
+        return modified();
     }
 
     public List<Number> getSpacing() {
@@ -194,7 +194,7 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setSpacing(List<Number> spacing) {
         this.spacing = spacing;
-        return this;
+        return modified();
     }
 
     public List<Number> getWeight() {
@@ -203,88 +203,106 @@ public class DoughnutPieChartDataset extends ChartDataset<DoughnutPieChartDatase
 
     public DoughnutPieChartDataset setWeight(List<Number> weight) {
         this.weight = weight;
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addBackgroundColor(Color... colors) {
         backgroundColor = Util.initializeListIfNull(backgroundColor);
         backgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addBorderColor(Color... colors) {
         borderColor = Util.initializeListIfNull(borderColor);
         borderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addBorderWidth(Number... widths) {
         borderWidth = Util.initializeListIfNull(borderWidth);
         borderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addOffset(Number... offsets) {
         offset = Util.initializeListIfNull(offset);
         offset.addAll(Arrays.asList(offsets));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addSpacing(Number... spacings) {
         spacing = Util.initializeListIfNull(spacing);
         spacing.addAll(Arrays.asList(spacings));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addWeight(Number... weights) {
         weight = Util.initializeListIfNull(weight);
         weight.addAll(Arrays.asList(weights));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addHoverBackgroundColor(Color... colors) {
         hoverBackgroundColor = Util.initializeListIfNull(hoverBackgroundColor);
         hoverBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addHoverBorderColor(Color... colors) {
         hoverBorderColor = Util.initializeListIfNull(hoverBorderColor);
         hoverBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addHoverBorderWidth(Number... widths) {
         hoverBorderWidth = Util.initializeListIfNull(hoverBorderWidth);
         hoverBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public DoughnutPieChartDataset addHoverOffset(Number... offsets) {
         hoverOffset = Util.initializeListIfNull(hoverOffset);
         hoverOffset.addAll(Arrays.asList(offsets));
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject datasetJson = new JSONObject();
-        Util.addToJson(datasetJson, "data", data);
-        Util.addToJson(datasetJson, "label", label);
-        Util.addToJson(datasetJson, "circumference", circumference);
-        Util.addToJson(datasetJson, "rotation", rotation);
-        Util.addToJson(datasetJson, "radius", radius);
-        Util.addToJson(datasetJson, "cutout", cutout);
-        Util.addToJson(datasetJson, "backgroundColor", backgroundColor);
-        Util.addToJson(datasetJson, "borderColor", borderColor);
-        Util.addToJson(datasetJson, "borderWidth", borderWidth);
-        Util.addToJson(datasetJson, "offset", offset);
-        Util.addToJson(datasetJson, "hoverBackgroundColor", hoverBackgroundColor);
-        Util.addToJson(datasetJson, "hoverBorderColor", hoverBorderColor);
-        Util.addToJson(datasetJson, "hoverBorderWidth", hoverBorderWidth);
-        Util.addToJson(datasetJson, "hoverOffset", hoverOffset);
-        Util.addToJson(datasetJson, "spacing", spacing);
-        Util.addToJson(datasetJson, "weight", weight);
-        return datasetJson;
+    public DoughnutPieChartDataset reset() {
+        label = null;
+        circumference = null;
+        rotation = null;
+        radius = null;
+        cutout = null;
+        backgroundColor = cleared(backgroundColor);
+        borderColor = cleared(borderColor);
+        borderWidth = cleared(borderWidth);
+        offset = cleared(offset);
+        hoverBackgroundColor = cleared(hoverBackgroundColor);
+        hoverBorderColor = cleared(hoverBorderColor);
+        hoverBorderWidth = cleared(hoverBorderWidth);
+        hoverOffset = cleared(hoverOffset);
+        spacing = cleared(spacing);
+        weight = cleared(weight);
+        return super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writeDatapointProperty(writer, "data", data);
+        writer.property("label", label);
+        writer.property("circumference", circumference);
+        writer.property("rotation", rotation);
+        writer.property("radius", radius);
+        writer.property("cutout", cutout);
+        writeDatapointProperty(writer, "backgroundColor", backgroundColor);
+        writeDatapointProperty(writer, "borderColor", borderColor);
+        writeDatapointProperty(writer, "borderWidth", borderWidth);
+        writeDatapointProperty(writer, "offset", offset);
+        writeDatapointProperty(writer, "hoverBackgroundColor", hoverBackgroundColor);
+        writeDatapointProperty(writer, "hoverBorderColor", hoverBorderColor);
+        writeDatapointProperty(writer, "hoverBorderWidth", hoverBorderWidth);
+        writeDatapointProperty(writer, "hoverOffset", hoverOffset);
+        writeDatapointProperty(writer, "spacing", spacing);
+        writeDatapointProperty(writer, "weight", weight);
     }
 }
@@ -1,10 +1,15 @@
 package de.yanwittmann.j2chartjs.dataset;
 
 import de.yanwittmann.j2chartjs.type.ChartFill;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.DoubleList;
+import de.yanwittmann.util.DoubleRingList;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.MappedDoubleList;
+import de.yanwittmann.util.RingList;
+import de.yanwittmann.util.Versions;
 
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -115,13 +120,127 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
      */
     private ChartFill fill;
 
+    /**
+     * The maximum amount of datapoints kept in window mode, 0 if the window mode is disabled.
+     */
+    private int windowCapacity = 0;
+
+    public LineChartDataset() {
+        super(new DoubleList());
+    }
+
+    /**
+     * Replaces the data of this dataset with the given values without boxing them. <code>NaN</code> values are
+     * written as <code>null</code>.
+     *
+     * @param data The new values.
+     * @return This instance to allow for API chaining.
+     */
+    public LineChartDataset setData(double[] data) {
+        clearData();
+        if (this.data instanceof DoubleRingList) ((DoubleRingList) this.data).addAll(data);
+        else modifiableData().addAll(data);
+        return modified();
+    }
+
+    /**
+     * Adds a value to the data of this dataset without boxing it. <code>NaN</code> is written as <code>null</code>.
+     *
+     * @param value The value to add.
+     * @return This instance to allow for API chaining.
+     */
+    public LineChartDataset addData(double value) {
+        if (data instanceof DoubleRingList) ((DoubleRingList) data).addDouble(value);
+        else modifiableData().addDouble(value);
+        return modified();
+    }
+
+    public int getWindow() {
+        return windowCapacity;
+    }
+
+    /**
+     * Keeps only the latest datapoints of this dataset, for example for live data: once the window is full, adding a
+     * datapoint removes the oldest one in constant time. The per-point styling lists are windowed the same way, so
+     * values added to them stay aligned with the data. Use {@link de.yanwittmann.j2chartjs.data.LineChartData#setWindow(int)}
+     * to window the labels of the chart as well.<br>
+     * Existing datapoints and per-point styling values are kept, up to the capacity of the window.
+     *
+     * @param capacity The maximum amount of datapoints, <code>0</code> to disable the window mode.
+     * @return This instance to allow for API chaining.
+     */
+    public LineChartDataset setWindow(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The window capacity must not be negative: " + capacity);
+        this.windowCapacity = capacity;
+        if (capacity > 0) {
+            data = new DoubleRingList(capacity, data);
+        } else {
+            DoubleList list = new DoubleList(data.size());
+            list.addAll(data);
+            data = list;
+        }
+        pointBackgroundColor = windowed(pointBackgroundColor);
+        pointBorderColor = windowed(pointBorderColor);
+        pointBorderWidth = windowed(pointBorderWidth);
+        pointHitRadius = windowed(pointHitRadius);
+        pointRadius = windowed(pointRadius);
+        pointRotation = windowed(pointRotation);
+        pointStyle = windowed(pointStyle);
+        pointHoverBackgroundColor = windowed(pointHoverBackgroundColor);
+        pointHoverBorderColor = windowed(pointHoverBorderColor);
+        pointHoverBorderWidth = windowed(pointHoverBorderWidth);
+        pointHoverRadius = windowed(pointHoverRadius);
+        return modified();
+    }
+
+    /**
+     * Uses the values of the mapped file region as data of this dataset without copying them onto the heap. They are
+     * only read while the chart is being built.<br>
+     * The mapped data is read-only, so data cannot be added to it. Setting or clearing the data replaces it with
+     * regular data again.
+     *
+     * @param source The mapped values.
+     * @return This instance to allow for API chaining.
+     */
+    public LineChartDataset setDataSource(MappedDoubleList source) {
+        this.data = source;
+        return modified();
+    }
+
+    @Override
+    public LineChartDataset clearData() {
+        if (windowCapacity > 0) {
+            if (!(data instanceof DoubleRingList)) data = new DoubleRingList(windowCapacity);
+        } else if (!(data instanceof DoubleList)) {
+            data = new DoubleList();
+        }
+        return super.clearData();
+    }
+
+    private <E> List<E> initializePointList(List<E> list) {
+        if (list != null) return list;
+        return windowCapacity > 0 ? new RingList<>(windowCapacity) : new ArrayList<>();
+    }
+
+    private <E> List<E> windowed(List<E> list) {
+        if (list == null) return null;
+        return windowCapacity > 0 ? new RingList<>(windowCapacity, list) : new ArrayList<>(list);
+    }
+
+    private DoubleList modifiableData() {
+        if (!(data instanceof DoubleList)) {
+            throw new UnsupportedOperationException("The data of this dataset is read-only, use setData or clearData to replace it");
+        }
+        return (DoubleList) data;
+    }
+
     public String getLabel() {
         return label;
     }
 
     public LineChartDataset setLabel(String label) {
         this.label = label;
-        return this;
+        return modified();
     }
 
     public String getxAxisID() {
@@ -130,7 +249,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setxAxisID(String xAxisID) {
         this.xAxisID = xAxisID;
-        return this;
+        return modified();
     }
 
     public String getyAxisID() {
@@ -139,7 +258,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setyAxisID(String yAxisID) {
         this.yAxisID = yAxisID;
-        return this;
+        return modified();
     }
 
     public String getStack() {
@@ -148,7 +267,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setStack(String stack) {
         this.stack = stack;
-        return this;
+        return modified();
     }
 
     public String getIndexAxis() {
@@ -157,7 +276,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setIndexAxis(String indexAxis) {
         this.indexAxis = indexAxis;
-        return this;
+        return modified();
     }
 
     public Number getBase() {
@@ -166,83 +285,83 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setBase(int base) {
         this.base = base;
-        return this;
+        return modified();
     }
 
     public LineChartDataset setBase(double base) {
         this.base = base;
-        return this;
+        return modified();
     }
 
     public LineChartDataset setBase(Number base) {
         this.base = base;
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointBackgroundColor(Color... colors) {
-        pointBackgroundColor = Util.initializeListIfNull(pointBackgroundColor);
+        pointBackgroundColor = initializePointList(pointBackgroundColor);
         pointBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointBorderColor(Color... colors) {
-        pointBorderColor = Util.initializeListIfNull(pointBorderColor);
+        pointBorderColor = initializePointList(pointBorderColor);
         pointBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointBorderWidth(Number... widths) {
-        pointBorderWidth = Util.initializeListIfNull(pointBorderWidth);
+        pointBorderWidth = initializePointList(pointBorderWidth);
         pointBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointHitRadius(Number... radiuses) {
-        pointHitRadius = Util.initializeListIfNull(pointHitRadius);
+        pointHitRadius = initializePointList(pointHitRadius);
         pointHitRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointRadius(Number... radiuses) {
-        pointRadius = Util.initializeListIfNull(pointRadius);
+        pointRadius = initializePointList(pointRadius);
         pointRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointRotation(Number... rotations) {
-        pointRotation = Util.initializeListIfNull(pointRotation);
+        pointRotation = initializePointList(pointRotation);
         pointRotation.addAll(Arrays.asList(rotations));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointStyle(String... styles) {
-        pointStyle = Util.initializeListIfNull(pointStyle);
+        pointStyle = initializePointList(pointStyle);
         pointStyle.addAll(Arrays.asList(styles));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointHoverBackgroundColor(Color... colors) {
-        pointHoverBackgroundColor = Util.initializeListIfNull(pointHoverBackgroundColor);
+        pointHoverBackgroundColor = initializePointList(pointHoverBackgroundColor);
         pointHoverBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointHoverBorderColor(Color... colors) {
-        pointHoverBorderColor = Util.initializeListIfNull(pointHoverBorderColor);
+        pointHoverBorderColor = initializePointList(pointHoverBorderColor);
         pointHoverBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointHoverBorderWidth(Number... widths) {
-        pointHoverBorderWidth = Util.initializeListIfNull(pointHoverBorderWidth);
+        pointHoverBorderWidth = initializePointList(pointHoverBorderWidth);
         pointHoverBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public LineChartDataset addPointHoverRadius(Number... radiuses) {
-        pointHoverRadius = Util.initializeListIfNull(pointHoverRadius);
+        pointHoverRadius = initializePointList(pointHoverRadius);
         pointHoverRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public Color getBackgroundColor() {
@@ -251,7 +370,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setBackgroundColor(Color backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public String getBorderCapStyle() {
@@ -260,7 +379,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setBorderCapStyle(String borderCapStyle) {
         this.borderCapStyle = borderCapStyle;
-        return this;
+        return modified();
     }
 
     public Color getBorderColor() {
@@ -269,7 +388,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setBorderColor(Color borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public List<Integer> getBorderDash() {
@@ -278,7 +397,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setBorderDash(List<Integer> borderDash) {
         this.borderDash = borderDash;
-        return this;
+        return modified();
     }
 
     public Number getBorderWidth() {
@@ -287,7 +406,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setBorderWidth(Number borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public Number getTension() {
@@ -296,12 +415,12 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setTension(double tension) {
         this.tension = tension;
-        return this;
+        return modified();
     }
 
     public LineChartDataset setTension(Number tension) {
         this.tension = tension;
-        return this;
+        return modified();
     }
 
     public Boolean getShowLine() {
@@ -310,7 +429,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setShowLine(Boolean showLine) {
         this.showLine = showLine;
-        return this;
+        return modified();
     }
 
     public Boolean getSpanGaps() {
@@ -319,7 +438,7 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setSpanGaps(Boolean spanGaps) {
         this.spanGaps = spanGaps;
-        return this;
+        return modified();
     }
 
     public ChartFill getFill() {
@@ -328,39 +447,79 @@ public class LineChartDataset extends ChartDataset<LineChartDataset, Number> {
 
     public LineChartDataset setFill(ChartFill fill) {
         this.fill = fill;
-        return this;
+        return modified();
+    }
+
+    /**
+     * Resets this dataset like {@link ChartDataset#reset()}, but keeps the window capacity and with it the ring buffers
+     * of the data and the per-datapoint attributes.
+     *
+     * @return This instance to allow for API chaining.
+     */
+    @Override
+    public LineChartDataset reset() {
+        label = null;
+        xAxisID = null;
+        yAxisID = null;
+        stack = null;
+        indexAxis = null;
+        base = null;
+        pointBackgroundColor = cleared(pointBackgroundColor);
+        pointBorderColor = cleared(pointBorderColor);
+        pointBorderWidth = cleared(pointBorderWidth);
+        pointHitRadius = cleared(pointHitRadius);
+        pointRadius = cleared(pointRadius);
+        pointRotation = cleared(pointRotation);
+        pointStyle = cleared(pointStyle);
+        pointHoverBackgroundColor = cleared(pointHoverBackgroundColor);
+        pointHoverBorderColor = cleared(pointHoverBorderColor);
+        pointHoverBorderWidth = cleared(pointHoverBorderWidth);
+        pointHoverRadius = cleared(pointHoverRadius);
+        backgroundColor = null;
+        borderCapStyle = null;
+        borderColor = null;
+        borderDash = null;
+        borderWidth = null;
+        tension = null;
+        showLine = null;
+        spanGaps = null;
+        fill = null;
+        return super.reset();
+    }
+
+    @Override
+    public long fingerprint(JsonWriter writer) {
+        return fill == null ? super.fingerprint(writer) : Versions.mix(super.fingerprint(writer), fill.fingerprint(writer));
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject datasetJson = new JSONObject();
-        Util.addToJson(datasetJson, "data", data);
-        Util.addToJson(datasetJson, "label", label);
-        Util.addToJson(datasetJson, "xAxisID", xAxisID);
-        Util.addToJson(datasetJson, "yAxisID", yAxisID);
-        Util.addToJson(datasetJson, "stack", stack);
-        Util.addToJson(datasetJson, "indexAxis", indexAxis);
-        Util.addToJson(datasetJson, "base", base);
-        Util.addToJson(datasetJson, "pointBackgroundColor", pointBackgroundColor);
-        Util.addToJson(datasetJson, "pointBorderColor", pointBorderColor);
-        Util.addToJson(datasetJson, "pointBorderWidth", pointBorderWidth);
-        Util.addToJson(datasetJson, "pointHitRadius", pointHitRadius);
-        Util.addToJson(datasetJson, "pointRadius", pointRadius);
-        Util.addToJson(datasetJson, "pointRotation", pointRotation);
-        Util.addToJson(datasetJson, "pointStyle", pointStyle);
-        Util.addToJson(datasetJson, "pointHoverBackgroundColor", pointHoverBackgroundColor);
-        Util.addToJson(datasetJson, "pointHoverBorderColor", pointHoverBorderColor);
-        Util.addToJson(datasetJson, "pointHoverBorderWidth", pointHoverBorderWidth);
-        Util.addToJson(datasetJson, "pointHoverRadius", pointHoverRadius);
-        Util.addToJson(datasetJson, "backgroundColor", backgroundColor);
-        Util.addToJson(datasetJson, "borderCapStyle", borderCapStyle);
-        Util.addToJson(datasetJson, "borderColor", borderColor);
-        Util.addToJson(datasetJson, "borderDash", borderDash);
-        Util.addToJson(datasetJson, "borderWidth", borderWidth);
-        Util.addToJson(datasetJson, "tension", tension);
-        Util.addToJson(datasetJson, "showLine", showLine);
-        Util.addToJson(datasetJson, "spanGaps", spanGaps);
-        Util.addToJson(datasetJson, "fill", fill);
-        return datasetJson;
+    protected void writeProperties(JsonWriter writer) {
+        writeDatapointProperty(writer, "data", data);
+        writer.property("label", label);
+        writer.property("xAxisID", xAxisID);
+        writer.property("yAxisID", yAxisID);
+        writer.property("stack", stack);
+        writer.property("indexAxis", indexAxis);
+        writer.property("base", base);
+        writeDatapointProperty(writer, "pointBackgroundColor", pointBackgroundColor);
+        writeDatapointProperty(writer, "pointBorderColor", pointBorderColor);
+        writeDatapointProperty(writer, "pointBorderWidth", pointBorderWidth);
+        writeDatapointProperty(writer, "pointHitRadius", pointHitRadius);
+        writeDatapointProperty(writer, "pointRadius", pointRadius);
+        writeDatapointProperty(writer, "pointRotation", pointRotation);
+        writeDatapointProperty(writer, "pointStyle", pointStyle);
+        writeDatapointProperty(writer, "pointHoverBackgroundColor", pointHoverBackgroundColor);
+        writeDatapointProperty(writer, "pointHoverBorderColor", pointHoverBorderColor);
+        writeDatapointProperty(writer, "pointHoverBorderWidth", pointHoverBorderWidth);
+        writeDatapointProperty(writer, "pointHoverRadius", pointHoverRadius);
+        writer.property("backgroundColor", backgroundColor);
+        writer.property("borderCapStyle", borderCapStyle);
+        writer.property("borderColor", borderColor);
+        writer.property("borderDash", borderDash);
+        writer.property("borderWidth", borderWidth);
+        writer.property("tension", tension);
+        writer.property("showLine", showLine);
+        writer.property("spanGaps", spanGaps);
+        writer.property("fill", fill);
     }
 }
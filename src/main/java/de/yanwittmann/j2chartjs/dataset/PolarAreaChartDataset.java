@@ -1,7 +1,7 @@
 package de.yanwittmann.j2chartjs.dataset;
 
+import de.yanwittmann.util.JsonWriter;
 import de.yanwittmann.util.Util;
-import org.json.JSONObject;
 
 import java.awt.*;
 import java.util.Arrays;
@@ -60,7 +60,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setLabel(String label) {
         this.label = label;
-        return this;
+        return modified();
     }
 
     public List<Color> getBackgroundColor() {
@@ -69,7 +69,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setBackgroundColor(List<Color> backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getBorderColor() {
@@ -78,7 +78,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setBorderColor(List<Color> borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public List<Integer> getBorderWidth() {
@@ -87,7 +87,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setBorderWidth(List<Integer> borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public List<Integer> getOffset() {
@@ -96,7 +96,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setOffset(List<Integer> offset) {
         this.offset = offset;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBackgroundColor() {
@@ -105,7 +105,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setHoverBackgroundColor(List<Color> hoverBackgroundColor) {
         this.hoverBackgroundColor = hoverBackgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBorderColor() {
@@ -114,7 +114,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setHoverBorderColor(List<Color> hoverBorderColor) {
         this.hoverBorderColor = hoverBorderColor;
-        return this;
+        return modified();
     }
 
     public List<Integer> getHoverBorderWidth() {
@@ -123,7 +123,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setHoverBorderWidth(List<Integer> hoverBorderWidth) {
         this.hoverBorderWidth = hoverBorderWidth;
-        return this;
+        return modified();
     }
 
     public List<Integer> getHoverOffset() {
@@ -132,7 +132,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setHoverOffset(List<Integer> hoverOffset) {
         this.hoverOffset = hoverOffset;
-        return this;
+        return modified();
     }
 
     public List<Integer> getSpacing() {
@@ -141,7 +141,7 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setSpacing(List<Integer> spacing) {
         this.spacing = spacing;
-        return this;
+        return modified();
     }
 
     public List<String> getBorderAlign() {
@@ -150,84 +150,98 @@ public class PolarAreaChartDataset extends ChartDataset<PolarAreaChartDataset, N
 
     public PolarAreaChartDataset setBorderAlign(List<String> borderAlign) {
         this.borderAlign = borderAlign;
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addBackgroundColor(Color... colors) {
         backgroundColor = Util.initializeListIfNull(backgroundColor);
         backgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addBorderColor(Color... colors) {
         borderColor = Util.initializeListIfNull(borderColor);
         borderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addBorderWidth(Integer... widths) {
         borderWidth = Util.initializeListIfNull(borderWidth);
         borderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addOffset(Integer... offsets) {
         offset = Util.initializeListIfNull(offset);
         offset.addAll(Arrays.asList(offsets));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addSpacing(Integer... spacings) {
         spacing = Util.initializeListIfNull(spacing);
         spacing.addAll(Arrays.asList(spacings));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addHoverBackgroundColor(Color... colors) {
         hoverBackgroundColor = Util.initializeListIfNull(hoverBackgroundColor);
         hoverBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addHoverBorderColor(Color... colors) {
         hoverBorderColor = Util.initializeListIfNull(hoverBorderColor);
         hoverBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addHoverBorderWidth(Integer... widths) {
         hoverBorderWidth = Util.initializeListIfNull(hoverBorderWidth);
         hoverBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addHoverOffset(Integer... offsets) {
         hoverOffset = Util.initializeListIfNull(hoverOffset);
         hoverOffset.addAll(Arrays.asList(offsets));
-        return this;
+        return modified();
     }
 
     public PolarAreaChartDataset addBorderAlign(String... alignments) {
         borderAlign = Util.initializeListIfNull(borderAlign);
         borderAlign.addAll(Arrays.asList(alignments));
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject datasetJson = new JSONObject();
-        Util.addToJson(datasetJson, "data", data);
-        Util.addToJson(datasetJson, "label", label);
-        Util.addToJson(datasetJson, "backgroundColor", backgroundColor);
-        Util.addToJson(datasetJson, "borderColor", borderColor);
-        Util.addToJson(datasetJson, "borderWidth", borderWidth);
-        Util.addToJson(datasetJson, "offset", offset);
-        Util.addToJson(datasetJson, "hoverBackgroundColor", hoverBackgroundColor);
-        Util.addToJson(datasetJson, "hoverBorderColor", hoverBorderColor);
-        Util.addToJson(datasetJson, "hoverBorderWidth", hoverBorderWidth);
-        Util.addToJson(datasetJson, "hoverOffset", hoverOffset);
-        Util.addToJson(datasetJson, "spacing", spacing);
-        Util.addToJson(datasetJson, "borderAlign", borderAlign);
-        return datasetJson;
+    public PolarAreaChartDataset reset() {
+        label = null;
+        backgroundColor = cleared(backgroundColor);
+        borderColor = cleared(borderColor);
+        borderWidth = cleared(borderWidth);
+        offset = cleared(offset);
+        hoverBackgroundColor = cleared(hoverBackgroundColor);
+        hoverBorderColor = cleared(hoverBorderColor);
+        hoverBorderWidth = cleared(hoverBorderWidth);
+        hoverOffset = cleared(hoverOffset);
+        spacing = cleared(spacing);
+        borderAlign = cleared(borderAlign);
+        return super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writeDatapointProperty(writer, "data", data);
+        writer.property("label", label);
+        writeDatapointProperty(writer, "backgroundColor", backgroundColor);
+        writeDatapointProperty(writer, "borderColor", borderColor);
+        writeDatapointProperty(writer, "borderWidth", borderWidth);
+        writeDatapointProperty(writer, "offset", offset);
+        writeDatapointProperty(writer, "hoverBackgroundColor", hoverBackgroundColor);
+        writeDatapointProperty(writer, "hoverBorderColor", hoverBorderColor);
+        writeDatapointProperty(writer, "hoverBorderWidth", hoverBorderWidth);
+        writeDatapointProperty(writer, "hoverOffset", hoverOffset);
+        writeDatapointProperty(writer, "spacing", spacing);
+        writeDatapointProperty(writer, "borderAlign", borderAlign);
     }
 }
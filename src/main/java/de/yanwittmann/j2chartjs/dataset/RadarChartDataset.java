@@ -1,8 +1,9 @@
 package de.yanwittmann.j2chartjs.dataset;
 
 import de.yanwittmann.j2chartjs.type.ChartFill;
+import de.yanwittmann.util.JsonWriter;
 import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.Versions;
 
 import java.awt.*;
 import java.util.Arrays;
@@ -117,7 +118,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setLabel(String label) {
         this.label = label;
-        return this;
+        return modified();
     }
 
     public int getOrder() {
@@ -126,73 +127,73 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setOrder(int order) {
         this.order = order;
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointBackgroundColor(Color... colors) {
         pointBackgroundColor = Util.initializeListIfNull(pointBackgroundColor);
         pointBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointBorderColor(Color... colors) {
         pointBorderColor = Util.initializeListIfNull(pointBorderColor);
         pointBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointBorderWidth(Number... widths) {
         pointBorderWidth = Util.initializeListIfNull(pointBorderWidth);
         pointBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointHitRadius(Number... radiuses) {
         pointHitRadius = Util.initializeListIfNull(pointHitRadius);
         pointHitRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointRadius(Number... radiuses) {
         pointRadius = Util.initializeListIfNull(pointRadius);
         pointRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointRotation(Number... rotations) {
         pointRotation = Util.initializeListIfNull(pointRotation);
         pointRotation.addAll(Arrays.asList(rotations));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointStyle(String... styles) {
         pointStyle = Util.initializeListIfNull(pointStyle);
         pointStyle.addAll(Arrays.asList(styles));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointHoverBackgroundColor(Color... colors) {
         pointHoverBackgroundColor = Util.initializeListIfNull(pointHoverBackgroundColor);
         pointHoverBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointHoverBorderColor(Color... colors) {
         pointHoverBorderColor = Util.initializeListIfNull(pointHoverBorderColor);
         pointHoverBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointHoverBorderWidth(Number... widths) {
         pointHoverBorderWidth = Util.initializeListIfNull(pointHoverBorderWidth);
         pointHoverBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public RadarChartDataset addPointHoverRadius(Number... radiuses) {
         pointHoverRadius = Util.initializeListIfNull(pointHoverRadius);
         pointHoverRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public Color getBackgroundColor() {
@@ -201,7 +202,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setBackgroundColor(Color backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public String getBorderCapStyle() {
@@ -210,7 +211,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setBorderCapStyle(String borderCapStyle) {
         this.borderCapStyle = borderCapStyle;
-        return this;
+        return modified();
     }
 
     public Color getBorderColor() {
@@ -219,7 +220,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setBorderColor(Color borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public List<Integer> getBorderDash() {
@@ -228,7 +229,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setBorderDash(List<Integer> borderDash) {
         this.borderDash = borderDash;
-        return this;
+        return modified();
     }
 
     public Number getBorderWidth() {
@@ -237,7 +238,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setBorderWidth(Number borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public Number getTension() {
@@ -246,12 +247,12 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setTension(double tension) {
         this.tension = tension;
-        return this;
+        return modified();
     }
 
     public RadarChartDataset setTension(int tension) {
         this.tension = tension;
-        return this;
+        return modified();
     }
 
     public Boolean getShowLine() {
@@ -260,7 +261,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setShowLine(Boolean showLine) {
         this.showLine = showLine;
-        return this;
+        return modified();
     }
 
     public Boolean getSpanGaps() {
@@ -269,7 +270,7 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setSpanGaps(Boolean spanGaps) {
         this.spanGaps = spanGaps;
-        return this;
+        return modified();
     }
 
     public ChartFill getFill() {
@@ -278,35 +279,65 @@ public class RadarChartDataset extends ChartDataset<RadarChartDataset, Number> {
 
     public RadarChartDataset setFill(ChartFill fill) {
         this.fill = fill;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject datasetJson = new JSONObject();
-        Util.addToJson(datasetJson, "data", data);
-        Util.addToJson(datasetJson, "label", label);
-        Util.addToJson(datasetJson, "order", order);
-        Util.addToJson(datasetJson, "pointBackgroundColor", pointBackgroundColor);
-        Util.addToJson(datasetJson, "pointBorderColor", pointBorderColor);
-        Util.addToJson(datasetJson, "pointBorderWidth", pointBorderWidth);
-        Util.addToJson(datasetJson, "pointHitRadius", pointHitRadius);
-        Util.addToJson(datasetJson, "pointRadius", pointRadius);
-        Util.addToJson(datasetJson, "pointRotation", pointRotation);
-        Util.addToJson(datasetJson, "pointStyle", pointStyle);
-        Util.addToJson(datasetJson, "pointHoverBackgroundColor", pointHoverBackgroundColor);
-        Util.addToJson(datasetJson, "pointHoverBorderColor", pointHoverBorderColor);
-        Util.addToJson(datasetJson, "pointHoverBorderWidth", pointHoverBorderWidth);
-        Util.addToJson(datasetJson, "pointHoverRadius", pointHoverRadius);
-        Util.addToJson(datasetJson, "backgroundColor", backgroundColor);
-        Util.addToJson(datasetJson, "borderCapStyle", borderCapStyle);
-        Util.addToJson(datasetJson, "borderColor", borderColor);
-        Util.addToJson(datasetJson, "borderDash", borderDash);
-        Util.addToJson(datasetJson, "borderWidth", borderWidth);
-        Util.addToJson(datasetJson, "tension", tension);
-        Util.addToJson(datasetJson, "showLine", showLine);
-        Util.addToJson(datasetJson, "spanGaps", spanGaps);
-        Util.addToJson(datasetJson, "fill", fill);
-        return datasetJson;
+    public RadarChartDataset reset() {
+        label = null;
+        order = null;
+        pointBackgroundColor = cleared(pointBackgroundColor);
+        pointBorderColor = cleared(pointBorderColor);
+        pointBorderWidth = cleared(pointBorderWidth);
+        pointHitRadius = cleared(pointHitRadius);
+        pointRadius = cleared(pointRadius);
+        pointRotation = cleared(pointRotation);
+        pointStyle = cleared(pointStyle);
+        pointHoverBackgroundColor = cleared(pointHoverBackgroundColor);
+        pointHoverBorderColor = cleared(pointHoverBorderColor);
+        pointHoverBorderWidth = cleared(pointHoverBorderWidth);
+        pointHoverRadius = cleared(pointHoverRadius);
+        backgroundColor = null;
+        borderCapStyle = null;
+        borderColor = null;
+        borderDash = null;
+        borderWidth = null;
+        tension = null;
+        showLine = null;
+        spanGaps = null;
+        fill = null;
+        return super.reset();
+    }
+
+    @Override
+    public long fingerprint(JsonWriter writer) {
+        return fill == null ? super.fingerprint(writer) : Versions.mix(super.fingerprint(writer), fill.fingerprint(writer));
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writeDatapointProperty(writer, "data", data);
+        writer.property("label", label);
+        writer.property("order", order);
+        writeDatapointProperty(writer, "pointBackgroundColor", pointBackgroundColor);
+        writeDatapointProperty(writer, "pointBorderColor", pointBorderColor);
+        writeDatapointProperty(writer, "pointBorderWidth", pointBorderWidth);
+        writeDatapointProperty(writer, "pointHitRadius", pointHitRadius);
+        writeDatapointProperty(writer, "pointRadius", pointRadius);
+        writeDatapointProperty(writer, "pointRotation", pointRotation);
+        writeDatapointProperty(writer, "pointStyle", pointStyle);
+        writeDatapointProperty(writer, "pointHoverBackgroundColor", pointHoverBackgroundColor);
+        writeDatapointProperty(writer, "pointHoverBorderColor", pointHoverBorderColor);
+        writeDatapointProperty(writer, "pointHoverBorderWidth", pointHoverBorderWidth);
+        writeDatapointProperty(writer, "pointHoverRadius", pointHoverRadius);
+        writer.property("backgroundColor", backgroundColor);
+        writer.property("borderCapStyle", borderCapStyle);
+        writer.property("borderColor", borderColor);
+        writer.property("borderDash", borderDash);
+        writer.property("borderWidth", borderWidth);
+        writer.property("tension", tension);
+        writer.property("showLine", showLine);
+        writer.property("spanGaps", spanGaps);
+        writer.property("fill", fill);
     }
 }
@@ -1,13 +1,13 @@
 package de.yanwittmann.j2chartjs.dataset;
 
 import de.yanwittmann.j2chartjs.datapoint.ScatterChartDatapoint;
+import de.yanwittmann.j2chartjs.datapoint.ScatterChartDatapointList;
+import de.yanwittmann.util.JsonWriter;
 import de.yanwittmann.util.Util;
-import org.json.JSONObject;
 
 import java.awt.*;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("unchecked")
 public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, ScatterChartDatapoint> {
@@ -30,6 +30,10 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
      * The rotation of the point in degrees.
      */
     private List<Number> rotation = null;
+    /**
+     * The radius of the point shape. If set to 0, the point is not rendered.
+     */
+    private List<Number> pointRadius = null;
     /**
      * Style of the point.<ul>
      * <li>circle</li>
@@ -50,13 +54,38 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
      */
     private Boolean showLine;
 
+    /**
+     * Replaces the data of this dataset with a datapoint for every pair of values in the arrays, without creating a
+     * datapoint object for each of them. The data is stored in a {@link ScatterChartDatapointList} from then on.
+     *
+     * @param x The x values.
+     * @param y The y values, has to be of the same length as the x values.
+     * @return This instance to allow for API chaining.
+     */
+    public ScatterChartDataset setXY(double[] x, double[] y) {
+        ScatterChartDatapointList datapoints = data instanceof ScatterChartDatapointList ? (ScatterChartDatapointList) data : new ScatterChartDatapointList();
+        datapoints.clear();
+        datapoints.addAll(x, y);
+        data = datapoints;
+        return modified();
+    }
+
+    public ScatterChartDataset addXY(double x, double y) {
+        if (data instanceof ScatterChartDatapointList) {
+            ((ScatterChartDatapointList) data).addXY(x, y);
+        } else {
+            data.add(new ScatterChartDatapoint(x, y));
+        }
+        return modified();
+    }
+
     public String getLabel() {
         return label;
     }
 
     public ScatterChartDataset setLabel(String label) {
         this.label = label;
-        return this;
+        return modified();
     }
 
     public String getxAxisID() {
@@ -65,7 +94,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setxAxisID(String xAxisID) {
         this.xAxisID = xAxisID;
-        return this;
+        return modified();
     }
 
     public String getyAxisID() {
@@ -74,7 +103,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setyAxisID(String yAxisID) {
         this.yAxisID = yAxisID;
-        return this;
+        return modified();
     }
 
     public List<Number> getRotation() {
@@ -83,7 +112,16 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setRotation(List<Number> rotation) {
         this.rotation = rotation;
-        return this;
+        return modified();
+    }
+
+    public List<Number> getPointRadius() {
+        return pointRadius;
+    }
+
+    public ScatterChartDataset setPointRadius(List<Number> pointRadius) {
+        this.pointRadius = pointRadius;
+        return modified();
     }
 
     public List<String> getPointStyle() {
@@ -92,7 +130,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setPointStyle(List<String> pointStyle) {
         this.pointStyle = pointStyle;
-        return this;
+        return modified();
     }
 
     public List<Color> getBackgroundColor() {
@@ -101,7 +139,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setBackgroundColor(List<Color> backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getBorderColor() {
@@ -110,7 +148,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setBorderColor(List<Color> borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getBorderWidth() {
@@ -119,7 +157,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setBorderWidth(List<Number> borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getBorderRadius() {
@@ -128,7 +166,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setBorderRadius(List<Number> borderRadius) {
         this.borderRadius = borderRadius;
-        return this;
+        return modified();
     }
 
     public List<String> getBorderSkipped() {
@@ -137,7 +175,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setBorderSkipped(List<String> borderSkipped) {
         this.borderSkipped = borderSkipped;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBackgroundColor() {
@@ -146,7 +184,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setHoverBackgroundColor(List<Color> hoverBackgroundColor) {
         this.hoverBackgroundColor = hoverBackgroundColor;
-        return this;
+        return modified();
     }
 
     public List<Color> getHoverBorderColor() {
@@ -155,7 +193,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setHoverBorderColor(List<Color> hoverBorderColor) {
         this.hoverBorderColor = hoverBorderColor;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverBorderWidth() {
@@ -164,7 +202,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setHoverBorderWidth(List<Number> hoverBorderWidth) {
         this.hoverBorderWidth = hoverBorderWidth;
-        return this;
+        return modified();
     }
 
     public List<Number> getHoverBorderRadius() {
@@ -173,7 +211,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setHoverBorderRadius(List<Number> hoverBorderRadius) {
         this.hoverBorderRadius = hoverBorderRadius;
-        return this;
+        return modified();
     }
 
     public List<String> getHoverBorderSkipped() {
@@ -182,7 +220,7 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setHoverBorderSkipped(List<String> hoverBorderSkipped) {
         this.hoverBorderSkipped = hoverBorderSkipped;
-        return this;
+        return modified();
     }
 
     public Boolean getShowLine() {
@@ -191,101 +229,128 @@ public class ScatterChartDataset extends ChartDataset<ScatterChartDataset, Scatt
 
     public ScatterChartDataset setShowLine(Boolean showLine) {
         this.showLine = showLine;
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addBackgroundColor(Color... colors) {
         backgroundColor = Util.initializeListIfNull(backgroundColor);
         backgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addBorderColor(Color... colors) {
         borderColor = Util.initializeListIfNull(borderColor);
         borderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addBorderWidth(Integer... widths) {
         borderWidth = Util.initializeListIfNull(borderWidth);
         borderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addBorderRadius(Integer... radiuses) {
         borderRadius = Util.initializeListIfNull(borderRadius);
         borderRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addBorderSkipped(String... edges) {
         borderSkipped = Util.initializeListIfNull(borderSkipped);
         borderSkipped.addAll(Arrays.asList(edges));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addHoverBackgroundColor(Color... colors) {
         hoverBackgroundColor = Util.initializeListIfNull(hoverBackgroundColor);
         hoverBackgroundColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addHoverBorderColor(Color... colors) {
         hoverBorderColor = Util.initializeListIfNull(hoverBorderColor);
         hoverBorderColor.addAll(Arrays.asList(colors));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addHoverBorderWidth(Integer... widths) {
         hoverBorderWidth = Util.initializeListIfNull(hoverBorderWidth);
         hoverBorderWidth.addAll(Arrays.asList(widths));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addHoverBorderRadius(Integer... radiuses) {
         hoverBorderRadius = Util.initializeListIfNull(hoverBorderRadius);
         hoverBorderRadius.addAll(Arrays.asList(radiuses));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addHoverBorderSkipped(String... edges) {
         hoverBorderSkipped = Util.initializeListIfNull(hoverBorderSkipped);
         hoverBorderSkipped.addAll(Arrays.asList(edges));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addPointStyle(String... styles) {
         pointStyle = Util.initializeListIfNull(pointStyle);
         pointStyle.addAll(Arrays.asList(styles));
-        return this;
+        return modified();
     }
 
     public ScatterChartDataset addRotation(Integer... rotations) {
         rotation = Util.initializeListIfNull(rotation);
         rotation.addAll(Arrays.asList(rotations));
-        return this;
+        return modified();
+    }
+
+    public ScatterChartDataset addPointRadius(Number... radiuses) {
+        pointRadius = Util.initializeListIfNull(pointRadius);
+        pointRadius.addAll(Arrays.asList(radiuses));
+        return modified();
+    }
+
+    @Override
+    public ScatterChartDataset reset() {
+        label = null;
+        xAxisID = null;
+        yAxisID = null;
+        backgroundColor = cleared(backgroundColor);
+        borderColor = cleared(borderColor);
+        borderWidth = cleared(borderWidth);
+        borderRadius = cleared(borderRadius);
+        borderSkipped = cleared(borderSkipped);
+        hoverBackgroundColor = cleared(hoverBackgroundColor);
+        hoverBorderColor = cleared(hoverBorderColor);
+        hoverBorderWidth = cleared(hoverBorderWidth);
+        hoverBorderRadius = cleared(hoverBorderRadius);
+        hoverBorderSkipped = cleared(hoverBorderSkipped);
+        rotation = cleared(rotation);
+        pointRadius = cleared(pointRadius);
+        pointStyle = cleared(pointStyle);
+        showLine = null;
+        return super.reset();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject datasetJson = new JSONObject();
-        Util.addToJson(datasetJson, "data", data.stream().map(ScatterChartDatapoint::toJson).collect(Collectors.toList()));
-        Util.addToJson(datasetJson, "label", label);
-        Util.addToJson(datasetJson, "xAxisID", xAxisID);
-        Util.addToJson(datasetJson, "yAxisID", yAxisID);
-        Util.addToJson(datasetJson, "backgroundColor", backgroundColor);
-        Util.addToJson(datasetJson, "borderColor", borderColor);
-        Util.addToJson(datasetJson, "borderWidth", borderWidth);
-        Util.addToJson(datasetJson, "borderRadius", borderRadius);
-        Util.addToJson(datasetJson, "borderSkipped", borderSkipped);
-        Util.addToJson(datasetJson, "hoverBackgroundColor", hoverBackgroundColor);
-        Util.addToJson(datasetJson, "hoverBorderColor", hoverBorderColor);
-        Util.addToJson(datasetJson, "hoverBorderWidth", hoverBorderWidth);
-        Util.addToJson(datasetJson, "hoverBorderRadius", hoverBorderRadius);
-        Util.addToJson(datasetJson, "hoverBorderSkipped", hoverBorderSkipped);
-        Util.addToJson(datasetJson, "rotation", rotation);
-        Util.addToJson(datasetJson, "pointStyle", pointStyle);
-        Util.addToJson(datasetJson, "showLine", showLine);
-        return datasetJson;
+    protected void writeProperties(JsonWriter writer) {
+        writeDatapointProperty(writer, "data", data);
+        writer.property("label", label);
+        writer.property("xAxisID", xAxisID);
+        writer.property("yAxisID", yAxisID);
+        writeDatapointProperty(writer, "backgroundColor", backgroundColor);
+        writeDatapointProperty(writer, "borderColor", borderColor);
+        writeDatapointProperty(writer, "borderWidth", borderWidth);
+        writeDatapointProperty(writer, "borderRadius", borderRadius);
+        writeDatapointProperty(writer, "borderSkipped", borderSkipped);
+        writeDatapointProperty(writer, "hoverBackgroundColor", hoverBackgroundColor);
+        writeDatapointProperty(writer, "hoverBorderColor", hoverBorderColor);
+        writeDatapointProperty(writer, "hoverBorderWidth", hoverBorderWidth);
+        writeDatapointProperty(writer, "hoverBorderRadius", hoverBorderRadius);
+        writeDatapointProperty(writer, "hoverBorderSkipped", hoverBorderSkipped);
+        writeDatapointProperty(writer, "rotation", rotation);
+        writeDatapointProperty(writer, "pointRadius", pointRadius);
+        writeDatapointProperty(writer, "pointStyle", pointStyle);
+        writer.property("showLine", showLine);
     }
 }
@@ -0,0 +1,350 @@
+package de.yanwittmann.j2chartjs.decimation;
+
+import de.yanwittmann.j2chartjs.datapoint.BubbleChartDatapoint;
+import de.yanwittmann.j2chartjs.datapoint.BubbleChartDatapointList;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Merges bubbles that are close to each other by hashing them onto a grid of cells. All bubbles in a cell are merged
+ * into a single bubble at their centroid. The area of the merged bubble is the total area of the merged bubbles,
+ * optionally limited by a maximum radius, and the amount of merged bubbles is written as <code>count</code> property
+ * of the datapoint, where it can be accessed by tooltip callbacks using <code>context.raw.count</code>.<br>
+ * Large datasets are split into partitions that are clustered in parallel and merged afterwards.<br>
+ * Bubbles with <code>NaN</code> coordinates are dropped.
+ */
+public class BubbleClustering {
+
+    private final static int PARTITION_SIZE = 1 << 16;
+
+    private final double cellWidth;
+    private final double cellHeight;
+    private int minDatapoints = 0;
+    private double maxRadius = Double.NaN;
+    private volatile long version = Versions.next();
+
+    /**
+     * @param cellWidth  The width of a cell on the x axis, in the unit of the x values.
+     * @param cellHeight The height of a cell on the y axis, in the unit of the y values.
+     */
+    public BubbleClustering(double cellWidth, double cellHeight) {
+        if (!(cellWidth > 0) || !(cellHeight > 0)) {
+            throw new IllegalArgumentException("The cell size has to be positive: " + cellWidth + " x " + cellHeight);
+        }
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+    }
+
+    /**
+     * @return A version that changes whenever the settings of this clustering are modified, used for the
+     * fingerprint of the chart data it is applied to.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private BubbleClustering modified() {
+        version = Versions.next();
+        return this;
+    }
+
+    public int getMinDatapoints() {
+        return minDatapoints;
+    }
+
+    /**
+     * @param minDatapoints Datasets with fewer datapoints than this are not clustered.
+     * @return This instance to allow for API chaining.
+     */
+    public BubbleClustering setMinDatapoints(int minDatapoints) {
+        this.minDatapoints = minDatapoints;
+        return modified();
+    }
+
+    public double getMaxRadius() {
+        return maxRadius;
+    }
+
+    /**
+     * @param maxRadius The largest radius a merged bubble can have, <code>NaN</code> for no limit.
+     * @return This instance to allow for API chaining.
+     */
+    public BubbleClustering setMaxRadius(double maxRadius) {
+        this.maxRadius = maxRadius;
+        return modified();
+    }
+
+    /**
+     * Clusters the datapoints.
+     *
+     * @param datapoints The datapoints to cluster.
+     * @return The merged bubbles, or <code>null</code> if the datapoints are not clustered because there are less than
+     * the minimum amount of them.
+     */
+    public Clusters cluster(List<? extends BubbleChartDatapoint> datapoints) {
+        int size = datapoints.size();
+        if (size < minDatapoints) return null;
+
+        Coordinates coordinates = datapoints instanceof BubbleChartDatapointList
+                ? new ColumnarCoordinates((BubbleChartDatapointList) datapoints)
+                : new ObjectCoordinates(datapoints);
+
+        int partitions = (size + PARTITION_SIZE - 1) / PARTITION_SIZE;
+        CellTable cells = partitions <= 1
+                ? clusterRange(coordinates, 0, size)
+                : IntStream.range(0, partitions).parallel()
+                .mapToObj(partition -> clusterRange(coordinates, partition * PARTITION_SIZE, Math.min(size, (partition + 1) * PARTITION_SIZE)))
+                .reduce(CellTable::merge)
+                .orElseGet(CellTable::new);
+
+        return new Clusters(cells, maxRadius);
+    }
+
+    private CellTable clusterRange(Coordinates coordinates, int start, int end) {
+        CellTable cells = new CellTable();
+        for (int i = start; i < end; i++) {
+            double x = coordinates.x(i);
+            double y = coordinates.y(i);
+            if (Double.isNaN(x) || Double.isNaN(y)) continue;
+            int column = (int) Math.floor(x / cellWidth);
+            int row = (int) Math.floor(y / cellHeight);
+            cells.add(((long) column << 32) | (row & 0xffffffffL), i, x, y, coordinates.r(i));
+        }
+        return cells;
+    }
+
+    /**
+     * The bubbles resulting from clustering, in the order of their first datapoint.
+     */
+    public static class Clusters {
+        private final double[] x;
+        private final double[] y;
+        private final double[] r;
+        private final int[] counts;
+        private final int[] sourceIndices;
+
+        private Clusters(CellTable cells, double maxRadius) {
+            int size = cells.size;
+            // sort the cells by their first datapoint, so that the order of the datapoints is kept
+            long[] order = new long[size];
+            for (int cell = 0; cell < size; cell++) {
+                order[cell] = ((long) cells.first[cell] << 32) | cell;
+            }
+            Arrays.sort(order);
+
+            x = new double[size];
+            y = new double[size];
+            r = new double[size];
+            counts = new int[size];
+            sourceIndices = new int[size];
+            for (int i = 0; i < size; i++) {
+                int cell = (int) order[i];
+                int count = cells.counts[cell];
+                x[i] = cells.sumsX[cell] / count;
+                y[i] = cells.sumsY[cell] / count;
+                r[i] = cells.radii[cell] == 0 ? Double.NaN : Math.sqrt(cells.sumsR2[cell]);
+                if (r[i] > maxRadius) r[i] = maxRadius;
+                counts[i] = count;
+                sourceIndices[i] = cells.first[cell];
+            }
+        }
+
+        public int size() {
+            return x.length;
+        }
+
+        public double getX(int index) {
+            return x[index];
+        }
+
+        public double getY(int index) {
+            return y[index];
+        }
+
+        /**
+         * @param index The index of the merged bubble.
+         * @return The radius of the merged bubble, <code>NaN</code> if none of the merged datapoints had a radius.
+         */
+        public double getR(int index) {
+            return r[index];
+        }
+
+        public int getCount(int index) {
+            return counts[index];
+        }
+
+        /**
+         * @return For every merged bubble, the index of the first of its datapoints in the original data. These are
+         * used to pick the per-datapoint attributes of the merged bubbles.
+         */
+        public int[] getSourceIndices() {
+            return sourceIndices;
+        }
+
+        public void writeJson(JsonWriter writer) {
+            writer.beginArray();
+            for (int i = 0; i < x.length; i++) {
+                writer.beginObject()
+                        .name("x").value(x[i])
+                        .name("y").value(y[i]);
+                if (!Double.isNaN(r[i])) writer.name("r").value(r[i]);
+                writer.name("count").value(counts[i]);
+                writer.endObject();
+            }
+            writer.endArray();
+        }
+    }
+
+    private interface Coordinates {
+        double x(int index);
+
+        double y(int index);
+
+        double r(int index);
+    }
+
+    private static class ColumnarCoordinates implements Coordinates {
+        private final BubbleChartDatapointList datapoints;
+
+        private ColumnarCoordinates(BubbleChartDatapointList datapoints) {
+            this.datapoints = datapoints;
+        }
+
+        public double x(int index) {
+            return datapoints.getX(index);
+        }
+
+        public double y(int index) {
+            return datapoints.getY(index);
+        }
+
+        public double r(int index) {
+            return datapoints.getR(index);
+        }
+    }
+
+    private static class ObjectCoordinates implements Coordinates {
+        private final List<? extends BubbleChartDatapoint> datapoints;
+
+        private ObjectCoordinates(List<? extends BubbleChartDatapoint> datapoints) {
+            this.datapoints = datapoints;
+        }
+
+        public double x(int index) {
+            return toDouble(datapoints.get(index).getX());
+        }
+
+        public double y(int index) {
+            return toDouble(datapoints.get(index).getY());
+        }
+
+        public double r(int index) {
+            return toDouble(datapoints.get(index).getR());
+        }
+
+        private static double toDouble(Number value) {
+            return value == null ? Double.NaN : value.doubleValue();
+        }
+    }
+
+    /**
+     * Open addressing hash table from cell keys to the accumulated values of the datapoints in the cell.
+     */
+    private static class CellTable {
+        private long[] keys = new long[64];
+        private int[] slots = new int[64];
+        private int size = 0;
+
+        private int[] first = new int[32];
+        private int[] counts = new int[32];
+        private int[] radii = new int[32];
+        private double[] sumsX = new double[32];
+        private double[] sumsY = new double[32];
+        private double[] sumsR2 = new double[32];
+
+        private CellTable() {
+            Arrays.fill(slots, -1);
+        }
+
+        private void add(long key, int index, double x, double y, double r) {
+            int cell = cellFor(key, index);
+            counts[cell]++;
+            sumsX[cell] += x;
+            sumsY[cell] += y;
+            if (!Double.isNaN(r)) {
+                radii[cell]++;
+                sumsR2[cell] += r * r;
+            }
+        }
+
+        private CellTable merge(CellTable other) {
+            for (int slot = 0; slot < other.slots.length; slot++) {
+                int otherCell = other.slots[slot];
+                if (otherCell == -1) continue;
+                int cell = cellFor(other.keys[slot], other.first[otherCell]);
+                first[cell] = Math.min(first[cell], other.first[otherCell]);
+                counts[cell] += other.counts[otherCell];
+                radii[cell] += other.radii[otherCell];
+                sumsX[cell] += other.sumsX[otherCell];
+                sumsY[cell] += other.sumsY[otherCell];
+                sumsR2[cell] += other.sumsR2[otherCell];
+            }
+            return this;
+        }
+
+        /**
+         * @return The cell for the key, a new cell starting at the given datapoint index if there is none yet.
+         */
+        private int cellFor(long key, int index) {
+            int mask = slots.length - 1;
+            int slot = hash(key) & mask;
+            while (slots[slot] != -1) {
+                if (keys[slot] == key) return slots[slot];
+                slot = (slot + 1) & mask;
+            }
+
+            int cell = size++;
+            if (cell == counts.length) {
+                int capacity = cell * 2;
+                first = Arrays.copyOf(first, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+                radii = Arrays.copyOf(radii, capacity);
+                sumsX = Arrays.copyOf(sumsX, capacity);
+                sumsY = Arrays.copyOf(sumsY, capacity);
+                sumsR2 = Arrays.copyOf(sumsR2, capacity);
+            }
+            first[cell] = index;
+            keys[slot] = key;
+            slots[slot] = cell;
+            if (size * 2 > slots.length) rehash();
+            return cell;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldSlots = slots;
+            keys = new long[oldKeys.length * 2];
+            slots = new int[oldSlots.length * 2];
+            Arrays.fill(slots, -1);
+            int mask = slots.length - 1;
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] == -1) continue;
+                int slot = hash(oldKeys[i]) & mask;
+                while (slots[slot] != -1) slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                slots[slot] = oldSlots[i];
+            }
+        }
+
+        private static int hash(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return (int) key;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package de.yanwittmann.j2chartjs.decimation;
+
+import de.yanwittmann.util.DoubleSequence;
+
+import java.util.BitSet;
+
+/**
+ * Reduces the amount of datapoints of a chart while it is being built by selecting the datapoints that are
+ * transferred to the browser.<br>
+ * The indices selected for all datasets of a chart are combined, so that the labels and the per-datapoint attributes
+ * of every dataset stay aligned.
+ */
+public interface DataDecimation {
+
+    /**
+     * Marks the indices of the datapoints to keep. Indices marked for other datasets before must not be cleared.
+     *
+     * @param values   The values of a dataset, using their index as x value.
+     * @param selected The indices of the datapoints to keep.
+     */
+    void select(DoubleSequence values, BitSet selected);
+}
@@ -0,0 +1,252 @@
+package de.yanwittmann.j2chartjs.decimation;
+
+import de.yanwittmann.j2chartjs.datapoint.ScatterChartDatapoint;
+import de.yanwittmann.j2chartjs.dataset.ScatterChartDataset;
+import de.yanwittmann.util.Util;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reduces a large amount of scatter datapoints by counting them on a two-dimensional grid. Every occupied cell is
+ * represented by a single datapoint at the centroid of the datapoints in it. The amount of datapoints per cell can be
+ * shown using the radius or the opacity of the representative datapoints.<br>
+ * Datapoints can be added one by one, so the input does not have to fit into memory. To reduce the input in
+ * parallel, let every thread fill an {@link #emptyCopy()} of the grid and {@link #merge(DensityGrid)} them
+ * afterwards, for example using <code>stream.parallel().collect(grid::emptyCopy, DensityGrid::add,
+ * DensityGrid::merge)</code>.<br>
+ * Datapoints outside of the bounds of the grid or with <code>NaN</code> or <code>null</code> coordinates are
+ * ignored.<br>
+ * The grid is applied to a dataset by {@link #applyTo(ScatterChartDataset)} only, so datapoints added to the grid and
+ * changes of its settings afterwards do not affect the dataset or its fingerprint until the grid is applied again.
+ */
+public class DensityGrid {
+
+    private final double minX, maxX, minY, maxY;
+    private final int columns, rows;
+    private final double cellsPerX, cellsPerY;
+
+    private final long[] counts;
+    private final double[] sumsX;
+    private final double[] sumsY;
+    private long ignored = 0;
+
+    private double minRadius = Double.NaN, maxRadius = Double.NaN;
+    private Color alphaColor = null;
+    private double minAlpha, maxAlpha;
+
+    /**
+     * @param minX    The lower bound of the x values.
+     * @param maxX    The upper bound of the x values.
+     * @param minY    The lower bound of the y values.
+     * @param maxY    The upper bound of the y values.
+     * @param columns The amount of cells along the x axis.
+     * @param rows    The amount of cells along the y axis.
+     */
+    public DensityGrid(double minX, double maxX, double minY, double maxY, int columns, int rows) {
+        if (!(maxX > minX) || !(maxY > minY)) {
+            throw new IllegalArgumentException("The upper bounds have to be larger than the lower bounds: x " + minX + " - " + maxX + ", y " + minY + " - " + maxY);
+        }
+        if (columns < 1 || rows < 1 || (long) columns * rows > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Invalid amount of cells: " + columns + " x " + rows);
+        }
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.columns = columns;
+        this.rows = rows;
+        this.cellsPerX = columns / (maxX - minX);
+        this.cellsPerY = rows / (maxY - minY);
+        this.counts = new long[columns * rows];
+        this.sumsX = new double[columns * rows];
+        this.sumsY = new double[columns * rows];
+    }
+
+    /**
+     * @return A new grid with the same bounds, cells and styling as this one, but without any datapoints.
+     */
+    public DensityGrid emptyCopy() {
+        DensityGrid copy = new DensityGrid(minX, maxX, minY, maxY, columns, rows);
+        copy.minRadius = minRadius;
+        copy.maxRadius = maxRadius;
+        copy.alphaColor = alphaColor;
+        copy.minAlpha = minAlpha;
+        copy.maxAlpha = maxAlpha;
+        return copy;
+    }
+
+    public DensityGrid add(double x, double y) {
+        if (!(x >= minX && x <= maxX) || !(y >= minY && y <= maxY)) {
+            ignored++;
+            return this;
+        }
+        // values on the upper bound belong to the last cell, values just below it may be rounded up to it
+        int column = Math.min(columns - 1, (int) ((x - minX) * cellsPerX));
+        int row = Math.min(rows - 1, (int) ((y - minY) * cellsPerY));
+        int cell = row * columns + column;
+        counts[cell]++;
+        sumsX[cell] += x;
+        sumsY[cell] += y;
+        return this;
+    }
+
+    /**
+     * @param datapoint The datapoint to add. Datapoints that are <code>null</code> or have a <code>null</code>
+     *                  coordinate are ignored, like <code>NaN</code> coordinates.
+     * @return This instance to allow for API chaining.
+     */
+    public DensityGrid add(ScatterChartDatapoint datapoint) {
+        if (datapoint == null || datapoint.getX() == null || datapoint.getY() == null) {
+            ignored++;
+            return this;
+        }
+        return add(datapoint.getX().doubleValue(), datapoint.getY().doubleValue());
+    }
+
+    /**
+     * Adds a datapoint for every pair of values in the arrays.
+     *
+     * @param x The x values.
+     * @param y The y values, has to be of the same length as the x values.
+     * @return This instance to allow for API chaining.
+     */
+    public DensityGrid addAll(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y values have to be of the same length: " + x.length + " != " + y.length);
+        }
+        for (int i = 0; i < x.length; i++) {
+            add(x[i], y[i]);
+        }
+        return this;
+    }
+
+    public DensityGrid addAll(Iterable<? extends ScatterChartDatapoint> datapoints) {
+        for (ScatterChartDatapoint datapoint : datapoints) {
+            add(datapoint);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the datapoints counted by another grid with the same bounds and cells to this grid.
+     *
+     * @param other The grid to merge into this one.
+     * @return This instance to allow for API chaining.
+     */
+    public DensityGrid merge(DensityGrid other) {
+        if (other.minX != minX || other.maxX != maxX || other.minY != minY || other.maxY != maxY || other.columns != columns || other.rows != rows) {
+            throw new IllegalArgumentException("Only grids with the same bounds and cells can be merged");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+            sumsX[i] += other.sumsX[i];
+            sumsY[i] += other.sumsY[i];
+        }
+        ignored += other.ignored;
+        return this;
+    }
+
+    /**
+     * Shows the amount of datapoints in a cell using the radius of the representative datapoint. The area of the
+     * datapoint grows linearly with the amount of datapoints.
+     *
+     * @param minRadius The radius of datapoints representing a single datapoint.
+     * @param maxRadius The radius of the datapoint representing the most datapoints.
+     * @return This instance to allow for API chaining.
+     */
+    public DensityGrid setRadiusRange(double minRadius, double maxRadius) {
+        this.minRadius = minRadius;
+        this.maxRadius = maxRadius;
+        return this;
+    }
+
+    /**
+     * Shows the amount of datapoints in a cell using the opacity of the background color of the representative
+     * datapoint.
+     *
+     * @param color    The background color of the datapoints.
+     * @param minAlpha The opacity of datapoints representing a single datapoint, between <code>0</code> and
+     *                 <code>1</code>.
+     * @param maxAlpha The opacity of the datapoint representing the most datapoints.
+     * @return This instance to allow for API chaining.
+     */
+    public DensityGrid setAlphaRange(Color color, double minAlpha, double maxAlpha) {
+        this.alphaColor = color;
+        this.minAlpha = minAlpha;
+        this.maxAlpha = maxAlpha;
+        return this;
+    }
+
+    /**
+     * @param column The column of the cell, between <code>0</code> and the amount of columns.
+     * @param row    The row of the cell, between <code>0</code> and the amount of rows.
+     * @return The amount of datapoints in the cell.
+     * @throws IndexOutOfBoundsException If the cell is outside of the grid.
+     */
+    public long getCount(int column, int row) {
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Cell " + column + ", " + row + " is outside of the grid of " + columns + " x " + rows + " cells");
+        }
+        return counts[row * columns + column];
+    }
+
+    /**
+     * @return The amount of datapoints that were ignored, because they were outside of the bounds of the grid or had
+     * <code>NaN</code> or <code>null</code> coordinates.
+     */
+    public long getIgnoredCount() {
+        return ignored;
+    }
+
+    public int getOccupiedCellCount() {
+        int occupied = 0;
+        for (long count : counts) {
+            if (count > 0) occupied++;
+        }
+        return occupied;
+    }
+
+    /**
+     * Replaces the data of the dataset with one datapoint per occupied cell. If configured, the radius and background
+     * color lists of the dataset are replaced as well.
+     *
+     * @param dataset The dataset to fill.
+     * @return The dataset to allow for API chaining.
+     */
+    public ScatterChartDataset applyTo(ScatterChartDataset dataset) {
+        int occupied = getOccupiedCellCount();
+        double[] x = new double[occupied];
+        double[] y = new double[occupied];
+        long[] cellCounts = new long[occupied];
+        long maxCount = 0;
+        int index = 0;
+        for (int cell = 0; cell < counts.length; cell++) {
+            long count = counts[cell];
+            if (count == 0) continue;
+            x[index] = sumsX[cell] / count;
+            y[index] = sumsY[cell] / count;
+            cellCounts[index++] = count;
+            maxCount = Math.max(maxCount, count);
+        }
+        dataset.setXY(x, y);
+
+        if (!Double.isNaN(minRadius)) {
+            List<Number> radiuses = new ArrayList<>(occupied);
+            for (long count : cellCounts) {
+                radiuses.add(maxCount == 1 ? minRadius : Util.mapRange(1, Math.sqrt(maxCount), minRadius, maxRadius, Math.sqrt(count)));
+            }
+            dataset.setPointRadius(radiuses);
+        }
+        if (alphaColor != null) {
+            List<Color> colors = new ArrayList<>(occupied);
+            for (long count : cellCounts) {
+                double alpha = maxCount == 1 ? minAlpha : Util.mapRange(1, maxCount, minAlpha, maxAlpha, count);
+                colors.add(new Color(alphaColor.getRed(), alphaColor.getGreen(), alphaColor.getBlue(), (int) Math.round(Math.max(0, Math.min(1, alpha)) * 255)));
+            }
+            dataset.setBackgroundColor(colors);
+        }
+        return dataset;
+    }
+}
@@ -0,0 +1,100 @@
+package de.yanwittmann.j2chartjs.decimation;
+
+import de.yanwittmann.util.DoubleSequence;
+
+import java.util.BitSet;
+
+/**
+ * Reduces the datapoints to a target amount using the Largest-Triangle-Three-Buckets algorithm, which keeps the
+ * visual shape of a line. The first and last datapoints are always kept, the others are split into buckets of which
+ * the datapoint forming the largest triangle with the previously selected datapoint and the average of the next
+ * bucket is kept.<br>
+ * <code>NaN</code> values are ignored, but one of them is kept per bucket that contains some, so that gaps in the
+ * line remain visible. These gap markers are kept in addition to the target amount, so a dataset containing
+ * <code>NaN</code> values is reduced to at most <code>2 * targetPoints - 2</code> datapoints.
+ */
+public class LttbDecimation implements DataDecimation {
+
+    private final int targetPoints;
+
+    /**
+     * @param targetPoints The amount of datapoints to keep per dataset, at least <code>3</code>, not counting the
+     *                     markers of gaps. About the width of the chart in pixels is a good choice.
+     */
+    public LttbDecimation(int targetPoints) {
+        if (targetPoints < 3) throw new IllegalArgumentException("At least 3 datapoints have to be kept: " + targetPoints);
+        this.targetPoints = targetPoints;
+    }
+
+    public int getTargetPoints() {
+        return targetPoints;
+    }
+
+    @Override
+    public void select(DoubleSequence values, BitSet selected) {
+        int size = values.size();
+        if (size <= targetPoints) {
+            selected.set(0, size);
+            return;
+        }
+
+        double bucketSize = (double) (size - 2) / (targetPoints - 2);
+        int previous = 0;
+        selected.set(0);
+
+        for (int bucket = 0; bucket < targetPoints - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = bucket == targetPoints - 3 ? size - 1 : (int) ((bucket + 1) * bucketSize) + 1;
+
+            // average of the next bucket, the last datapoint is its own bucket
+            int nextStart = end;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            int count = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                double value = values.getDouble(i);
+                if (!Double.isNaN(value)) {
+                    averageX += i;
+                    averageY += value;
+                    count++;
+                }
+            }
+
+            double previousY = values.getDouble(previous);
+            if (count > 0) {
+                averageX /= count;
+                averageY /= count;
+            } else {
+                averageX = (nextStart + nextEnd - 1) / 2.0;
+                averageY = Double.isNaN(previousY) ? 0 : previousY;
+            }
+            if (Double.isNaN(previousY)) previousY = averageY;
+
+            double maxArea = -1;
+            int maxIndex = -1;
+            int gapIndex = -1;
+            for (int i = start; i < end; i++) {
+                double value = values.getDouble(i);
+                if (Double.isNaN(value)) {
+                    if (gapIndex == -1) gapIndex = i;
+                    continue;
+                }
+                // twice the area of the triangle, the factor does not matter for the comparison
+                double area = Math.abs((previous - averageX) * (value - previousY) - (previous - i) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            if (gapIndex != -1) selected.set(gapIndex);
+            if (maxIndex != -1) {
+                selected.set(maxIndex);
+                previous = maxIndex;
+            }
+        }
+
+        selected.set(size - 1);
+    }
+}
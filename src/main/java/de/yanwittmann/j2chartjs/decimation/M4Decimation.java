@@ -0,0 +1,77 @@
+package de.yanwittmann.j2chartjs.decimation;
+
+import de.yanwittmann.util.DoubleSequence;
+
+import java.util.BitSet;
+
+/**
+ * Splits the datapoints into a fixed amount of buckets and keeps the first, the minimum, the maximum and the last
+ * datapoint of every bucket. Unlike {@link LttbDecimation}, this keeps every extreme value, so no spike gets lost.
+ * Using about the width of the chart in pixels as amount of buckets draws the same line as using all datapoints.<br>
+ * The datapoints are selected in a single pass. <code>NaN</code> values are never selected as minimum or maximum.
+ */
+public class M4Decimation implements DataDecimation {
+
+    private final int buckets;
+
+    /**
+     * @param buckets The amount of buckets, up to four datapoints are kept per bucket.
+     */
+    public M4Decimation(int buckets) {
+        if (buckets < 1) throw new IllegalArgumentException("At least 1 bucket is required: " + buckets);
+        this.buckets = buckets;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    @Override
+    public void select(DoubleSequence values, BitSet selected) {
+        int size = values.size();
+        if (size <= buckets * 4L) {
+            selected.set(0, size);
+            return;
+        }
+
+        int bucket = 0;
+        int bucketEnd = bucketStart(1, size);
+        int minIndex = -1;
+        int maxIndex = -1;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        selected.set(0);
+
+        for (int i = 0; i < size; i++) {
+            if (i == bucketEnd) {
+                if (minIndex != -1) selected.set(minIndex);
+                if (maxIndex != -1) selected.set(maxIndex);
+                selected.set(i - 1);
+                selected.set(i);
+                bucket++;
+                bucketEnd = bucketStart(bucket + 1, size);
+                minIndex = -1;
+                maxIndex = -1;
+                min = Double.POSITIVE_INFINITY;
+                max = Double.NEGATIVE_INFINITY;
+            }
+            double value = values.getDouble(i);
+            if (value < min) {
+                min = value;
+                minIndex = i;
+            }
+            if (value > max) {
+                max = value;
+                maxIndex = i;
+            }
+        }
+
+        if (minIndex != -1) selected.set(minIndex);
+        if (maxIndex != -1) selected.set(maxIndex);
+        selected.set(size - 1);
+    }
+
+    private int bucketStart(int bucket, int size) {
+        return (int) ((long) bucket * size / buckets);
+    }
+}
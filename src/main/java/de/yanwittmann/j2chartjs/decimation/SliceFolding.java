@@ -0,0 +1,183 @@
+package de.yanwittmann.j2chartjs.decimation;
+
+import de.yanwittmann.util.DoubleSequence;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the largest slices of pie, doughnut and polar area charts and merges all other slices into a single slice,
+ * labeled "Other" by default. The slices are ranked by the sum of their absolute values over all datasets. The
+ * per-slice attributes of the merged slice, like its color, are taken from the first of the merged slices.<br>
+ * The largest slices are found using a heap bounded to the amount of kept slices, so no full sort of the slices is
+ * required.
+ */
+public class SliceFolding {
+
+    private final int keptSlices;
+    private String otherLabel = "Other";
+    private volatile long version = Versions.next();
+
+    /**
+     * @param keptSlices The amount of slices to keep, in addition to the merged slice.
+     */
+    public SliceFolding(int keptSlices) {
+        if (keptSlices < 1) throw new IllegalArgumentException("At least 1 slice has to be kept: " + keptSlices);
+        this.keptSlices = keptSlices;
+    }
+
+    /**
+     * @return A version that changes whenever the settings of this folding are modified, used for the
+     * fingerprint of the chart data it is applied to.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private SliceFolding modified() {
+        version = Versions.next();
+        return this;
+    }
+
+    public int getKeptSlices() {
+        return keptSlices;
+    }
+
+    public String getOtherLabel() {
+        return otherLabel;
+    }
+
+    public SliceFolding setOtherLabel(String otherLabel) {
+        this.otherLabel = otherLabel;
+        return modified();
+    }
+
+    /**
+     * Selects the slices to keep.
+     *
+     * @param datasets The data of all datasets of the chart.
+     * @param size     The amount of slices.
+     * @return The ascending indices of the kept slices, followed by the index of the first merged slice. <code>null</code>
+     * if there are not enough slices to merge at least two of them.
+     */
+    public int[] select(List<? extends List<? extends Number>> datasets, int size) {
+        if (size <= keptSlices + 1) return null;
+
+        double[] totals = new double[size];
+        for (List<? extends Number> data : datasets) {
+            if (data instanceof DoubleSequence) {
+                DoubleSequence sequence = (DoubleSequence) data;
+                for (int i = 0; i < sequence.size(); i++) {
+                    double value = sequence.getDouble(i);
+                    if (!Double.isNaN(value)) totals[i] += Math.abs(value);
+                }
+            } else {
+                for (int i = 0; i < data.size(); i++) {
+                    Number value = data.get(i);
+                    if (value != null) totals[i] += Math.abs(value.doubleValue());
+                }
+            }
+        }
+
+        // min-heap of the largest slices found so far, the smallest of them at the root
+        int[] heap = new int[keptSlices];
+        int heapSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (heapSize < keptSlices) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, totals);
+            } else if (totals[i] > totals[heap[0]]) {
+                heap[0] = i;
+                siftDown(heap, heapSize, totals);
+            }
+        }
+
+        Arrays.sort(heap);
+        int[] selection = Arrays.copyOf(heap, keptSlices + 1);
+        // the first slice that is not kept represents the merged slice
+        int representative = 0;
+        for (int kept : heap) {
+            if (kept != representative) break;
+            representative++;
+        }
+        selection[keptSlices] = representative;
+        return selection;
+    }
+
+    /**
+     * Writes the values of the kept slices followed by the sum of the merged slices as array.
+     *
+     * @param writer    The writer to write the values to.
+     * @param data      The data of a dataset.
+     * @param selection The selection created by {@link #select(List, int)}.
+     */
+    public void writeFoldedData(JsonWriter writer, List<? extends Number> data, int[] selection) {
+        double other = 0;
+        int next = 0;
+        for (int i = 0; i < data.size(); i++) {
+            if (next < keptSlices && selection[next] == i) {
+                next++;
+            } else {
+                Number value = data.get(i);
+                if (value != null) other += value.doubleValue();
+            }
+        }
+        writer.beginArray();
+        for (int i = 0; i < keptSlices; i++) {
+            int index = selection[i];
+            if (index < data.size()) writer.value(data.get(index));
+            else writer.nullValue();
+        }
+        writer.value(other);
+        writer.endArray();
+    }
+
+    /**
+     * Writes the labels of the kept slices followed by the label of the merged slice.
+     *
+     * @param writer    The writer to write the labels to.
+     * @param labels    The labels of the chart.
+     * @param selection The selection created by {@link #select(List, int)}.
+     */
+    public void writeFoldedLabels(JsonWriter writer, List<String> labels, int[] selection) {
+        for (int i = 0; i < keptSlices; i++) {
+            int index = selection[i];
+            writer.value(index < labels.size() ? labels.get(index) : "");
+        }
+        writer.value(otherLabel);
+    }
+
+    private static void siftUp(int[] heap, int position, double[] totals) {
+        int element = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isSmaller(element, heap[parent], totals)) break;
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = element;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] totals) {
+        int element = heap[0];
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) break;
+            if (child + 1 < size && isSmaller(heap[child + 1], heap[child], totals)) child++;
+            if (!isSmaller(heap[child], element, totals)) break;
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = element;
+    }
+
+    /**
+     * Slices with equal totals are ranked by their index, so that earlier slices are kept.
+     */
+    private static boolean isSmaller(int a, int b, double[] totals) {
+        return totals[a] < totals[b] || (totals[a] == totals[b] && a > b);
+    }
+}
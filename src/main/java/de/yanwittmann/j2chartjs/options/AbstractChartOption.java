@@ -1,8 +1,196 @@
 package de.yanwittmann.j2chartjs.options;
 
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.Versions;
 import org.json.JSONObject;
 
-public abstract class AbstractChartOption {
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
-    public abstract JSONObject toJson();
+/**
+ * Subclasses have to override either {@link #writeProperties(JsonWriter)} or {@link #toJson()}.<br>
+ * Options memoize their serialized form. The memoized form is reused as long as neither this option nor any of the
+ * options nested in it have been modified through their setters since it was created. Lists or other objects that are
+ * modified after being passed to an option require a call to {@link #invalidate()}.
+ */
+public abstract class AbstractChartOption implements JsonWritable {
+
+    /**
+     * The options that are currently being serialized on this thread, to record the nested options they depend on.
+     */
+    private final static ThreadLocal<List<Recording>> RECORDINGS = ThreadLocal.withInitial(ArrayList::new);
+
+    private volatile long version = Versions.next();
+    private volatile Memo memo;
+
+    @Override
+    public void writeJson(JsonWriter writer) {
+        Memo memo = currentMemo(writer);
+        List<Recording> recordings = RECORDINGS.get();
+        if (!recordings.isEmpty()) recordings.get(recordings.size() - 1).addAll(memo);
+        writer.rawValue(memo.fragment);
+    }
+
+    /**
+     * @return The memoized serialization for the settings of the writer, serializing this option if it is not valid.
+     */
+    private Memo currentMemo(JsonWriter writer) {
+        Memo memo = this.memo;
+        if (memo == null || !memo.isValid(writer)) {
+            memo = serialize(writer);
+            this.memo = memo;
+        }
+        return memo;
+    }
+
+    private Memo serialize(JsonWriter writer) {
+        Recording recording = new Recording();
+        recording.add(this, version);
+        StringBuilder builder = new StringBuilder();
+        JsonWriter fragmentWriter = writer.copySettings(builder);
+        List<Recording> recordings = RECORDINGS.get();
+        recordings.add(recording);
+        try {
+            fragmentWriter.beginObject();
+            writeProperties(fragmentWriter);
+            fragmentWriter.endObject();
+        } finally {
+            recordings.remove(recordings.size() - 1);
+        }
+        return new Memo(builder.toString(), writer, recording);
+    }
+
+    /**
+     * Writes the properties of this option into the currently open object of the writer.<br>
+     * The default implementation copies the properties of {@link #toJson()}, so subclasses have to override either
+     * this method or {@link #toJson()}.
+     *
+     * @param writer The writer to write the properties to.
+     * @throws IllegalStateException If the subclass overrides neither this method nor {@link #toJson()}.
+     */
+    protected void writeProperties(JsonWriter writer) {
+        if (!overridesToJson()) {
+            throw new IllegalStateException(getClass().getName() + " has to override writeProperties(JsonWriter) or toJson()");
+        }
+        JSONObject json = toJson();
+        for (String key : json.keySet()) {
+            writer.property(key, json.get(key));
+        }
+    }
+
+    public JSONObject toJson() {
+        return new JSONObject(JsonWriter.serialize(this::writeJson));
+    }
+
+    private boolean overridesToJson() {
+        try {
+            return getClass().getMethod("toJson").getDeclaringClass() != AbstractChartOption.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return A version that changes whenever this option is modified through its setters. Versions are unique across
+     * all options.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Discards the memoized serialization of this option and of all options containing it. This is done
+     * automatically by the setters, but has to be called after modifying a list or object that was passed to this
+     * option.
+     */
+    public void invalidate() {
+        modified();
+    }
+
+    /**
+     * Removes all properties of this option to reuse it for another chart. Maps of nested options are cleared while
+     * keeping their capacity. Nested options are removed from this option, but are not reset themselves, since they
+     * may be shared with other options.
+     */
+    public void reset() {
+        modified();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> T modified() {
+        version = Versions.next();
+        return (T) this;
+    }
+
+    /**
+     * Combines the versions of this option and all options nested in it into a value that changes whenever any of
+     * them is modified. The nested options are known from the memoized serialization, so the option is only
+     * serialized if the memoized serialization is not valid anymore.
+     *
+     * @param writer A writer with the settings the option will be serialized with. Nothing is written into it.
+     * @return The fingerprint.
+     */
+    public long fingerprint(JsonWriter writer) {
+        Memo memo = currentMemo(writer);
+        long fingerprint = memo.options.length;
+        for (long version : memo.versions) {
+            fingerprint = Versions.mix(fingerprint, version);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * The options and their versions a serialization depends on.
+     */
+    private static class Recording {
+        private AbstractChartOption[] options = new AbstractChartOption[4];
+        private long[] versions = new long[4];
+        private int size = 0;
+
+        private void add(AbstractChartOption option, long version) {
+            if (size == options.length) {
+                options = Arrays.copyOf(options, size * 2);
+                versions = Arrays.copyOf(versions, size * 2);
+            }
+            options[size] = option;
+            versions[size++] = version;
+        }
+
+        private void addAll(Memo memo) {
+            for (int i = 0; i < memo.options.length; i++) {
+                add(memo.options[i], memo.versions[i]);
+            }
+        }
+    }
+
+    private static class Memo {
+        private final String fragment;
+        private final boolean compactDatapointAttributes;
+        private final int decimalPrecision;
+        private final AbstractChartOption[] options;
+        private final long[] versions;
+
+        private Memo(String fragment, JsonWriter writer, Recording recording) {
+            this.fragment = fragment;
+            this.compactDatapointAttributes = writer.isCompactDatapointAttributes();
+            this.decimalPrecision = writer.getDecimalPrecision();
+            this.options = Arrays.copyOf(recording.options, recording.size);
+            this.versions = Arrays.copyOf(recording.versions, recording.size);
+        }
+
+        /**
+         * @return Whether the serialization is valid for the settings of the writer and no option it depends on was
+         * modified since.
+         */
+        private boolean isValid(JsonWriter writer) {
+            if (compactDatapointAttributes != writer.isCompactDatapointAttributes()) return false;
+            if (decimalPrecision != writer.getDecimalPrecision()) return false;
+            for (int i = 0; i < options.length; i++) {
+                if (options[i].version != versions[i]) return false;
+            }
+            return true;
+        }
+    }
 }
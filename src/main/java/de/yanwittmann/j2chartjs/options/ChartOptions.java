@@ -8,8 +8,7 @@ import de.yanwittmann.j2chartjs.options.plugins.title.TitleOption;
 import de.yanwittmann.j2chartjs.options.plugins.tooltip.TooltipOption;
 import de.yanwittmann.j2chartjs.options.scale.LinearScaleOption;
 import de.yanwittmann.j2chartjs.options.scale.RadialScaleOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -68,47 +67,47 @@ public class ChartOptions extends AbstractChartOption {
 
     public ChartOptions setInteraction(InteractionOption interaction) {
         this.interaction = interaction;
-        return this;
+        return modified();
     }
 
     public ChartOptions setLayout(LayoutOption layout) {
         this.layout = layout;
-        return this;
+        return modified();
     }
 
     public ChartOptions setLegend(LegendOption legend) {
         this.legend = legend;
-        return this;
+        return modified();
     }
 
     public ChartOptions setTitle(TitleOption title) {
         this.title = title;
-        return this;
+        return modified();
     }
 
     public ChartOptions setSubtitle(AbstractChartOption subtitle) {
         this.subtitle = subtitle;
-        return this;
+        return modified();
     }
 
     public ChartOptions setTooltip(TooltipOption tooltip) {
         this.tooltip = tooltip;
-        return this;
+        return modified();
     }
 
     public ChartOptions setChartAnimation(ChartAnimationOption animation) {
         this.animation = animation;
-        return this;
+        return modified();
     }
 
     public ChartOptions addPropertyAnimation(AnimationPropertyOption key, PropertyAnimationOption animation) {
         this.animations.put(key.getKey(), animation);
-        return this;
+        return modified();
     }
 
     public ChartOptions addTransition(TransitionAnimationType key, TransitionAnimationOption transitions) {
         this.transitions.put(key.getKey(), transitions);
-        return this;
+        return modified();
     }
 
     /**
@@ -123,7 +122,7 @@ public class ChartOptions extends AbstractChartOption {
      */
     public ChartOptions addScale(String key, LinearScaleOption linearScaleOption) {
         this.scales.put(key, linearScaleOption);
-        return this;
+        return modified();
     }
 
     /**
@@ -137,12 +136,12 @@ public class ChartOptions extends AbstractChartOption {
      */
     public ChartOptions addScale(String key, RadialScaleOption radialScaleOption) {
         this.scales.put(key, radialScaleOption);
-        return this;
+        return modified();
     }
 
     public ChartOptions clearScales() {
         this.scales.clear();
-        return this;
+        return modified();
     }
 
     public ChartOptions setOption(AbstractChartOption option) {
@@ -159,101 +158,94 @@ public class ChartOptions extends AbstractChartOption {
         } else if (option instanceof ChartAnimationOption) {
             animation = option;
         }
-        return this;
+        return modified();
     }
 
     public ChartOptions setAnimationsActive(boolean active) {
         animationsActive = active;
-        return this;
+        return modified();
     }
 
     public ChartOptions setResponsive(Boolean responsive) {
         this.responsive = responsive;
-        return this;
+        return modified();
     }
 
     public ChartOptions setMaintainAspectRatio(Boolean maintainAspectRatio) {
         this.maintainAspectRatio = maintainAspectRatio;
-        return this;
+        return modified();
     }
 
     public ChartOptions setAspectRatio(Double aspectRatio) {
         this.aspectRatio = aspectRatio;
-        return this;
+        return modified();
     }
 
     public ChartOptions setResizeDelay(Integer resizeDelay) {
         this.resizeDelay = resizeDelay;
-        return this;
+        return modified();
     }
 
     public ChartOptions setDevicePixelRatio(Integer devicePixelRatio) {
         this.devicePixelRatio = devicePixelRatio;
-        return this;
+        return modified();
     }
 
     public ChartOptions setLocale(String locale) {
         this.locale = locale;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
+    public void reset() {
+        interaction = null;
+        layout = null;
+        legend = null;
+        title = null;
+        subtitle = null;
+        tooltip = null;
+        animation = null;
+        scales.clear();
+        animations.clear();
+        transitions.clear();
+        animationsActive = null;
+        responsive = null;
+        maintainAspectRatio = null;
+        aspectRatio = null;
+        resizeDelay = null;
+        devicePixelRatio = null;
+        locale = null;
+        super.reset();
+    }
 
-        Util.addToJson(optionsJson, "interaction", interaction);
-        Util.addToJson(optionsJson, "layout", layout);
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("interaction", interaction);
+        writer.property("layout", layout);
 
         if (legend != null || title != null || subtitle != null || tooltip != null) {
-            JSONObject pluginsJson = new JSONObject();
-            Util.addToJson(pluginsJson, "legend", legend);
-            Util.addToJson(pluginsJson, "title", title);
-            Util.addToJson(pluginsJson, "subtitle", subtitle);
-            Util.addToJson(pluginsJson, "tooltip", tooltip);
-            optionsJson.put("plugins", pluginsJson);
+            writer.name("plugins").beginObject()
+                    .property("legend", legend)
+                    .property("title", title)
+                    .property("subtitle", subtitle)
+                    .property("tooltip", tooltip)
+                    .endObject();
         }
 
         if (Boolean.FALSE.equals(animationsActive)) {
-            optionsJson.put("animation", false);
+            writer.property("animation", false);
         } else {
-            if (animation != null) optionsJson.put("animation", animation.toJson());
-            if (animations.size() > 0) {
-                JSONObject animationsJson = new JSONObject();
-                for (Map.Entry<String, AbstractChartOption> entry : animations.entrySet()) {
-                    if (entry != null && entry.getKey() != null && entry.getValue() != null) {
-                        animationsJson.put(entry.getKey(), entry.getValue().toJson());
-                    }
-                }
-                optionsJson.put("animations", animationsJson);
-            }
-        }
-
-        if (scales.size() > 0) {
-            JSONObject scalesJson = new JSONObject();
-            for (Map.Entry<String, AbstractChartOption> entry : scales.entrySet()) {
-                if (entry != null && entry.getKey() != null && entry.getValue() != null) {
-                    scalesJson.put(entry.getKey(), entry.getValue().toJson());
-                }
-            }
-            optionsJson.put("scales", scalesJson);
-        }
-
-        if (transitions.size() > 0) {
-            JSONObject transitionsJson = new JSONObject();
-            for (Map.Entry<String, AbstractChartOption> entry : transitions.entrySet()) {
-                if (entry != null && entry.getKey() != null && entry.getValue() != null) {
-                    transitionsJson.put(entry.getKey(), entry.getValue().toJson());
-                }
-            }
-            optionsJson.put("transitions", transitionsJson);
+            writer.property("animation", animation);
+            if (animations.size() > 0) writer.property("animations", animations);
         }
 
-        Util.addToJson(optionsJson, "responsive", responsive);
-        Util.addToJson(optionsJson, "maintainAspectRatio", maintainAspectRatio);
-        Util.addToJson(optionsJson, "aspectRatio", aspectRatio);
-        Util.addToJson(optionsJson, "resizeDelay", resizeDelay);
-        Util.addToJson(optionsJson, "devicePixelRatio", devicePixelRatio);
+        if (scales.size() > 0) writer.property("scales", scales);
+        if (transitions.size() > 0) writer.property("transitions", transitions);
 
-        return optionsJson;
+        writer.property("responsive", responsive);
+        writer.property("maintainAspectRatio", maintainAspectRatio);
+        writer.property("aspectRatio", aspectRatio);
+        writer.property("resizeDelay", resizeDelay);
+        writer.property("devicePixelRatio", devicePixelRatio);
     }
 }
@@ -1,6 +1,9 @@
 package de.yanwittmann.j2chartjs.options.animation;
 
-public enum AnimationEasingType {
+import de.yanwittmann.util.JsonWritable;
+import de.yanwittmann.util.JsonWriter;
+
+public enum AnimationEasingType implements JsonWritable {
 
     LINEAR("linear"),
     EASE_IN_QUAD("easeInQuad"),
@@ -43,4 +46,9 @@ public enum AnimationEasingType {
     public String getKey() {
         return key;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) {
+        writer.value(key);
+    }
 }
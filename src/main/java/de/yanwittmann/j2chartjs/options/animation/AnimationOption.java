@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.options.animation;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 @SuppressWarnings("unchecked")
 public class AnimationOption<T> extends AbstractChartOption {
@@ -18,17 +17,17 @@ public class AnimationOption<T> extends AbstractChartOption {
 
     public T setDuration(Number duration) {
         this.duration = duration;
-        return (T) this;
+        return modified();
     }
 
     public T setDuration(int duration) {
         this.duration = duration;
-        return (T) this;
+        return modified();
     }
 
     public T setDuration(double duration) {
         this.duration = duration;
-        return (T) this;
+        return modified();
     }
 
     public Number getDelay() {
@@ -37,17 +36,17 @@ public class AnimationOption<T> extends AbstractChartOption {
 
     public T setDelay(Number delay) {
         this.delay = delay;
-        return (T) this;
+        return modified();
     }
 
     public T setDelay(int delay) {
         this.delay = delay;
-        return (T) this;
+        return modified();
     }
 
     public T setDelay(double delay) {
         this.delay = delay;
-        return (T) this;
+        return modified();
     }
 
     public AnimationEasingType getEasing() {
@@ -56,7 +55,7 @@ public class AnimationOption<T> extends AbstractChartOption {
 
     public T setEasing(AnimationEasingType easing) {
         this.easing = easing;
-        return (T) this;
+        return modified();
     }
 
     public Boolean getLoop() {
@@ -65,16 +64,23 @@ public class AnimationOption<T> extends AbstractChartOption {
 
     public T setLoop(Boolean loop) {
         this.loop = loop;
-        return (T) this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject animationJson = new JSONObject();
-        Util.addToJson(animationJson, "duration", duration);
-        Util.addToJson(animationJson, "delay", delay);
-        Util.addToJson(animationJson, "easing", easing);
-        Util.addToJson(animationJson, "loop", loop);
-        return animationJson;
+    public void reset() {
+        duration = null;
+        delay = null;
+        easing = null;
+        loop = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("duration", duration);
+        writer.property("delay", delay);
+        writer.property("easing", easing);
+        writer.property("loop", loop);
     }
 }
@@ -1,7 +1,6 @@
 package de.yanwittmann.j2chartjs.options.animation;
 
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 public class PropertyAnimationOption<D> extends AnimationOption<PropertyAnimationOption<D>> {
 
@@ -15,7 +14,7 @@ public class PropertyAnimationOption<D> extends AnimationOption<PropertyAnimatio
 
     public PropertyAnimationOption<D> setType(String type) {
         this.type = type;
-        return this;
+        return modified();
     }
 
     public D getFrom() {
@@ -24,7 +23,7 @@ public class PropertyAnimationOption<D> extends AnimationOption<PropertyAnimatio
 
     public PropertyAnimationOption<D> setFrom(D from) {
         this.from = from;
-        return this;
+        return modified();
     }
 
     public D getTo() {
@@ -33,15 +32,22 @@ public class PropertyAnimationOption<D> extends AnimationOption<PropertyAnimatio
 
     public PropertyAnimationOption<D> setTo(D to) {
         this.to = to;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject animationJson = Util.deepMerge(super.toJson(), new JSONObject());
-        Util.addToJson(animationJson, "type", type);
-        Util.addToJson(animationJson, "from", from);
-        Util.addToJson(animationJson, "to", to);
-        return animationJson;
+    public void reset() {
+        type = null;
+        from = null;
+        to = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        super.writeProperties(writer);
+        writer.property("type", type);
+        writer.property("from", from);
+        writer.property("to", to);
     }
 }
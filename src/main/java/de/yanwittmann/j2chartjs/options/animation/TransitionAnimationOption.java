@@ -1,7 +1,7 @@
 package de.yanwittmann.j2chartjs.options.animation;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -12,21 +12,19 @@ public class TransitionAnimationOption extends AbstractChartOption {
 
     public TransitionAnimationOption addPropertyAnimation(AnimationPropertyOption key, PropertyAnimationOption animation) {
         this.animations.put(key.getKey(), animation);
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject transitionJson = new JSONObject();
+    public void reset() {
+        animations.clear();
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
         if (animations.size() > 0) {
-            JSONObject animationsJson = new JSONObject();
-            for (Map.Entry<String, AbstractChartOption> entry : animations.entrySet()) {
-                if (entry != null && entry.getKey() != null && entry.getValue() != null) {
-                    animationsJson.put(entry.getKey(), entry.getValue().toJson());
-                }
-            }
-            transitionJson.put("animations", animationsJson);
+            writer.property("animations", animations);
         }
-        return transitionJson;
     }
 }
@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.options.interaction;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 public class InteractionOption extends AbstractChartOption {
 
@@ -28,17 +27,17 @@ public class InteractionOption extends AbstractChartOption {
 
     public InteractionOption setMode(String mode) {
         this.mode = mode;
-        return this;
+        return modified();
     }
 
     public InteractionOption setIntersect(Boolean intersect) {
         this.intersect = intersect;
-        return this;
+        return modified();
     }
 
     public InteractionOption setAxis(String axis) {
         this.axis = axis;
-        return this;
+        return modified();
     }
 
     public String getMode() {
@@ -54,11 +53,17 @@ public class InteractionOption extends AbstractChartOption {
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "mode", mode);
-        Util.addToJson(optionsJson, "intersect", intersect);
-        Util.addToJson(optionsJson, "mode", axis);
-        return optionsJson;
+    public void reset() {
+        mode = null;
+        intersect = null;
+        axis = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("mode", mode);
+        writer.property("intersect", intersect);
+        writer.property("mode", axis);
     }
 }
@@ -2,8 +2,7 @@ package de.yanwittmann.j2chartjs.options.plugins.legend;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -44,7 +43,7 @@ public class LegendLabelsOption extends AbstractChartOption {
 
     public LegendLabelsOption setBoxWidth(Integer boxWidth) {
         this.boxWidth = boxWidth;
-        return this;
+        return modified();
     }
 
     public Integer getBoxHeight() {
@@ -53,7 +52,7 @@ public class LegendLabelsOption extends AbstractChartOption {
 
     public LegendLabelsOption setBoxHeight(Integer boxHeight) {
         this.boxHeight = boxHeight;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -62,7 +61,7 @@ public class LegendLabelsOption extends AbstractChartOption {
 
     public LegendLabelsOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public ChartFont getFont() {
@@ -71,7 +70,7 @@ public class LegendLabelsOption extends AbstractChartOption {
 
     public LegendLabelsOption setFont(ChartFont font) {
         this.font = font;
-        return this;
+        return modified();
     }
 
     public Integer getPadding() {
@@ -80,7 +79,7 @@ public class LegendLabelsOption extends AbstractChartOption {
 
     public LegendLabelsOption setPadding(Integer padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     public Integer getTextAlign() {
@@ -89,18 +88,27 @@ public class LegendLabelsOption extends AbstractChartOption {
 
     public LegendLabelsOption setTextAlign(Integer textAlign) {
         this.textAlign = textAlign;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "boxWidth", boxWidth);
-        Util.addToJson(optionsJson, "boxHeight", boxHeight);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "font", font);
-        Util.addToJson(optionsJson, "padding", padding);
-        Util.addToJson(optionsJson, "textAlign", textAlign);
-        return optionsJson;
+    public void reset() {
+        boxWidth = null;
+        boxHeight = null;
+        color = null;
+        font = null;
+        padding = null;
+        textAlign = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("boxWidth", boxWidth);
+        writer.property("boxHeight", boxHeight);
+        writer.property("color", color);
+        writer.property("font", font);
+        writer.property("padding", padding);
+        writer.property("textAlign", textAlign);
     }
 }
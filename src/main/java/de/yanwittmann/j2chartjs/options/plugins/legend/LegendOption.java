@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.options.plugins.legend;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 public class LegendOption extends AbstractChartOption {
 
@@ -67,7 +66,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public String getPosition() {
@@ -76,7 +75,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setPosition(String position) {
         this.position = position;
-        return this;
+        return modified();
     }
 
     public String getAlign() {
@@ -85,7 +84,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setAlign(String align) {
         this.align = align;
-        return this;
+        return modified();
     }
 
     public Integer getMaxHeight() {
@@ -94,7 +93,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setMaxHeight(Integer maxHeight) {
         this.maxHeight = maxHeight;
-        return this;
+        return modified();
     }
 
     public Integer getMaxWidth() {
@@ -103,7 +102,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setMaxWidth(Integer maxWidth) {
         this.maxWidth = maxWidth;
-        return this;
+        return modified();
     }
 
     public Boolean getFullSize() {
@@ -112,7 +111,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setFullSize(Boolean fullSize) {
         this.fullSize = fullSize;
-        return this;
+        return modified();
     }
 
     public Boolean getReverse() {
@@ -121,7 +120,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setReverse(Boolean reverse) {
         this.reverse = reverse;
-        return this;
+        return modified();
     }
 
     public Boolean getRtl() {
@@ -130,7 +129,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setRtl(Boolean rtl) {
         this.rtl = rtl;
-        return this;
+        return modified();
     }
 
     public String getTextDirection() {
@@ -139,7 +138,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setTextDirection(String textDirection) {
         this.textDirection = textDirection;
-        return this;
+        return modified();
     }
 
     public LegendLabelsOption getLabelsOption() {
@@ -148,7 +147,7 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setLabelsOption(LegendLabelsOption labelsOption) {
         this.labelsOption = labelsOption;
-        return this;
+        return modified();
     }
 
     public LegendTitleOption getTitleOption() {
@@ -157,23 +156,37 @@ public class LegendOption extends AbstractChartOption {
 
     public LegendOption setTitleOption(LegendTitleOption titleOption) {
         this.titleOption = titleOption;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "position", position);
-        Util.addToJson(optionsJson, "align", align);
-        Util.addToJson(optionsJson, "maxHeight", maxHeight);
-        Util.addToJson(optionsJson, "display", maxWidth);
-        Util.addToJson(optionsJson, "fullSize", fullSize);
-        Util.addToJson(optionsJson, "reverse", reverse);
-        Util.addToJson(optionsJson, "rtl", rtl);
-        Util.addToJson(optionsJson, "textDirection", textDirection);
-        Util.addToJson(optionsJson, "labels", labelsOption);
-        Util.addToJson(optionsJson, "title", titleOption);
-        return optionsJson;
+    public void reset() {
+        display = null;
+        position = null;
+        align = null;
+        maxHeight = null;
+        maxWidth = null;
+        fullSize = null;
+        reverse = null;
+        rtl = null;
+        textDirection = null;
+        labelsOption = null;
+        titleOption = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("display", display);
+        writer.property("position", position);
+        writer.property("align", align);
+        writer.property("maxHeight", maxHeight);
+        writer.property("display", maxWidth);
+        writer.property("fullSize", fullSize);
+        writer.property("reverse", reverse);
+        writer.property("rtl", rtl);
+        writer.property("textDirection", textDirection);
+        writer.property("labels", labelsOption);
+        writer.property("title", titleOption);
     }
 }
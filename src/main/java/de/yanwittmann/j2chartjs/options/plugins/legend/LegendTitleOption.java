@@ -2,8 +2,7 @@ package de.yanwittmann.j2chartjs.options.plugins.legend;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -36,7 +35,7 @@ public class LegendTitleOption extends AbstractChartOption {
 
     public LegendTitleOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -45,7 +44,7 @@ public class LegendTitleOption extends AbstractChartOption {
 
     public LegendTitleOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public ChartFont getFont() {
@@ -54,7 +53,7 @@ public class LegendTitleOption extends AbstractChartOption {
 
     public LegendTitleOption setFont(ChartFont font) {
         this.font = font;
-        return this;
+        return modified();
     }
 
     public Integer getPadding() {
@@ -63,7 +62,7 @@ public class LegendTitleOption extends AbstractChartOption {
 
     public LegendTitleOption setPadding(Integer padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     public String getText() {
@@ -72,17 +71,25 @@ public class LegendTitleOption extends AbstractChartOption {
 
     public LegendTitleOption setText(String text) {
         this.text = text;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "font", font);
-        Util.addToJson(optionsJson, "padding", padding);
-        Util.addToJson(optionsJson, "text", text);
-        return optionsJson;
+    public void reset() {
+        display = null;
+        color = null;
+        font = null;
+        padding = null;
+        text = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("display", display);
+        writer.property("color", color);
+        writer.property("font", font);
+        writer.property("padding", padding);
+        writer.property("text", text);
     }
 }
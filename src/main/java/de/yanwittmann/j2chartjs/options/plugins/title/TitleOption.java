@@ -2,8 +2,7 @@ package de.yanwittmann.j2chartjs.options.plugins.title;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 import java.util.Arrays;
@@ -62,7 +61,7 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setAlign(String align) {
         this.align = align;
-        return this;
+        return modified();
     }
 
     public String getPosition() {
@@ -71,7 +70,7 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setPosition(String position) {
         this.position = position;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -80,7 +79,7 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public Boolean getDisplay() {
@@ -89,7 +88,7 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Boolean getFullSize() {
@@ -98,7 +97,7 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setFullSize(Boolean fullSize) {
         this.fullSize = fullSize;
-        return this;
+        return modified();
     }
 
     public ChartFont getFont() {
@@ -107,7 +106,7 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setFont(ChartFont font) {
         this.font = font;
-        return this;
+        return modified();
     }
 
     public Integer getPadding() {
@@ -116,7 +115,7 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setPadding(Integer padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     public List<String> getText() {
@@ -125,30 +124,41 @@ public class TitleOption extends AbstractChartOption {
 
     public TitleOption setText(List<String> text) {
         this.text = text;
-        return this;
+        return modified();
     }
 
     public TitleOption setText(String... text) {
         this.text = Arrays.stream(text).collect(Collectors.toList());
-        return this;
+        return modified();
     }
 
     public TitleOption setText(String text) {
         this.text = Collections.singletonList(text);
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "align", align);
-        Util.addToJson(optionsJson, "position", position);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "fullSize", fullSize);
-        Util.addToJson(optionsJson, "font", font);
-        Util.addToJson(optionsJson, "padding", padding);
-        Util.addToJson(optionsJson, "text", text);
-        return optionsJson;
+    public void reset() {
+        align = null;
+        position = null;
+        color = null;
+        display = null;
+        fullSize = null;
+        font = null;
+        padding = null;
+        text = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("align", align);
+        writer.property("position", position);
+        writer.property("color", color);
+        writer.property("display", display);
+        writer.property("fullSize", fullSize);
+        writer.property("font", font);
+        writer.property("padding", padding);
+        writer.property("text", text);
     }
 }
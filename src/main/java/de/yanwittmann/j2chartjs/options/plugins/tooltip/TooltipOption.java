@@ -3,8 +3,7 @@ package de.yanwittmann.j2chartjs.options.plugins.tooltip;
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
 import de.yanwittmann.j2chartjs.type.ChartPadding;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -164,7 +163,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setEnabled(Boolean enabled) {
         this.enabled = enabled;
-        return this;
+        return modified();
     }
 
     public String getPosition() {
@@ -173,7 +172,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setPosition(String position) {
         this.position = position;
-        return this;
+        return modified();
     }
 
     public Color getBackgroundColor() {
@@ -182,7 +181,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBackgroundColor(Color backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public Color getTitleColor() {
@@ -191,7 +190,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setTitleColor(Color titleColor) {
         this.titleColor = titleColor;
-        return this;
+        return modified();
     }
 
     public ChartFont getTitleFont() {
@@ -200,7 +199,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setTitleFont(ChartFont titleFont) {
         this.titleFont = titleFont;
-        return this;
+        return modified();
     }
 
     public String getTitleAlign() {
@@ -209,7 +208,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setTitleAlign(String titleAlign) {
         this.titleAlign = titleAlign;
-        return this;
+        return modified();
     }
 
     public Integer getTitleSpacing() {
@@ -218,7 +217,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setTitleSpacing(Integer titleSpacing) {
         this.titleSpacing = titleSpacing;
-        return this;
+        return modified();
     }
 
     public Integer getTitleMarginBottom() {
@@ -227,7 +226,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setTitleMarginBottom(Integer titleMarginBottom) {
         this.titleMarginBottom = titleMarginBottom;
-        return this;
+        return modified();
     }
 
     public Color getBodyColor() {
@@ -236,7 +235,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBodyColor(Color bodyColor) {
         this.bodyColor = bodyColor;
-        return this;
+        return modified();
     }
 
     public ChartFont getBodyFont() {
@@ -245,7 +244,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBodyFont(ChartFont bodyFont) {
         this.bodyFont = bodyFont;
-        return this;
+        return modified();
     }
 
     public String getBodyAlign() {
@@ -254,7 +253,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBodyAlign(String bodyAlign) {
         this.bodyAlign = bodyAlign;
-        return this;
+        return modified();
     }
 
     public Integer getBodySpacing() {
@@ -263,7 +262,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBodySpacing(Integer bodySpacing) {
         this.bodySpacing = bodySpacing;
-        return this;
+        return modified();
     }
 
     public Color getFooterColor() {
@@ -272,7 +271,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setFooterColor(Color footerColor) {
         this.footerColor = footerColor;
-        return this;
+        return modified();
     }
 
     public ChartFont getFooterFont() {
@@ -281,7 +280,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setFooterFont(ChartFont footerFont) {
         this.footerFont = footerFont;
-        return this;
+        return modified();
     }
 
     public String getFooterAlign() {
@@ -290,7 +289,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setFooterAlign(String footerAlign) {
         this.footerAlign = footerAlign;
-        return this;
+        return modified();
     }
 
     public Integer getFooterSpacing() {
@@ -299,7 +298,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setFooterSpacing(Integer footerSpacing) {
         this.footerSpacing = footerSpacing;
-        return this;
+        return modified();
     }
 
     public Integer getFooterMarginTop() {
@@ -308,7 +307,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setFooterMarginTop(Integer footerMarginTop) {
         this.footerMarginTop = footerMarginTop;
-        return this;
+        return modified();
     }
 
     public ChartPadding getPadding() {
@@ -317,7 +316,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setPadding(ChartPadding padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     public Integer getCaretPadding() {
@@ -326,7 +325,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setCaretPadding(Integer caretPadding) {
         this.caretPadding = caretPadding;
-        return this;
+        return modified();
     }
 
     public Integer getCaretSize() {
@@ -335,7 +334,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setCaretSize(Integer caretSize) {
         this.caretSize = caretSize;
-        return this;
+        return modified();
     }
 
     public Integer getCornerRadius() {
@@ -344,7 +343,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setCornerRadius(Integer cornerRadius) {
         this.cornerRadius = cornerRadius;
-        return this;
+        return modified();
     }
 
     public Color getMultiKeyBackground() {
@@ -353,7 +352,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setMultiKeyBackground(Color multiKeyBackground) {
         this.multiKeyBackground = multiKeyBackground;
-        return this;
+        return modified();
     }
 
     public Boolean getDisplayColors() {
@@ -362,7 +361,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setDisplayColors(Boolean displayColors) {
         this.displayColors = displayColors;
-        return this;
+        return modified();
     }
 
     public Integer getBoxWidth() {
@@ -371,7 +370,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBoxWidth(Integer boxWidth) {
         this.boxWidth = boxWidth;
-        return this;
+        return modified();
     }
 
     public Integer getBoxHeight() {
@@ -380,7 +379,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBoxHeight(Integer boxHeight) {
         this.boxHeight = boxHeight;
-        return this;
+        return modified();
     }
 
     public Color getBorderColor() {
@@ -389,7 +388,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBorderColor(Color borderColor) {
         this.borderColor = borderColor;
-        return this;
+        return modified();
     }
 
     public Integer getBorderWidth() {
@@ -398,7 +397,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setBorderWidth(Integer borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public Boolean getRtl() {
@@ -407,7 +406,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setRtl(Boolean rtl) {
         this.rtl = rtl;
-        return this;
+        return modified();
     }
 
     public String getTextDirection() {
@@ -416,7 +415,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setTextDirection(String textDirection) {
         this.textDirection = textDirection;
-        return this;
+        return modified();
     }
 
     public String getxAlign() {
@@ -425,7 +424,7 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setxAlign(String xAlign) {
         this.xAlign = xAlign;
-        return this;
+        return modified();
     }
 
     public String getyAlign() {
@@ -434,43 +433,77 @@ public class TooltipOption extends AbstractChartOption {
 
     public TooltipOption setyAlign(String yAlign) {
         this.yAlign = yAlign;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "enabled", enabled);
-        Util.addToJson(optionsJson, "position", position);
-        Util.addToJson(optionsJson, "backgroundColor", backgroundColor);
-        Util.addToJson(optionsJson, "titleColor", titleColor);
-        Util.addToJson(optionsJson, "titleFont", titleFont);
-        Util.addToJson(optionsJson, "titleAlign", titleAlign);
-        Util.addToJson(optionsJson, "titleSpacing", titleSpacing);
-        Util.addToJson(optionsJson, "titleMarginBottom", titleMarginBottom);
-        Util.addToJson(optionsJson, "bodyColor", bodyColor);
-        Util.addToJson(optionsJson, "bodyFont", bodyFont);
-        Util.addToJson(optionsJson, "bodyAlign", bodyAlign);
-        Util.addToJson(optionsJson, "bodySpacing", bodySpacing);
-        Util.addToJson(optionsJson, "footerColor", footerColor);
-        Util.addToJson(optionsJson, "footerFont", footerFont);
-        Util.addToJson(optionsJson, "footerAlign", footerAlign);
-        Util.addToJson(optionsJson, "footerSpacing", footerSpacing);
-        Util.addToJson(optionsJson, "footerMarginTop", footerMarginTop);
-        Util.addToJson(optionsJson, "padding", padding);
-        Util.addToJson(optionsJson, "caretPadding", caretPadding);
-        Util.addToJson(optionsJson, "caretSize", caretSize);
-        Util.addToJson(optionsJson, "cornerRadius", cornerRadius);
-        Util.addToJson(optionsJson, "multiKeyBackground", multiKeyBackground);
-        Util.addToJson(optionsJson, "displayColors", displayColors);
-        Util.addToJson(optionsJson, "boxWidth", boxWidth);
-        Util.addToJson(optionsJson, "boxHeight", boxHeight);
-        Util.addToJson(optionsJson, "borderColor", borderColor);
-        Util.addToJson(optionsJson, "borderWidth", borderWidth);
-        Util.addToJson(optionsJson, "rtl", rtl);
-        Util.addToJson(optionsJson, "textDirection", textDirection);
-        Util.addToJson(optionsJson, "xAlign", xAlign);
-        Util.addToJson(optionsJson, "yAlign", yAlign);
-        return optionsJson;
+    public void reset() {
+        enabled = null;
+        position = null;
+        backgroundColor = null;
+        titleColor = null;
+        titleFont = null;
+        titleAlign = null;
+        titleSpacing = null;
+        titleMarginBottom = null;
+        bodyColor = null;
+        bodyFont = null;
+        bodyAlign = null;
+        bodySpacing = null;
+        footerColor = null;
+        footerFont = null;
+        footerAlign = null;
+        footerSpacing = null;
+        footerMarginTop = null;
+        padding = null;
+        caretPadding = null;
+        caretSize = null;
+        cornerRadius = null;
+        multiKeyBackground = null;
+        displayColors = null;
+        boxWidth = null;
+        boxHeight = null;
+        borderColor = null;
+        borderWidth = null;
+        rtl = null;
+        textDirection = null;
+        xAlign = null;
+        yAlign = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("enabled", enabled);
+        writer.property("position", position);
+        writer.property("backgroundColor", backgroundColor);
+        writer.property("titleColor", titleColor);
+        writer.property("titleFont", titleFont);
+        writer.property("titleAlign", titleAlign);
+        writer.property("titleSpacing", titleSpacing);
+        writer.property("titleMarginBottom", titleMarginBottom);
+        writer.property("bodyColor", bodyColor);
+        writer.property("bodyFont", bodyFont);
+        writer.property("bodyAlign", bodyAlign);
+        writer.property("bodySpacing", bodySpacing);
+        writer.property("footerColor", footerColor);
+        writer.property("footerFont", footerFont);
+        writer.property("footerAlign", footerAlign);
+        writer.property("footerSpacing", footerSpacing);
+        writer.property("footerMarginTop", footerMarginTop);
+        writer.property("padding", padding);
+        writer.property("caretPadding", caretPadding);
+        writer.property("caretSize", caretSize);
+        writer.property("cornerRadius", cornerRadius);
+        writer.property("multiKeyBackground", multiKeyBackground);
+        writer.property("displayColors", displayColors);
+        writer.property("boxWidth", boxWidth);
+        writer.property("boxHeight", boxHeight);
+        writer.property("borderColor", borderColor);
+        writer.property("borderWidth", borderWidth);
+        writer.property("rtl", rtl);
+        writer.property("textDirection", textDirection);
+        writer.property("xAlign", xAlign);
+        writer.property("yAlign", yAlign);
     }
 }
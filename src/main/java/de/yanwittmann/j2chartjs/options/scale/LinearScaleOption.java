@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.options.scale;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -90,7 +89,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setTicks(LinearScaleTicksOption ticks) {
         this.ticks = ticks;
-        return this;
+        return modified();
     }
 
     public ScaleGridOption getGrid() {
@@ -99,7 +98,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setGrid(ScaleGridOption grid) {
         this.grid = grid;
-        return this;
+        return modified();
     }
 
     public ScaleTitleOption getTitle() {
@@ -108,7 +107,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setTitle(ScaleTitleOption title) {
         this.title = title;
-        return this;
+        return modified();
     }
 
     public String getType() {
@@ -117,7 +116,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setType(String type) {
         this.type = type;
-        return this;
+        return modified();
     }
 
     public Boolean getAlignToPixels() {
@@ -126,7 +125,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setAlignToPixels(Boolean alignToPixels) {
         this.alignToPixels = alignToPixels;
-        return this;
+        return modified();
     }
 
     public Color getBackgroundColor() {
@@ -135,7 +134,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setBackgroundColor(Color backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public Boolean getDisplay() {
@@ -144,7 +143,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Integer getMin() {
@@ -153,7 +152,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setMin(Integer min) {
         this.min = min;
-        return this;
+        return modified();
     }
 
     public Integer getMax() {
@@ -162,7 +161,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setMax(Integer max) {
         this.max = max;
-        return this;
+        return modified();
     }
 
     public Integer getSuggestedMin() {
@@ -171,7 +170,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setSuggestedMin(Integer suggestedMin) {
         this.suggestedMin = suggestedMin;
-        return this;
+        return modified();
     }
 
     public Integer getSuggestedMax() {
@@ -180,7 +179,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setSuggestedMax(Integer suggestedMax) {
         this.suggestedMax = suggestedMax;
-        return this;
+        return modified();
     }
 
     public Boolean getReverse() {
@@ -189,7 +188,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setReverse(Boolean reverse) {
         this.reverse = reverse;
-        return this;
+        return modified();
     }
 
     public Boolean getStacked() {
@@ -198,7 +197,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setStacked(Boolean stacked) {
         this.stacked = stacked;
-        return this;
+        return modified();
     }
 
     public Integer getWeight() {
@@ -207,7 +206,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setWeight(Integer weight) {
         this.weight = weight;
-        return this;
+        return modified();
     }
 
     public String getPosition() {
@@ -216,7 +215,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setPosition(String position) {
         this.position = position;
-        return this;
+        return modified();
     }
 
     public Boolean getBeginAtZero() {
@@ -225,7 +224,7 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setBeginAtZero(Boolean beginAtZero) {
         this.beginAtZero = beginAtZero;
-        return this;
+        return modified();
     }
 
     public Number getStepSize() {
@@ -234,29 +233,49 @@ public class LinearScaleOption extends AbstractChartOption {
 
     public LinearScaleOption setStepSize(Number stepSize) {
         this.stepSize = stepSize;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "ticks", ticks);
-        Util.addToJson(optionsJson, "grid", grid);
-        Util.addToJson(optionsJson, "title", title);
-        Util.addToJson(optionsJson, "type", type);
-        Util.addToJson(optionsJson, "alignToPixels", alignToPixels);
-        Util.addToJson(optionsJson, "backgroundColor", backgroundColor);
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "min", min);
-        Util.addToJson(optionsJson, "max", max);
-        Util.addToJson(optionsJson, "suggestedMin", suggestedMin);
-        Util.addToJson(optionsJson, "suggestedMax", suggestedMax);
-        Util.addToJson(optionsJson, "reverse", reverse);
-        Util.addToJson(optionsJson, "stacked", stacked);
-        Util.addToJson(optionsJson, "weight", weight);
-        Util.addToJson(optionsJson, "position", position);
-        Util.addToJson(optionsJson, "beginAtZero", beginAtZero);
-        Util.addToJson(optionsJson, "stepSize", stepSize);
-        return optionsJson;
+    public void reset() {
+        ticks = null;
+        grid = null;
+        title = null;
+        type = null;
+        alignToPixels = null;
+        backgroundColor = null;
+        display = null;
+        min = null;
+        max = null;
+        suggestedMin = null;
+        suggestedMax = null;
+        reverse = null;
+        stacked = null;
+        weight = null;
+        position = null;
+        beginAtZero = null;
+        stepSize = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("ticks", ticks);
+        writer.property("grid", grid);
+        writer.property("title", title);
+        writer.property("type", type);
+        writer.property("alignToPixels", alignToPixels);
+        writer.property("backgroundColor", backgroundColor);
+        writer.property("display", display);
+        writer.property("min", min);
+        writer.property("max", max);
+        writer.property("suggestedMin", suggestedMin);
+        writer.property("suggestedMax", suggestedMax);
+        writer.property("reverse", reverse);
+        writer.property("stacked", stacked);
+        writer.property("weight", weight);
+        writer.property("position", position);
+        writer.property("beginAtZero", beginAtZero);
+        writer.property("stepSize", stepSize);
     }
 }
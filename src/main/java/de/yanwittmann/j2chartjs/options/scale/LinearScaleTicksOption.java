@@ -3,8 +3,7 @@ package de.yanwittmann.j2chartjs.options.scale;
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
 import de.yanwittmann.j2chartjs.type.ChartPadding;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -58,7 +57,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -67,7 +66,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public ChartFont getFont() {
@@ -76,7 +75,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setFont(ChartFont font) {
         this.font = font;
-        return this;
+        return modified();
     }
 
     public Boolean getMajor() {
@@ -85,7 +84,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setMajor(Boolean major) {
         this.major = major;
-        return this;
+        return modified();
     }
 
     public Integer getPadding() {
@@ -94,7 +93,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setPadding(Integer padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     public Color getTextStrokeColor() {
@@ -103,7 +102,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setTextStrokeColor(Color textStrokeColor) {
         this.textStrokeColor = textStrokeColor;
-        return this;
+        return modified();
     }
 
     public Integer getTextStrokeWidth() {
@@ -112,7 +111,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setTextStrokeWidth(Integer textStrokeWidth) {
         this.textStrokeWidth = textStrokeWidth;
-        return this;
+        return modified();
     }
 
     public Integer getZ() {
@@ -121,7 +120,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setZ(Integer z) {
         this.z = z;
-        return this;
+        return modified();
     }
 
     public Color getBackdropColor() {
@@ -130,7 +129,7 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setBackdropColor(Color backdropColor) {
         this.backdropColor = backdropColor;
-        return this;
+        return modified();
     }
 
     public ChartPadding getBackdropPadding() {
@@ -139,32 +138,44 @@ public class LinearScaleTicksOption extends AbstractChartOption {
 
     public LinearScaleTicksOption setBackdropPadding(ChartPadding backdropPadding) {
         this.backdropPadding = backdropPadding;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "font", font);
-        Util.addToJson(optionsJson, "padding", padding);
-        Util.addToJson(optionsJson, "textStrokeColor", textStrokeColor);
-        Util.addToJson(optionsJson, "textStrokeWidth", textStrokeWidth);
-        Util.addToJson(optionsJson, "z", z);
-        Util.addToJson(optionsJson, "backdropColor", backdropColor);
+    public void reset() {
+        display = null;
+        color = null;
+        font = null;
+        major = null;
+        padding = null;
+        textStrokeColor = null;
+        textStrokeWidth = null;
+        z = null;
+        backdropColor = null;
+        backdropPadding = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("display", display);
+        writer.property("color", color);
+        writer.property("font", font);
+        writer.property("padding", padding);
+        writer.property("textStrokeColor", textStrokeColor);
+        writer.property("textStrokeWidth", textStrokeWidth);
+        writer.property("z", z);
+        writer.property("backdropColor", backdropColor);
 
         if (backdropPadding != null) {
             if (backdropPadding.isIdentical())
-                optionsJson.put("backdropPadding", backdropPadding.getPaddingBottom());
-            else Util.addToJson(optionsJson, "backdropPadding", backdropPadding);
+                writer.property("backdropPadding", backdropPadding.getPaddingBottom());
+            else writer.property("backdropPadding", backdropPadding);
         }
         if (major != null) {
-            JSONObject majorJson = new JSONObject();
-            majorJson.put("enabled", major.booleanValue());
-            optionsJson.put("major", majorJson);
+            writer.name("major").beginObject()
+                    .property("enabled", major)
+                    .endObject();
         }
-
-        return optionsJson;
     }
 }
@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.options.scale;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 import java.util.List;
@@ -36,7 +35,7 @@ public class RadialScaleAngleLinesOption extends AbstractChartOption {
 
     public RadialScaleAngleLinesOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -45,7 +44,7 @@ public class RadialScaleAngleLinesOption extends AbstractChartOption {
 
     public RadialScaleAngleLinesOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public Integer getLineWidth() {
@@ -54,7 +53,7 @@ public class RadialScaleAngleLinesOption extends AbstractChartOption {
 
     public RadialScaleAngleLinesOption setLineWidth(Integer lineWidth) {
         this.lineWidth = lineWidth;
-        return this;
+        return modified();
     }
 
     public List<Integer> getBorderDash() {
@@ -63,7 +62,7 @@ public class RadialScaleAngleLinesOption extends AbstractChartOption {
 
     public RadialScaleAngleLinesOption setBorderDash(List<Integer> borderDash) {
         this.borderDash = borderDash;
-        return this;
+        return modified();
     }
 
     public Integer getBorderDashOffset() {
@@ -72,17 +71,25 @@ public class RadialScaleAngleLinesOption extends AbstractChartOption {
 
     public RadialScaleAngleLinesOption setBorderDashOffset(Integer borderDashOffset) {
         this.borderDashOffset = borderDashOffset;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "lineWidth", lineWidth);
-        Util.addToJson(optionsJson, "borderDash", borderDash);
-        Util.addToJson(optionsJson, "borderDashOffset", borderDashOffset);
-        return optionsJson;
+    public void reset() {
+        display = null;
+        color = null;
+        lineWidth = null;
+        borderDash = null;
+        borderDashOffset = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("display", display);
+        writer.property("color", color);
+        writer.property("lineWidth", lineWidth);
+        writer.property("borderDash", borderDash);
+        writer.property("borderDashOffset", borderDashOffset);
     }
 }
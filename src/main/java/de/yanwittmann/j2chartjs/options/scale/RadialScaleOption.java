@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.options.scale;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -94,7 +93,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setAngleLines(RadialScaleAngleLinesOption angleLines) {
         this.angleLines = angleLines;
-        return this;
+        return modified();
     }
 
     public RadialScalePointLabelOption getPointLabels() {
@@ -103,7 +102,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setPointLabels(RadialScalePointLabelOption pointLabels) {
         this.pointLabels = pointLabels;
-        return this;
+        return modified();
     }
 
     public RadialScaleTicksOption getTicks() {
@@ -112,7 +111,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setTicks(RadialScaleTicksOption ticks) {
         this.ticks = ticks;
-        return this;
+        return modified();
     }
 
     public ScaleGridOption getGrid() {
@@ -121,7 +120,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setGrid(ScaleGridOption grid) {
         this.grid = grid;
-        return this;
+        return modified();
     }
 
     public ScaleTitleOption getTitle() {
@@ -130,7 +129,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setTitle(ScaleTitleOption title) {
         this.title = title;
-        return this;
+        return modified();
     }
 
     public String getType() {
@@ -139,7 +138,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setType(String type) {
         this.type = type;
-        return this;
+        return modified();
     }
 
     public Boolean getAlignToPixels() {
@@ -148,7 +147,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setAlignToPixels(Boolean alignToPixels) {
         this.alignToPixels = alignToPixels;
-        return this;
+        return modified();
     }
 
     public Color getBackgroundColor() {
@@ -157,7 +156,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setBackgroundColor(Color backgroundColor) {
         this.backgroundColor = backgroundColor;
-        return this;
+        return modified();
     }
 
     public Boolean getDisplay() {
@@ -166,7 +165,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Integer getMin() {
@@ -175,7 +174,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setMin(Integer min) {
         this.min = min;
-        return this;
+        return modified();
     }
 
     public Integer getMax() {
@@ -184,7 +183,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setMax(Integer max) {
         this.max = max;
-        return this;
+        return modified();
     }
 
     public Integer getSuggestedMin() {
@@ -193,7 +192,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setSuggestedMin(Integer suggestedMin) {
         this.suggestedMin = suggestedMin;
-        return this;
+        return modified();
     }
 
     public Integer getSuggestedMax() {
@@ -202,7 +201,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setSuggestedMax(Integer suggestedMax) {
         this.suggestedMax = suggestedMax;
-        return this;
+        return modified();
     }
 
     public Boolean getReverse() {
@@ -211,7 +210,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setReverse(Boolean reverse) {
         this.reverse = reverse;
-        return this;
+        return modified();
     }
 
     public Boolean getStacked() {
@@ -220,7 +219,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setStacked(Boolean stacked) {
         this.stacked = stacked;
-        return this;
+        return modified();
     }
 
     public Integer getWeight() {
@@ -229,7 +228,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setWeight(Integer weight) {
         this.weight = weight;
-        return this;
+        return modified();
     }
 
     public String getPosition() {
@@ -238,7 +237,7 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setPosition(String position) {
         this.position = position;
-        return this;
+        return modified();
     }
 
     public Boolean getBeginAtZero() {
@@ -247,30 +246,51 @@ public class RadialScaleOption extends AbstractChartOption {
 
     public RadialScaleOption setBeginAtZero(Boolean beginAtZero) {
         this.beginAtZero = beginAtZero;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "ticks", ticks);
-        Util.addToJson(optionsJson, "pointLabels", pointLabels);
-        Util.addToJson(optionsJson, "angleLines", angleLines);
-        Util.addToJson(optionsJson, "grid", grid);
-        Util.addToJson(optionsJson, "title", title);
-        Util.addToJson(optionsJson, "type", type);
-        Util.addToJson(optionsJson, "alignToPixels", alignToPixels);
-        Util.addToJson(optionsJson, "backgroundColor", backgroundColor);
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "min", min);
-        Util.addToJson(optionsJson, "max", max);
-        Util.addToJson(optionsJson, "suggestedMin", suggestedMin);
-        Util.addToJson(optionsJson, "suggestedMax", suggestedMax);
-        Util.addToJson(optionsJson, "reverse", reverse);
-        Util.addToJson(optionsJson, "stacked", stacked);
-        Util.addToJson(optionsJson, "weight", weight);
-        Util.addToJson(optionsJson, "position", position);
-        Util.addToJson(optionsJson, "beginAtZero", beginAtZero);
-        return optionsJson;
+    public void reset() {
+        ticks = null;
+        angleLines = null;
+        pointLabels = null;
+        grid = null;
+        title = null;
+        type = null;
+        alignToPixels = null;
+        backgroundColor = null;
+        display = null;
+        min = null;
+        max = null;
+        suggestedMin = null;
+        suggestedMax = null;
+        reverse = null;
+        stacked = null;
+        weight = null;
+        position = null;
+        beginAtZero = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("ticks", ticks);
+        writer.property("pointLabels", pointLabels);
+        writer.property("angleLines", angleLines);
+        writer.property("grid", grid);
+        writer.property("title", title);
+        writer.property("type", type);
+        writer.property("alignToPixels", alignToPixels);
+        writer.property("backgroundColor", backgroundColor);
+        writer.property("display", display);
+        writer.property("min", min);
+        writer.property("max", max);
+        writer.property("suggestedMin", suggestedMin);
+        writer.property("suggestedMax", suggestedMax);
+        writer.property("reverse", reverse);
+        writer.property("stacked", stacked);
+        writer.property("weight", weight);
+        writer.property("position", position);
+        writer.property("beginAtZero", beginAtZero);
     }
 }
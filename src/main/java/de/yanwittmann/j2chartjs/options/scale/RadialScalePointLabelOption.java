@@ -3,8 +3,7 @@ package de.yanwittmann.j2chartjs.options.scale;
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
 import de.yanwittmann.j2chartjs.type.ChartPadding;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -41,12 +40,12 @@ public class RadialScalePointLabelOption extends AbstractChartOption {
 
     public RadialScalePointLabelOption setBackdropColor(Color backdropColor) {
         this.backdropColor = backdropColor;
-        return this;
+        return modified();
     }
 
     public RadialScalePointLabelOption setBackdropPadding(ChartPadding backdropPadding) {
         this.backdropPadding = backdropPadding;
-        return this;
+        return modified();
     }
 
     public Boolean getDisplay() {
@@ -55,7 +54,7 @@ public class RadialScalePointLabelOption extends AbstractChartOption {
 
     public RadialScalePointLabelOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -64,7 +63,7 @@ public class RadialScalePointLabelOption extends AbstractChartOption {
 
     public RadialScalePointLabelOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public ChartFont getFont() {
@@ -73,7 +72,7 @@ public class RadialScalePointLabelOption extends AbstractChartOption {
 
     public RadialScalePointLabelOption setFont(ChartFont font) {
         this.font = font;
-        return this;
+        return modified();
     }
 
     public Integer getPadding() {
@@ -82,22 +81,31 @@ public class RadialScalePointLabelOption extends AbstractChartOption {
 
     public RadialScalePointLabelOption setPadding(Integer padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "backdropColor", backdropColor);
+    public void reset() {
+        backdropColor = null;
+        backdropPadding = null;
+        display = null;
+        color = null;
+        font = null;
+        padding = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("backdropColor", backdropColor);
         if (backdropPadding != null) {
             if (backdropPadding.isIdentical())
-                optionsJson.put("backdropPadding", backdropPadding.getPaddingBottom());
-            else Util.addToJson(optionsJson, "backdropPadding", backdropPadding);
+                writer.property("backdropPadding", backdropPadding.getPaddingBottom());
+            else writer.property("backdropPadding", backdropPadding);
         }
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "font", font);
-        Util.addToJson(optionsJson, "padding", padding);
-        return optionsJson;
+        writer.property("display", display);
+        writer.property("color", color);
+        writer.property("font", font);
+        writer.property("padding", padding);
     }
 }
@@ -3,8 +3,7 @@ package de.yanwittmann.j2chartjs.options.scale;
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
 import de.yanwittmann.j2chartjs.type.ChartPadding;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -74,7 +73,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -83,7 +82,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public ChartFont getFont() {
@@ -92,7 +91,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setFont(ChartFont font) {
         this.font = font;
-        return this;
+        return modified();
     }
 
     public Boolean getMajor() {
@@ -101,7 +100,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setMajor(Boolean major) {
         this.major = major;
-        return this;
+        return modified();
     }
 
     public Integer getPadding() {
@@ -110,7 +109,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setPadding(Integer padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     public Color getTextStrokeColor() {
@@ -119,7 +118,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setTextStrokeColor(Color textStrokeColor) {
         this.textStrokeColor = textStrokeColor;
-        return this;
+        return modified();
     }
 
     public Integer getTextStrokeWidth() {
@@ -128,7 +127,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setTextStrokeWidth(Integer textStrokeWidth) {
         this.textStrokeWidth = textStrokeWidth;
-        return this;
+        return modified();
     }
 
     public Integer getZ() {
@@ -137,7 +136,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setZ(Integer z) {
         this.z = z;
-        return this;
+        return modified();
     }
 
     public Color getBackdropColor() {
@@ -146,7 +145,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setBackdropColor(Color backdropColor) {
         this.backdropColor = backdropColor;
-        return this;
+        return modified();
     }
 
     public ChartPadding getBackdropPadding() {
@@ -155,7 +154,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setBackdropPadding(ChartPadding backdropPadding) {
         this.backdropPadding = backdropPadding;
-        return this;
+        return modified();
     }
 
     public Integer getCount() {
@@ -164,7 +163,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setCount(Integer count) {
         this.count = count;
-        return this;
+        return modified();
     }
 
     public Integer getMaxTicksLimit() {
@@ -173,7 +172,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setMaxTicksLimit(Integer maxTicksLimit) {
         this.maxTicksLimit = maxTicksLimit;
-        return this;
+        return modified();
     }
 
     public Integer getPrecision() {
@@ -182,7 +181,7 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setPrecision(Integer precision) {
         this.precision = precision;
-        return this;
+        return modified();
     }
 
     public Number getStepSize() {
@@ -191,34 +190,51 @@ public class RadialScaleTicksOption extends AbstractChartOption {
 
     public RadialScaleTicksOption setStepSize(Number stepSize) {
         this.stepSize = stepSize;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "font", font);
-        Util.addToJson(optionsJson, "padding", padding);
-        Util.addToJson(optionsJson, "textStrokeColor", textStrokeColor);
-        Util.addToJson(optionsJson, "textStrokeWidth", textStrokeWidth);
-        Util.addToJson(optionsJson, "z", z);
-        Util.addToJson(optionsJson, "backdropColor", backdropColor);
+    public void reset() {
+        display = null;
+        color = null;
+        font = null;
+        major = null;
+        padding = null;
+        textStrokeColor = null;
+        textStrokeWidth = null;
+        z = null;
+        backdropColor = null;
+        backdropPadding = null;
+        count = null;
+        maxTicksLimit = null;
+        precision = null;
+        stepSize = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("display", display);
+        writer.property("color", color);
+        writer.property("font", font);
+        writer.property("padding", padding);
+        writer.property("textStrokeColor", textStrokeColor);
+        writer.property("textStrokeWidth", textStrokeWidth);
+        writer.property("z", z);
+        writer.property("backdropColor", backdropColor);
         if (backdropPadding != null) {
             if (backdropPadding.isIdentical())
-                optionsJson.put("backdropPadding", backdropPadding.getPaddingBottom());
-            else Util.addToJson(optionsJson, "backdropPadding", backdropPadding);
+                writer.property("backdropPadding", backdropPadding.getPaddingBottom());
+            else writer.property("backdropPadding", backdropPadding);
         }
-        Util.addToJson(optionsJson, "count", count);
-        Util.addToJson(optionsJson, "maxTicksLimit", maxTicksLimit);
-        Util.addToJson(optionsJson, "precision", precision);
-        Util.addToJson(optionsJson, "stepSize", stepSize);
+        writer.property("count", count);
+        writer.property("maxTicksLimit", maxTicksLimit);
+        writer.property("precision", precision);
+        writer.property("stepSize", stepSize);
         if (major != null) {
-            JSONObject majorJson = new JSONObject();
-            majorJson.put("enabled", major.booleanValue());
-            optionsJson.put("major", majorJson);
+            writer.name("major").beginObject()
+                    .property("enabled", major)
+                    .endObject();
         }
-        return optionsJson;
     }
 }
@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.options.scale;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 import java.util.List;
@@ -89,7 +88,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setTextStrokeColor(Color textStrokeColor) {
         this.textStrokeColor = textStrokeColor;
-        return this;
+        return modified();
     }
 
     public Integer getBorderWidth() {
@@ -98,7 +97,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setBorderWidth(Integer borderWidth) {
         this.borderWidth = borderWidth;
-        return this;
+        return modified();
     }
 
     public List<Integer> getBorderDash() {
@@ -107,7 +106,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setBorderDash(List<Integer> borderDash) {
         this.borderDash = borderDash;
-        return this;
+        return modified();
     }
 
     public Integer getBorderDashOffset() {
@@ -116,7 +115,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setBorderDashOffset(Integer borderDashOffset) {
         this.borderDashOffset = borderDashOffset;
-        return this;
+        return modified();
     }
 
     public Boolean getCircular() {
@@ -125,7 +124,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setCircular(Boolean circular) {
         this.circular = circular;
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -134,7 +133,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public Boolean getDisplay() {
@@ -143,7 +142,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public Boolean getDrawBorder() {
@@ -152,7 +151,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setDrawBorder(Boolean drawBorder) {
         this.drawBorder = drawBorder;
-        return this;
+        return modified();
     }
 
     public Boolean getDrawOnChartArea() {
@@ -161,7 +160,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setDrawOnChartArea(Boolean drawOnChartArea) {
         this.drawOnChartArea = drawOnChartArea;
-        return this;
+        return modified();
     }
 
     public Boolean getDrawTicks() {
@@ -170,7 +169,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setDrawTicks(Boolean drawTicks) {
         this.drawTicks = drawTicks;
-        return this;
+        return modified();
     }
 
     public Integer getLineWidth() {
@@ -179,7 +178,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setLineWidth(Integer lineWidth) {
         this.lineWidth = lineWidth;
-        return this;
+        return modified();
     }
 
     public Boolean getOffset() {
@@ -188,7 +187,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setOffset(Boolean offset) {
         this.offset = offset;
-        return this;
+        return modified();
     }
 
     public List<Integer> getTickBorderDash() {
@@ -197,7 +196,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setTickBorderDash(List<Integer> tickBorderDash) {
         this.tickBorderDash = tickBorderDash;
-        return this;
+        return modified();
     }
 
     public Integer getTickBorderDashOffset() {
@@ -206,7 +205,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setTickBorderDashOffset(Integer tickBorderDashOffset) {
         this.tickBorderDashOffset = tickBorderDashOffset;
-        return this;
+        return modified();
     }
 
     public Color getTickColor() {
@@ -215,7 +214,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setTickColor(Color tickColor) {
         this.tickColor = tickColor;
-        return this;
+        return modified();
     }
 
     public Integer getTickLength() {
@@ -224,7 +223,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setTickLength(Integer tickLength) {
         this.tickLength = tickLength;
-        return this;
+        return modified();
     }
 
     public Integer getTickWidth() {
@@ -233,7 +232,7 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setTickWidth(Integer tickWidth) {
         this.tickWidth = tickWidth;
-        return this;
+        return modified();
     }
 
     public Integer getZ() {
@@ -242,30 +241,51 @@ public class ScaleGridOption extends AbstractChartOption {
 
     public ScaleGridOption setZ(Integer z) {
         this.z = z;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "textStrokeColor", textStrokeColor);
-        Util.addToJson(optionsJson, "borderWidth", borderWidth);
-        Util.addToJson(optionsJson, "borderDash", borderDash);
-        Util.addToJson(optionsJson, "borderDashOffset", borderDashOffset);
-        Util.addToJson(optionsJson, "circular", circular);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "drawBorder", drawBorder);
-        Util.addToJson(optionsJson, "drawOnChartArea", drawOnChartArea);
-        Util.addToJson(optionsJson, "drawTicks", drawTicks);
-        Util.addToJson(optionsJson, "lineWidth", lineWidth);
-        Util.addToJson(optionsJson, "offset", offset);
-        Util.addToJson(optionsJson, "tickBorderDash", tickBorderDash);
-        Util.addToJson(optionsJson, "tickBorderDashOffset", tickBorderDashOffset);
-        Util.addToJson(optionsJson, "tickColor", tickColor);
-        Util.addToJson(optionsJson, "tickLength", tickLength);
-        Util.addToJson(optionsJson, "tickWidth", tickWidth);
-        Util.addToJson(optionsJson, "z", z);
-        return optionsJson;
+    public void reset() {
+        textStrokeColor = null;
+        borderWidth = null;
+        borderDash = null;
+        borderDashOffset = null;
+        circular = null;
+        color = null;
+        display = null;
+        drawBorder = null;
+        drawOnChartArea = null;
+        drawTicks = null;
+        lineWidth = null;
+        offset = null;
+        tickBorderDash = null;
+        tickBorderDashOffset = null;
+        tickColor = null;
+        tickLength = null;
+        tickWidth = null;
+        z = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("textStrokeColor", textStrokeColor);
+        writer.property("borderWidth", borderWidth);
+        writer.property("borderDash", borderDash);
+        writer.property("borderDashOffset", borderDashOffset);
+        writer.property("circular", circular);
+        writer.property("color", color);
+        writer.property("display", display);
+        writer.property("drawBorder", drawBorder);
+        writer.property("drawOnChartArea", drawOnChartArea);
+        writer.property("drawTicks", drawTicks);
+        writer.property("lineWidth", lineWidth);
+        writer.property("offset", offset);
+        writer.property("tickBorderDash", tickBorderDash);
+        writer.property("tickBorderDashOffset", tickBorderDashOffset);
+        writer.property("tickColor", tickColor);
+        writer.property("tickLength", tickLength);
+        writer.property("tickWidth", tickWidth);
+        writer.property("z", z);
     }
 }
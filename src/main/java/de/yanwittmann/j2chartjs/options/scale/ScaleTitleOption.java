@@ -2,8 +2,7 @@ package de.yanwittmann.j2chartjs.options.scale;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.type.ChartFont;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 import java.util.Arrays;
@@ -48,7 +47,7 @@ public class ScaleTitleOption extends AbstractChartOption {
 
     public ScaleTitleOption setDisplay(Boolean display) {
         this.display = display;
-        return this;
+        return modified();
     }
 
     public String getAlign() {
@@ -57,7 +56,7 @@ public class ScaleTitleOption extends AbstractChartOption {
 
     public ScaleTitleOption setAlign(String align) {
         this.align = align;
-        return this;
+        return modified();
     }
 
     public List<String> getText() {
@@ -66,17 +65,17 @@ public class ScaleTitleOption extends AbstractChartOption {
 
     public ScaleTitleOption setText(List<String> text) {
         this.text = text;
-        return this;
+        return modified();
     }
 
     public ScaleTitleOption setText(String... text) {
         this.text = Arrays.stream(text).collect(Collectors.toList());
-        return this;
+        return modified();
     }
 
     public ScaleTitleOption setText(String text) {
         this.text = Collections.singletonList(text);
-        return this;
+        return modified();
     }
 
     public Color getColor() {
@@ -85,7 +84,7 @@ public class ScaleTitleOption extends AbstractChartOption {
 
     public ScaleTitleOption setColor(Color color) {
         this.color = color;
-        return this;
+        return modified();
     }
 
     public ChartFont getFont() {
@@ -94,7 +93,7 @@ public class ScaleTitleOption extends AbstractChartOption {
 
     public ScaleTitleOption setFont(ChartFont font) {
         this.font = font;
-        return this;
+        return modified();
     }
 
     public Integer getPadding() {
@@ -103,18 +102,27 @@ public class ScaleTitleOption extends AbstractChartOption {
 
     public ScaleTitleOption setPadding(Integer padding) {
         this.padding = padding;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject optionsJson = new JSONObject();
-        Util.addToJson(optionsJson, "display", display);
-        Util.addToJson(optionsJson, "align", align);
-        Util.addToJson(optionsJson, "text", text);
-        Util.addToJson(optionsJson, "color", color);
-        Util.addToJson(optionsJson, "font", font);
-        Util.addToJson(optionsJson, "padding", padding);
-        return optionsJson;
+    public void reset() {
+        display = null;
+        align = null;
+        text = null;
+        color = null;
+        font = null;
+        padding = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("display", display);
+        writer.property("align", align);
+        writer.property("text", text);
+        writer.property("color", color);
+        writer.property("font", font);
+        writer.property("padding", padding);
     }
 }
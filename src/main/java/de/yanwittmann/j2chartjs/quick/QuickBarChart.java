@@ -1,8 +1,10 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.BarChart;
 import de.yanwittmann.j2chartjs.data.BarChartData;
 import de.yanwittmann.j2chartjs.dataset.BarChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -13,30 +15,38 @@ public class QuickBarChart extends QuickChart<QuickBarChart, BarChartData> {
     }
 
     public QuickBarChart addDataset(String label, Collection<? extends Number> data) {
-        chartData.addDataset(new BarChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new BarChartDataset().addData(data).setLabel(label));
     }
 
     public QuickBarChart addDataset(String label, Number... data) {
-        chartData.addDataset(new BarChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new BarChartDataset().addData(data).setLabel(label));
     }
 
     public QuickBarChart addDataset(Collection<? extends Number> data) {
-        chartData.addDataset(new BarChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new BarChartDataset().addData(data));
     }
 
     public QuickBarChart addDataset(Number... data) {
-        chartData.addDataset(new BarChartDataset().addData(data));
+        return addStyledDataset(new BarChartDataset().addData(data));
+    }
+
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickBarChart addStyledDataset(BarChartDataset dataset) {
+        int colorIndex = chartData.getDatasets().size();
+        chartData.addDataset(dataset
+                .addBackgroundColor(ChartColors.BACKGROUNDS.get(colorIndex % ChartColors.BACKGROUNDS.size()))
+                .addBorderColor(ChartColors.BORDERS.get(colorIndex % ChartColors.BORDERS.size()))
+                .addHoverBorderWidth(2)
+                .addBorderWidth(1));
         return this;
     }
 
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new BarChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDataset())
-                .build();
+                .setChartData(chartData);
     }
 }
@@ -1,8 +1,10 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.BubbleChart;
 import de.yanwittmann.j2chartjs.data.BubbleChartData;
 import de.yanwittmann.j2chartjs.dataset.BubbleChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -14,37 +16,47 @@ public class QuickBubbleChart extends QuickChart<QuickBubbleChart, BubbleChartDa
 
     public QuickBubbleChart addDatasets(String label, QuickBubbleChartDataset... datasets) {
         for (QuickBubbleChartDataset dataset : datasets) {
-            chartData.addDataset(new BubbleChartDataset().addData(dataset.toDatapoints()).setLabel(label));
+            addStyledDataset(new BubbleChartDataset().addData(dataset.toDatapoints()).setLabel(label));
         }
         return this;
     }
 
     public QuickBubbleChart addDatasets(String label, Collection<QuickBubbleChartDataset> datasets) {
         for (QuickBubbleChartDataset dataset : datasets) {
-            chartData.addDataset(new BubbleChartDataset().addData(dataset.toDatapoints()).setLabel(label));
+            addStyledDataset(new BubbleChartDataset().addData(dataset.toDatapoints()).setLabel(label));
         }
         return this;
     }
 
     public QuickBubbleChart addDatasets(QuickBubbleChartDataset... datasets) {
         for (QuickBubbleChartDataset dataset : datasets) {
-            chartData.addDataset(new BubbleChartDataset().addData(dataset.toDatapoints()));
+            addStyledDataset(new BubbleChartDataset().addData(dataset.toDatapoints()));
         }
         return this;
     }
 
     public QuickBubbleChart addDatasets(Collection<QuickBubbleChartDataset> datasets) {
         for (QuickBubbleChartDataset dataset : datasets) {
-            chartData.addDataset(new BubbleChartDataset().addData(dataset.toDatapoints()));
+            addStyledDataset(new BubbleChartDataset().addData(dataset.toDatapoints()));
         }
         return this;
     }
 
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickBubbleChart addStyledDataset(BubbleChartDataset dataset) {
+        int colorIndex = chartData.getDatasets().size();
+        chartData.addDataset(dataset
+                .addBackgroundColor(ChartColors.BACKGROUNDS.get(colorIndex % ChartColors.BACKGROUNDS.size()))
+                .addBorderColor(ChartColors.BORDERS.get(colorIndex % ChartColors.BORDERS.size())));
+        return this;
+    }
+
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new BubbleChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDataset())
-                .build();
+                .setChartData(chartData);
     }
 }
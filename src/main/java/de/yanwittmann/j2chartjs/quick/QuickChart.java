@@ -1,5 +1,7 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
+import de.yanwittmann.j2chartjs.chart.FrozenChart;
 import de.yanwittmann.j2chartjs.data.*;
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.options.ChartOptions;
@@ -9,6 +11,11 @@ import de.yanwittmann.j2chartjs.options.scale.LinearScaleOption;
 import de.yanwittmann.j2chartjs.options.scale.RadialScaleOption;
 import de.yanwittmann.j2chartjs.options.scale.ScaleGridOption;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -129,7 +136,66 @@ public abstract class QuickChart<T extends QuickChart<?, ?>, D extends ChartData
         return (T) this;
     }
 
-    public abstract String build();
+    /**
+     * @return A chart using the data and options configured on this quick chart.
+     */
+    protected abstract Chart<?, ?, ?, ?> createChart();
+
+    public String build() {
+        return createChart().build();
+    }
+
+    /**
+     * @param out The output to append the configuration to.
+     * @throws IOException If the output throws an exception while writing.
+     * @see Chart#build(Appendable)
+     */
+    public void build(Appendable out) throws IOException {
+        createChart().build(out);
+    }
+
+    /**
+     * @param writer The writer to write the configuration to.
+     * @throws IOException If the writer throws an exception while writing.
+     * @see Chart#writeTo(Writer)
+     */
+    public void writeTo(Writer writer) throws IOException {
+        createChart().writeTo(writer);
+    }
+
+    /**
+     * @param out The stream to write the configuration to.
+     * @throws IOException If the stream throws an exception while writing.
+     * @see Chart#writeTo(OutputStream)
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        createChart().writeTo(out);
+    }
+
+    /**
+     * @param channel The channel to write the configuration to.
+     * @throws IOException If the channel throws an exception while writing.
+     * @see Chart#writeTo(WritableByteChannel)
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        createChart().writeTo(channel);
+    }
+
+    /**
+     * @param buffer The buffer to write the configuration to.
+     * @see Chart#writeTo(ByteBuffer)
+     */
+    public void writeTo(ByteBuffer buffer) {
+        createChart().writeTo(buffer);
+    }
+
+    /**
+     * @return An immutable snapshot of the chart.
+     * @see Chart#freeze()
+     */
+    public FrozenChart freeze() {
+        return createChart().freeze();
+    }
 
     @Override
     public String toString() {
@@ -1,8 +1,10 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.DoughnutChart;
 import de.yanwittmann.j2chartjs.data.DoughnutPieChartData;
 import de.yanwittmann.j2chartjs.dataset.DoughnutPieChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -13,30 +15,34 @@ public class QuickDoughnutChart extends QuickChart<QuickDoughnutChart, DoughnutP
     }
 
     public QuickDoughnutChart addDataset(String label, Collection<? extends Number> data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
     }
 
     public QuickDoughnutChart addDataset(String label, Number... data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
     }
 
     public QuickDoughnutChart addDataset(Collection<? extends Number> data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data));
     }
 
     public QuickDoughnutChart addDataset(Number... data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data));
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data));
+    }
+
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickDoughnutChart addStyledDataset(DoughnutPieChartDataset dataset) {
+        ChartColors.applyDefaultStylePerDatapoint(dataset);
+        chartData.addDataset(dataset);
         return this;
     }
 
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new DoughnutChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDatapoint())
-                .build();
+                .setChartData(chartData);
     }
 }
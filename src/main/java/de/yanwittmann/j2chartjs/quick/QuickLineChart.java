@@ -1,9 +1,11 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.LineChart;
 import de.yanwittmann.j2chartjs.data.LineChartData;
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
 import de.yanwittmann.j2chartjs.dataset.LineChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -14,23 +16,19 @@ public class QuickLineChart extends QuickChart<QuickLineChart, LineChartData> {
     }
 
     public QuickLineChart addDataset(String label, Collection<? extends Number> data) {
-        chartData.addDataset(new LineChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new LineChartDataset().addData(data).setLabel(label));
     }
 
     public QuickLineChart addDataset(String label, Number... data) {
-        chartData.addDataset(new LineChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new LineChartDataset().addData(data).setLabel(label));
     }
 
     public QuickLineChart addDataset(Collection<? extends Number> data) {
-        chartData.addDataset(new LineChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new LineChartDataset().addData(data));
     }
 
     public QuickLineChart addDataset(Number... data) {
-        chartData.addDataset(new LineChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new LineChartDataset().addData(data));
     }
 
     public QuickLineChart setTension(Number tension) {
@@ -47,11 +45,22 @@ public class QuickLineChart extends QuickChart<QuickLineChart, LineChartData> {
         return this;
     }
 
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickLineChart addStyledDataset(LineChartDataset dataset) {
+        int colorIndex = chartData.getDatasets().size();
+        chartData.addDataset(dataset
+                .setBackgroundColor(ChartColors.BACKGROUNDS.get(colorIndex % ChartColors.BACKGROUNDS.size()))
+                .setBorderColor(ChartColors.BORDERS.get(colorIndex % ChartColors.BORDERS.size()))
+                .setTension(0.15));
+        return this;
+    }
+
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new LineChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDataset())
-                .build();
+                .setChartData(chartData);
     }
 }
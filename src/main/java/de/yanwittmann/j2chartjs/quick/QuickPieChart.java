@@ -1,8 +1,10 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.PieChart;
 import de.yanwittmann.j2chartjs.data.DoughnutPieChartData;
 import de.yanwittmann.j2chartjs.dataset.DoughnutPieChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -13,30 +15,34 @@ public class QuickPieChart extends QuickChart<QuickPieChart, DoughnutPieChartDat
     }
 
     public QuickPieChart addDataset(String label, Collection<? extends Number> data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
     }
 
     public QuickPieChart addDataset(String label, Number... data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data).setLabel(label));
     }
 
     public QuickPieChart addDataset(Collection<? extends Number> data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data));
     }
 
     public QuickPieChart addDataset(Number... data) {
-        chartData.addDataset(new DoughnutPieChartDataset().addData(data));
+        return addStyledDataset(new DoughnutPieChartDataset().addData(data));
+    }
+
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickPieChart addStyledDataset(DoughnutPieChartDataset dataset) {
+        ChartColors.applyDefaultStylePerDatapoint(dataset);
+        chartData.addDataset(dataset);
         return this;
     }
 
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new PieChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDatapoint())
-                .build();
+                .setChartData(chartData);
     }
 }
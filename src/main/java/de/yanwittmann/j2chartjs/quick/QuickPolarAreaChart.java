@@ -1,8 +1,10 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.PolarAreaChart;
 import de.yanwittmann.j2chartjs.data.PolarAreaChartData;
 import de.yanwittmann.j2chartjs.dataset.PolarAreaChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -13,30 +15,34 @@ public class QuickPolarAreaChart extends QuickChart<QuickPolarAreaChart, PolarAr
     }
 
     public QuickPolarAreaChart addDataset(String label, Collection<? extends Number> data) {
-        chartData.addDataset(new PolarAreaChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new PolarAreaChartDataset().addData(data).setLabel(label));
     }
 
     public QuickPolarAreaChart addDataset(String label, Number... data) {
-        chartData.addDataset(new PolarAreaChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new PolarAreaChartDataset().addData(data).setLabel(label));
     }
 
     public QuickPolarAreaChart addDataset(Collection<? extends Number> data) {
-        chartData.addDataset(new PolarAreaChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new PolarAreaChartDataset().addData(data));
     }
 
     public QuickPolarAreaChart addDataset(Number... data) {
-        chartData.addDataset(new PolarAreaChartDataset().addData(data));
+        return addStyledDataset(new PolarAreaChartDataset().addData(data));
+    }
+
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickPolarAreaChart addStyledDataset(PolarAreaChartDataset dataset) {
+        ChartColors.applyDefaultStylePerDatapoint(dataset);
+        chartData.addDataset(dataset);
         return this;
     }
 
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new PolarAreaChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDatapoint())
-                .build();
+                .setChartData(chartData);
     }
 }
@@ -1,9 +1,11 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.RadarChart;
 import de.yanwittmann.j2chartjs.data.RadarChartData;
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
 import de.yanwittmann.j2chartjs.dataset.RadarChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -14,23 +16,19 @@ public class QuickRadarChart extends QuickChart<QuickRadarChart, RadarChartData>
     }
 
     public QuickRadarChart addDataset(String label, Collection<? extends Number> data) {
-        chartData.addDataset(new RadarChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new RadarChartDataset().addData(data).setLabel(label));
     }
 
     public QuickRadarChart addDataset(String label, Number... data) {
-        chartData.addDataset(new RadarChartDataset().addData(data).setLabel(label));
-        return this;
+        return addStyledDataset(new RadarChartDataset().addData(data).setLabel(label));
     }
 
     public QuickRadarChart addDataset(Collection<? extends Number> data) {
-        chartData.addDataset(new RadarChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new RadarChartDataset().addData(data));
     }
 
     public QuickRadarChart addDataset(Number... data) {
-        chartData.addDataset(new RadarChartDataset().addData(data));
-        return this;
+        return addStyledDataset(new RadarChartDataset().addData(data));
     }
 
     public QuickRadarChart setTension(Number tension) {
@@ -40,11 +38,21 @@ public class QuickRadarChart extends QuickChart<QuickRadarChart, RadarChartData>
         return this;
     }
 
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickRadarChart addStyledDataset(RadarChartDataset dataset) {
+        int colorIndex = chartData.getDatasets().size();
+        chartData.addDataset(dataset
+                .setBackgroundColor(ChartColors.BACKGROUNDS.get(colorIndex % ChartColors.BACKGROUNDS.size()))
+                .setBorderColor(ChartColors.BORDERS.get(colorIndex % ChartColors.BORDERS.size())));
+        return this;
+    }
+
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new RadarChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDatapoint())
-                .build();
+                .setChartData(chartData);
     }
 }
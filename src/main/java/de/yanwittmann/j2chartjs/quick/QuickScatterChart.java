@@ -1,10 +1,12 @@
 package de.yanwittmann.j2chartjs.quick;
 
+import de.yanwittmann.j2chartjs.chart.Chart;
 import de.yanwittmann.j2chartjs.chart.ScatterChart;
 import de.yanwittmann.j2chartjs.data.ScatterChartData;
 import de.yanwittmann.j2chartjs.datapoint.ScatterChartDatapoint;
 import de.yanwittmann.j2chartjs.dataset.ChartDataset;
 import de.yanwittmann.j2chartjs.dataset.ScatterChartDataset;
+import de.yanwittmann.j2chartjs.preset.ChartColors;
 
 import java.util.Collection;
 
@@ -16,28 +18,28 @@ public class QuickScatterChart extends QuickChart<QuickScatterChart, ScatterChar
 
     public QuickScatterChart addDatasets(String label, QuickScatterChartDataset... datasets) {
         for (QuickScatterChartDataset dataset : datasets) {
-            chartData.addDataset(new ScatterChartDataset().addData(dataset.toDatapoints()).setLabel(label));
+            addStyledDataset(new ScatterChartDataset().addData(dataset.toDatapoints()).setLabel(label));
         }
         return this;
     }
 
     public QuickScatterChart addDatasets(String label, Collection<QuickScatterChartDataset> datasets) {
         for (QuickScatterChartDataset dataset : datasets) {
-            chartData.addDataset(new ScatterChartDataset().addData(dataset.toDatapoints()).setLabel(label));
+            addStyledDataset(new ScatterChartDataset().addData(dataset.toDatapoints()).setLabel(label));
         }
         return this;
     }
 
     public QuickScatterChart addDatasets(QuickScatterChartDataset... datasets) {
         for (QuickScatterChartDataset dataset : datasets) {
-            chartData.addDataset(new ScatterChartDataset().addData(dataset.toDatapoints()));
+            addStyledDataset(new ScatterChartDataset().addData(dataset.toDatapoints()));
         }
         return this;
     }
 
     public QuickScatterChart addDatasets(Collection<QuickScatterChartDataset> datasets) {
         for (QuickScatterChartDataset dataset : datasets) {
-            chartData.addDataset(new ScatterChartDataset().addData(dataset.toDatapoints()));
+            addStyledDataset(new ScatterChartDataset().addData(dataset.toDatapoints()));
         }
         return this;
     }
@@ -56,11 +58,21 @@ public class QuickScatterChart extends QuickChart<QuickScatterChart, ScatterChar
         return this;
     }
 
+    /**
+     * Adds the dataset with the default style, leaving the style of the datasets that were added before untouched.
+     */
+    private QuickScatterChart addStyledDataset(ScatterChartDataset dataset) {
+        int colorIndex = chartData.getDatasets().size();
+        chartData.addDataset(dataset
+                .addBackgroundColor(ChartColors.BACKGROUNDS.get(colorIndex % ChartColors.BACKGROUNDS.size()))
+                .addBorderColor(ChartColors.BORDERS.get(colorIndex % ChartColors.BORDERS.size())));
+        return this;
+    }
+
     @Override
-    public String build() {
+    protected Chart<?, ?, ?, ?> createChart() {
         return new ScatterChart()
                 .setChartOptions(chartOptions)
-                .setChartData(chartData.applyDefaultStylePerDataset())
-                .build();
+                .setChartData(chartData);
     }
 }
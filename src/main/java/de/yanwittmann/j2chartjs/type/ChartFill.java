@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.type;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -28,7 +27,7 @@ public class ChartFill extends AbstractChartOption {
 
     public ChartFill setTarget(String target) {
         this.target = target;
-        return this;
+        return modified();
     }
 
     public Color getAbove() {
@@ -37,7 +36,7 @@ public class ChartFill extends AbstractChartOption {
 
     public ChartFill setAbove(Color above) {
         this.above = above;
-        return this;
+        return modified();
     }
 
     public Color getBelow() {
@@ -46,15 +45,21 @@ public class ChartFill extends AbstractChartOption {
 
     public ChartFill setBelow(Color below) {
         this.below = below;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject fillJson = new JSONObject();
-        Util.addToJson(fillJson, "target", target);
-        Util.addToJson(fillJson, "above", above);
-        Util.addToJson(fillJson, "below", below);
-        return fillJson;
+    public void reset() {
+        target = null;
+        above = null;
+        below = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("target", target);
+        writer.property("above", above);
+        writer.property("below", below);
     }
 }
@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.type;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 public class ChartFont extends AbstractChartOption {
 
@@ -35,7 +34,7 @@ public class ChartFont extends AbstractChartOption {
 
     public ChartFont setFamily(String family) {
         this.family = family;
-        return this;
+        return modified();
     }
 
     public Integer getSize() {
@@ -44,7 +43,7 @@ public class ChartFont extends AbstractChartOption {
 
     public ChartFont setSize(Integer size) {
         this.size = size;
-        return this;
+        return modified();
     }
 
     public String getStyle() {
@@ -53,7 +52,7 @@ public class ChartFont extends AbstractChartOption {
 
     public ChartFont setStyle(String style) {
         this.style = style;
-        return this;
+        return modified();
     }
 
     public String getWeight() {
@@ -62,7 +61,7 @@ public class ChartFont extends AbstractChartOption {
 
     public ChartFont setWeight(String weight) {
         this.weight = weight;
-        return this;
+        return modified();
     }
 
     public Number getLineHeight() {
@@ -71,27 +70,35 @@ public class ChartFont extends AbstractChartOption {
 
     public ChartFont setLineHeight(int lineHeight) {
         this.lineHeight = lineHeight;
-        return this;
+        return modified();
     }
 
     public ChartFont setLineHeight(double lineHeight) {
         this.lineHeight = lineHeight;
-        return this;
+        return modified();
     }
 
     public ChartFont setLineHeight(Number lineHeight) {
         this.lineHeight = lineHeight;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject fontJson = new JSONObject();
-        Util.addToJson(fontJson, "family", family);
-        Util.addToJson(fontJson, "size", size);
-        Util.addToJson(fontJson, "style", style);
-        Util.addToJson(fontJson, "weight", weight);
-        Util.addToJson(fontJson, "lineHeight", lineHeight);
-        return fontJson;
+    public void reset() {
+        family = null;
+        size = null;
+        style = null;
+        weight = null;
+        lineHeight = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("family", family);
+        writer.property("size", size);
+        writer.property("style", style);
+        writer.property("weight", weight);
+        writer.property("lineHeight", lineHeight);
     }
 }
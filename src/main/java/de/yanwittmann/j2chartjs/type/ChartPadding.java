@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.type;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 @SuppressWarnings("unchecked")
 public class ChartPadding extends AbstractChartOption {
@@ -21,22 +20,22 @@ public class ChartPadding extends AbstractChartOption {
 
     public ChartPadding setPaddingTop(Integer paddingTop) {
         this.paddingTop = paddingTop;
-        return this;
+        return modified();
     }
 
     public ChartPadding setPaddingBottom(Integer paddingBottom) {
         this.paddingBottom = paddingBottom;
-        return this;
+        return modified();
     }
 
     public ChartPadding setPaddingRight(Integer paddingRight) {
         this.paddingRight = paddingRight;
-        return this;
+        return modified();
     }
 
     public ChartPadding setPaddingLeft(Integer paddingLeft) {
         this.paddingLeft = paddingLeft;
-        return this;
+        return modified();
     }
 
     public boolean isIdentical() {
@@ -48,18 +47,25 @@ public class ChartPadding extends AbstractChartOption {
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject mainPaddingJson = new JSONObject();
+    public void reset() {
+        paddingTop = null;
+        paddingBottom = null;
+        paddingRight = null;
+        paddingLeft = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
         if (isIdentical()) {
-            mainPaddingJson.put("padding", paddingTop);
+            writer.property("padding", paddingTop);
         } else if (paddingTop != null || paddingBottom != null || paddingRight != null || paddingLeft != null) {
-            JSONObject paddingJson = new JSONObject();
-            Util.addToJson(paddingJson, "top", paddingTop);
-            Util.addToJson(paddingJson, "bottom", paddingBottom);
-            Util.addToJson(paddingJson, "right", paddingRight);
-            Util.addToJson(paddingJson, "left", paddingLeft);
-            mainPaddingJson.put("padding", paddingJson);
+            writer.name("padding").beginObject()
+                    .property("top", paddingTop)
+                    .property("bottom", paddingBottom)
+                    .property("right", paddingRight)
+                    .property("left", paddingLeft)
+                    .endObject();
         }
-        return mainPaddingJson;
     }
 }
@@ -1,8 +1,7 @@
 package de.yanwittmann.j2chartjs.type;
 
 import de.yanwittmann.j2chartjs.options.AbstractChartOption;
-import de.yanwittmann.util.Util;
-import org.json.JSONObject;
+import de.yanwittmann.util.JsonWriter;
 
 import java.awt.*;
 
@@ -54,7 +53,7 @@ public class ChartPointStyling extends AbstractChartOption {
 
     public ChartPointStyling setPointBackgroundColor(Color pointBackgroundColor) {
         this.pointBackgroundColor = pointBackgroundColor;
-        return this;
+        return modified();
     }
 
     public Color getPointBorderColor() {
@@ -63,7 +62,7 @@ public class ChartPointStyling extends AbstractChartOption {
 
     public ChartPointStyling setPointBorderColor(Color pointBorderColor) {
         this.pointBorderColor = pointBorderColor;
-        return this;
+        return modified();
     }
 
     public Number getPointBorderWidth() {
@@ -72,7 +71,7 @@ public class ChartPointStyling extends AbstractChartOption {
 
     public ChartPointStyling setPointBorderWidth(Number pointBorderWidth) {
         this.pointBorderWidth = pointBorderWidth;
-        return this;
+        return modified();
     }
 
     public Number getPointHitRadius() {
@@ -81,7 +80,7 @@ public class ChartPointStyling extends AbstractChartOption {
 
     public ChartPointStyling setPointHitRadius(Number pointHitRadius) {
         this.pointHitRadius = pointHitRadius;
-        return this;
+        return modified();
     }
 
     public Number getPointRadius() {
@@ -90,7 +89,7 @@ public class ChartPointStyling extends AbstractChartOption {
 
     public ChartPointStyling setPointRadius(Number pointRadius) {
         this.pointRadius = pointRadius;
-        return this;
+        return modified();
     }
 
     public Number getPointRotation() {
@@ -99,7 +98,7 @@ public class ChartPointStyling extends AbstractChartOption {
 
     public ChartPointStyling setPointRotation(Number pointRotation) {
         this.pointRotation = pointRotation;
-        return this;
+        return modified();
     }
 
     public String getPointStyle() {
@@ -108,19 +107,29 @@ public class ChartPointStyling extends AbstractChartOption {
 
     public ChartPointStyling setPointStyle(String pointStyle) {
         this.pointStyle = pointStyle;
-        return this;
+        return modified();
     }
 
     @Override
-    public JSONObject toJson() {
-        JSONObject pointsJson = new JSONObject();
-        Util.addToJson(pointsJson, "pointBackgroundColor", pointBackgroundColor);
-        Util.addToJson(pointsJson, "pointBorderColor", pointBorderColor);
-        Util.addToJson(pointsJson, "pointBorderWidth", pointBorderWidth);
-        Util.addToJson(pointsJson, "pointHitRadius", pointHitRadius);
-        Util.addToJson(pointsJson, "pointRadius", pointRadius);
-        Util.addToJson(pointsJson, "pointRotation", pointRotation);
-        Util.addToJson(pointsJson, "pointStyle", pointStyle);
-        return pointsJson;
+    public void reset() {
+        pointBackgroundColor = null;
+        pointBorderColor = null;
+        pointBorderWidth = null;
+        pointHitRadius = null;
+        pointRadius = null;
+        pointRotation = null;
+        pointStyle = null;
+        super.reset();
+    }
+
+    @Override
+    protected void writeProperties(JsonWriter writer) {
+        writer.property("pointBackgroundColor", pointBackgroundColor);
+        writer.property("pointBorderColor", pointBorderColor);
+        writer.property("pointBorderWidth", pointBorderWidth);
+        writer.property("pointHitRadius", pointHitRadius);
+        writer.property("pointRadius", pointRadius);
+        writer.property("pointRotation", pointRotation);
+        writer.property("pointStyle", pointStyle);
     }
 }
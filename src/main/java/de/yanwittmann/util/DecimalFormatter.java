@@ -0,0 +1,129 @@
+package de.yanwittmann.util;
+
+import org.json.JSONObject;
+
+/**
+ * Formats numbers with a limited amount of decimal places into the shortest decimal representation, without creating
+ * any intermediate objects. The digits are written into a caller-provided buffer.<br>
+ * Values are rounded half away from zero and trailing zeros are omitted, so <code>2.5000</code> becomes
+ * <code>2.5</code> and <code>3.0</code> becomes <code>3</code>. Non-finite values cannot be represented in JSON and
+ * are formatted as <code>null</code>.
+ */
+public final class DecimalFormatter {
+
+    public final static int MAX_PRECISION = 9;
+    /**
+     * Large enough for the longest representation created by {@link #format(double, int, char[], int)}.
+     */
+    public final static int BUFFER_SIZE = 32;
+
+    private final static long[] POWERS_OF_TEN = new long[MAX_PRECISION + 1];
+    /**
+     * Scaled values from this magnitude on can no longer be represented exactly by a double.
+     */
+    private final static double MAX_EXACT = 1L << 53;
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private DecimalFormatter() {
+    }
+
+    /**
+     * Writes the shortest representation of the value rounded to the given amount of decimal places into the buffer.
+     *
+     * @param value     The value to format.
+     * @param precision The maximum amount of decimal places, between <code>0</code> and {@link #MAX_PRECISION}.
+     * @param buffer    The buffer to write into.
+     * @param offset    The index in the buffer to start writing at. At least {@link #BUFFER_SIZE} chars have to be
+     *                  available from there on.
+     * @return The index after the last written char.
+     */
+    public static int format(double value, int precision, char[] buffer, int offset) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            buffer[offset] = 'n';
+            buffer[offset + 1] = 'u';
+            buffer[offset + 2] = 'l';
+            buffer[offset + 3] = 'l';
+            return offset + 4;
+        }
+        precision = checkPrecision(precision);
+
+        double scaled = Math.abs(value) * POWERS_OF_TEN[precision];
+        if (scaled >= MAX_EXACT) {
+            // the decimal places are beyond the precision of a double anyway, this is rarely the case for chart data
+            String formatted = JSONObject.numberToString(value);
+            formatted.getChars(0, formatted.length(), buffer, offset);
+            return offset + formatted.length();
+        }
+
+        long rounded = (long) (scaled + 0.5);
+        if (rounded == 0) {
+            buffer[offset] = '0';
+            return offset + 1;
+        }
+
+        int position = offset;
+        if (value < 0) buffer[position++] = '-';
+
+        long integerPart = rounded / POWERS_OF_TEN[precision];
+        long fractionPart = rounded % POWERS_OF_TEN[precision];
+        position = writeDigits(integerPart, buffer, position);
+
+        if (fractionPart != 0) {
+            int decimals = precision;
+            while (fractionPart % 10 == 0) {
+                fractionPart /= 10;
+                decimals--;
+            }
+            buffer[position++] = '.';
+            for (int i = decimals - 1; i >= 0; i--) {
+                buffer[position + i] = (char) ('0' + fractionPart % 10);
+                fractionPart /= 10;
+            }
+            position += decimals;
+        }
+        return position;
+    }
+
+    /**
+     * Formats the value into a new String.
+     *
+     * @param value     The value to format.
+     * @param precision The maximum amount of decimal places.
+     * @return The formatted value.
+     * @see #format(double, int, char[], int)
+     */
+    public static String toString(double value, int precision) {
+        char[] buffer = new char[BUFFER_SIZE];
+        return new String(buffer, 0, format(value, precision, buffer, 0));
+    }
+
+    /**
+     * @param precision The amount of decimal places to check.
+     * @return The given precision.
+     * @throws IllegalArgumentException If the precision is not between <code>0</code> and {@link #MAX_PRECISION}.
+     */
+    public static int checkPrecision(int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision has to be between 0 and " + MAX_PRECISION + ": " + precision);
+        }
+        return precision;
+    }
+
+    private static int writeDigits(long value, char[] buffer, int position) {
+        int length = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+            length++;
+        }
+        for (int i = position + length - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + length;
+    }
+}
@@ -0,0 +1,166 @@
+package de.yanwittmann.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list of numbers that stores its values in a growable <code>double[]</code> instead of boxing every value.<br>
+ * <code>null</code> is stored as <code>NaN</code>, so both of them are read back as <code>null</code> and written as
+ * <code>null</code> by the {@link JsonWriter}, which makes Chart.js skip the datapoint.
+ */
+public class DoubleList extends AbstractList<Number> implements DoubleSequence, RandomAccess {
+
+    private final static double[] EMPTY = new double[0];
+
+    private double[] values;
+    private int size = 0;
+
+    public DoubleList() {
+        this.values = EMPTY;
+    }
+
+    public DoubleList(int initialCapacity) {
+        this.values = initialCapacity == 0 ? EMPTY : new double[initialCapacity];
+    }
+
+    public DoubleList(double[] values) {
+        this.values = Arrays.copyOf(values, values.length);
+        this.size = values.length;
+    }
+
+    /**
+     * @param index The index of the value.
+     * @return The value at the index, <code>NaN</code> if the value is <code>null</code>.
+     */
+    @Override
+    public double getDouble(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public Number get(int index) {
+        double value = getDouble(index);
+        return Double.isNaN(value) ? null : value;
+    }
+
+    public double setDouble(int index, double value) {
+        checkIndex(index);
+        double previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    @Override
+    public Number set(int index, Number element) {
+        double previous = setDouble(index, toDouble(element));
+        return Double.isNaN(previous) ? null : previous;
+    }
+
+    public boolean addDouble(double value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean add(Number element) {
+        return addDouble(toDouble(element));
+    }
+
+    @Override
+    public void add(int index, Number element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        ensureCapacity(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = toDouble(element);
+        size++;
+        modCount++;
+    }
+
+    public boolean addAll(double[] values) {
+        return addAll(values, 0, values.length);
+    }
+
+    public boolean addAll(double[] values, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(values, offset, this.values, size, length);
+        size += length;
+        modCount++;
+        return length > 0;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Number> collection) {
+        if (collection instanceof DoubleList) {
+            DoubleList other = (DoubleList) collection;
+            return addAll(other.values, 0, other.size);
+        }
+        if (collection instanceof DoubleSequence) {
+            DoubleSequence other = (DoubleSequence) collection;
+            ensureCapacity(size + other.size());
+            for (int i = 0; i < other.size(); i++) {
+                values[size++] = other.getDouble(i);
+            }
+            modCount++;
+            return other.size() > 0;
+        }
+        ensureCapacity(size + collection.size());
+        for (Number value : collection) {
+            values[size++] = toDouble(value);
+        }
+        modCount++;
+        return !collection.isEmpty();
+    }
+
+    @Override
+    public Number remove(int index) {
+        double previous = getDouble(index);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return Double.isNaN(previous) ? null : previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A copy of the values of this list.
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, Math.max(values.length + (values.length >> 1), 10)));
+        }
+    }
+
+    /**
+     * Reduces the capacity of this list to its size.
+     */
+    public void trimToSize() {
+        if (values.length > size) values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private static double toDouble(Number value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+}
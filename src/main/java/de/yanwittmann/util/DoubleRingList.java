@@ -0,0 +1,177 @@
+package de.yanwittmann.util;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list of numbers with a fixed capacity that stores its values in a circular <code>double[]</code>. Adding a value
+ * to a full list removes the oldest value, so the list always contains the latest values in the order they were
+ * added. Adding values and removing the first or last value take constant time.<br>
+ * Like the {@link DoubleList}, <code>null</code> is stored as <code>NaN</code>.
+ */
+public class DoubleRingList extends AbstractList<Number> implements DoubleSequence, RandomAccess {
+
+    private final double[] values;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param capacity The maximum amount of values in this list.
+     */
+    public DoubleRingList(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("The capacity has to be positive: " + capacity);
+        this.values = new double[capacity];
+    }
+
+    /**
+     * @param capacity The maximum amount of values in this list.
+     * @param values   The initial values, only the latest of them are kept if they exceed the capacity.
+     */
+    public DoubleRingList(int capacity, Collection<? extends Number> values) {
+        this(capacity);
+        addAll(values);
+    }
+
+    public int getCapacity() {
+        return values.length;
+    }
+
+    public boolean isFull() {
+        return size == values.length;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        checkIndex(index);
+        return values[position(index)];
+    }
+
+    @Override
+    public Number get(int index) {
+        double value = getDouble(index);
+        return Double.isNaN(value) ? null : value;
+    }
+
+    public double setDouble(int index, double value) {
+        checkIndex(index);
+        int position = position(index);
+        double previous = values[position];
+        values[position] = value;
+        return previous;
+    }
+
+    @Override
+    public Number set(int index, Number element) {
+        double previous = setDouble(index, toDouble(element));
+        return Double.isNaN(previous) ? null : previous;
+    }
+
+    /**
+     * Appends the value, removing the oldest value if the list is full.
+     *
+     * @param value The value to append.
+     * @return <code>true</code>
+     */
+    public boolean addDouble(double value) {
+        if (size == values.length) {
+            values[head] = value;
+            head = (head + 1) % values.length;
+        } else {
+            values[position(size++)] = value;
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean add(Number element) {
+        return addDouble(toDouble(element));
+    }
+
+    /**
+     * Only appending values is supported.
+     */
+    @Override
+    public void add(int index, Number element) {
+        if (index != size) throw new UnsupportedOperationException("Values can only be appended to a ring list");
+        add(element);
+    }
+
+    /**
+     * Appends the values, only the latest of them are kept if they exceed the capacity.
+     *
+     * @param values The values to append.
+     * @return <code>true</code> if any values were appended.
+     */
+    public boolean addAll(double[] values) {
+        int offset = Math.max(0, values.length - this.values.length);
+        for (int i = offset; i < values.length; i++) {
+            addDouble(values[i]);
+        }
+        return values.length > 0;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Number> collection) {
+        if (collection instanceof DoubleSequence) {
+            DoubleSequence other = (DoubleSequence) collection;
+            for (int i = Math.max(0, other.size() - values.length); i < other.size(); i++) {
+                addDouble(other.getDouble(i));
+            }
+            return other.size() > 0;
+        }
+        return super.addAll(collection);
+    }
+
+    @Override
+    public Number remove(int index) {
+        double previous = getDouble(index);
+        if (index == 0) {
+            head = (head + 1) % values.length;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                values[position(i)] = values[position(i + 1)];
+            }
+        }
+        size--;
+        modCount++;
+        return Double.isNaN(previous) ? null : previous;
+    }
+
+    @Override
+    public void clear() {
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A copy of the values of this list, oldest first.
+     */
+    public double[] toDoubleArray() {
+        double[] copy = new double[size];
+        int firstPart = Math.min(size, values.length - head);
+        System.arraycopy(values, head, copy, 0, firstPart);
+        System.arraycopy(values, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    private int position(int index) {
+        int position = head + index;
+        return position < values.length ? position : position - values.length;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private static double toDouble(Number value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+}
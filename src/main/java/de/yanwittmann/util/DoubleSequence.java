@@ -0,0 +1,12 @@
+package de.yanwittmann.util;
+
+/**
+ * A sequence of primitive <code>double</code> values that the {@link JsonWriter} can write as an array without
+ * boxing them. <code>NaN</code> values are written as <code>null</code>.
+ */
+public interface DoubleSequence {
+
+    int size();
+
+    double getDouble(int index);
+}
@@ -0,0 +1,15 @@
+package de.yanwittmann.util;
+
+/**
+ * An element of a chart configuration, like an option or a dataset, that writes itself into a {@link JsonWriter} when
+ * it is passed to {@link JsonWriter#value(Object)}.
+ */
+public interface JsonWritable {
+
+    /**
+     * Writes this element as a single value into the writer.
+     *
+     * @param writer The writer to write the element to.
+     */
+    void writeJson(JsonWriter writer);
+}
@@ -0,0 +1,532 @@
+package de.yanwittmann.util;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Streams a chart configuration directly into an {@link Appendable}, without building an intermediate
+ * <code>org.json</code> tree first.<br>
+ * Values are converted the same way {@link Util#addToJson(JSONObject, String, Object)} converts them: colors become
+ * <code>rgb(...)</code>/<code>rgba(...)</code> strings, numbers are rounded using a {@link DecimalFormatter} and
+ * {@link JsonWritable} chart elements serialize themselves.<br>
+ * {@link IOException}s thrown by the underlying {@link Appendable} are rethrown as {@link UncheckedIOException}s.
+ */
+public class JsonWriter {
+
+    private final Appendable out;
+    /**
+     * For every currently open object or array, whether an element has already been written into it.
+     */
+    private boolean[] hasElements = new boolean[16];
+    private int depth = 0;
+    private boolean afterName = false;
+    private boolean compactDatapointAttributes = false;
+    private int decimalPrecision = 3;
+    private int[] datapointSelection = null;
+    private Consumer<JsonWriter> dataReplacement = null;
+    private final char[] numberBuffer = new char[DecimalFormatter.BUFFER_SIZE];
+    private final CharBuffer numberChars = CharBuffer.wrap(numberBuffer);
+
+    public JsonWriter(Appendable out) {
+        this.out = out;
+    }
+
+    public Appendable getOut() {
+        return out;
+    }
+
+    public boolean isCompactDatapointAttributes() {
+        return compactDatapointAttributes;
+    }
+
+    /**
+     * If active, per-datapoint attribute lists written using {@link #datapointProperty(String, List, int)} will be
+     * simplified into a single value or a function that returns the value based on the index of the datapoint where
+     * possible. This makes the output JavaScript instead of JSON.
+     *
+     * @param compactDatapointAttributes Whether to simplify per-datapoint attribute lists.
+     * @return This instance to allow for API chaining.
+     */
+    public JsonWriter setCompactDatapointAttributes(boolean compactDatapointAttributes) {
+        this.compactDatapointAttributes = compactDatapointAttributes;
+        return this;
+    }
+
+    public int getDecimalPrecision() {
+        return decimalPrecision;
+    }
+
+    /**
+     * Sets the maximum amount of decimal places numbers are written with. Defaults to <code>3</code>.
+     *
+     * @param decimalPrecision The amount of decimal places, between <code>0</code> and {@link DecimalFormatter#MAX_PRECISION}.
+     * @return This instance to allow for API chaining.
+     */
+    public JsonWriter setDecimalPrecision(int decimalPrecision) {
+        this.decimalPrecision = DecimalFormatter.checkPrecision(decimalPrecision);
+        return this;
+    }
+
+    public int[] getDatapointSelection() {
+        return datapointSelection;
+    }
+
+    /**
+     * Restricts the per-datapoint values written using {@link #datapointProperty(String, List, int)} to the
+     * datapoints at the given indices. Attribute lists shorter than the data are repeated, like Chart.js does.
+     *
+     * @param datapointSelection The ascending indices of the datapoints to write, <code>null</code> to write all of
+     *                           them.
+     * @return This instance to allow for API chaining.
+     */
+    public JsonWriter setDatapointSelection(int[] datapointSelection) {
+        this.datapointSelection = datapointSelection;
+        return this;
+    }
+
+    public Consumer<JsonWriter> getDataReplacement() {
+        return dataReplacement;
+    }
+
+    /**
+     * Replaces the data of the datasets written next, for example by aggregated datapoints. Combined with a
+     * {@link #setDatapointSelection(int[]) selection}, the per-datapoint attributes of the aggregated datapoints are
+     * taken from the selected datapoints.
+     *
+     * @param dataReplacement Writes the replaced data as value, <code>null</code> to write the original data.
+     * @return This instance to allow for API chaining.
+     */
+    public JsonWriter setDataReplacement(Consumer<JsonWriter> dataReplacement) {
+        this.dataReplacement = dataReplacement;
+        return this;
+    }
+
+    /**
+     * Creates a writer for the given output that uses the same settings as this writer.
+     *
+     * @param out The output to write to.
+     * @return The new writer.
+     */
+    public JsonWriter copySettings(Appendable out) {
+        return new JsonWriter(out)
+                .setCompactDatapointAttributes(compactDatapointAttributes)
+                .setDecimalPrecision(decimalPrecision)
+                .setDatapointSelection(datapointSelection)
+                .setDataReplacement(dataReplacement);
+    }
+
+    /**
+     * Writes an element for every given element into the current array. If an executor is given, the elements are
+     * serialized concurrently into separate buffers that are appended in order, so the output is identical to writing
+     * them one after another.
+     *
+     * @param elements   The elements to write.
+     * @param serializer Writes a single element as value into the given writer.
+     * @param executor   The executor to serialize the elements on, <code>null</code> to write them on this thread.
+     * @param <T>        Type of the elements.
+     * @return This instance to allow for API chaining.
+     */
+    public <T> JsonWriter values(List<T> elements, BiConsumer<JsonWriter, T> serializer, Executor executor) {
+        if (executor == null || elements.size() < 2) {
+            for (T element : elements) {
+                serializer.accept(this, element);
+            }
+            return this;
+        }
+
+        List<CompletableFuture<String>> fragments = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            fragments.add(CompletableFuture.supplyAsync(() -> {
+                StringBuilder fragment = new StringBuilder();
+                serializer.accept(copySettings(fragment), element);
+                return fragment.toString();
+            }, executor));
+        }
+        for (CompletableFuture<String> fragment : fragments) {
+            try {
+                rawValue(fragment.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                throw e;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Serializes an element into a String using a new writer.
+     *
+     * @param serializer The serialization to perform on the writer.
+     * @return The serialized element.
+     */
+    public static String serialize(Consumer<JsonWriter> serializer) {
+        StringBuilder builder = new StringBuilder();
+        serializer.accept(new JsonWriter(builder));
+        return builder.toString();
+    }
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        append('{');
+        push();
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        depth--;
+        append('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        append('[');
+        push();
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        depth--;
+        append(']');
+        return this;
+    }
+
+    public JsonWriter name(String name) {
+        beforeValue();
+        string(name);
+        append(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes the key and the converted value into the current object, if both of them are not <code>null</code>.
+     *
+     * @param key   The key under which to add the value.
+     * @param value The value to convert and add.
+     * @return This instance to allow for API chaining.
+     */
+    public JsonWriter property(String key, Object value) {
+        if (key == null || value == null) return this;
+        name(key);
+        return value(value);
+    }
+
+    /**
+     * Writes a list of per-datapoint attribute values into the current object, if both key and values are not
+     * <code>null</code>.
+     *
+     * @param key      The key under which to add the values.
+     * @param values   The values of the attribute, one for every datapoint.
+     * @param dataSize The amount of datapoints in the dataset the attribute belongs to.
+     * @return This instance to allow for API chaining.
+     * @see #setCompactDatapointAttributes(boolean)
+     */
+    public JsonWriter datapointProperty(String key, List<?> values, int dataSize) {
+        if (key == null || values == null) return this;
+        if (datapointSelection != null && !values.isEmpty()) {
+            int selected = 0;
+            while (selected < datapointSelection.length && datapointSelection[selected] < dataSize) selected++;
+            values = values instanceof DoubleSequence
+                    ? new SelectedDoubles((DoubleSequence) values, datapointSelection, selected)
+                    : new SelectedValues(values, datapointSelection, selected);
+            dataSize = selected;
+        }
+        if (compactDatapointAttributes) {
+            String compacted = Util.compactDatapointAttribute(key, values, dataSize);
+            if (compacted != null) {
+                name(key);
+                return rawValue(compacted);
+            }
+        }
+        return property(key, values);
+    }
+
+    public JsonWriter value(Object value) {
+        if (value == null) {
+            return nullValue();
+        } else if (value instanceof CharSequence) {
+            return value(value.toString());
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            return value(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            return value(((Boolean) value).booleanValue());
+        } else if (value instanceof Color) {
+            return value(Util.convertColorToJs((Color) value));
+        } else if (value instanceof DoubleSequence) {
+            DoubleSequence sequence = (DoubleSequence) value;
+            beginArray();
+            for (int i = 0; i < sequence.size(); i++) {
+                value(sequence.getDouble(i));
+            }
+            return endArray();
+        } else if (value instanceof JsonWritable) {
+            ((JsonWritable) value).writeJson(this);
+        } else if (value instanceof Collection) {
+            beginArray();
+            for (Object element : (Collection<?>) value) {
+                value(element);
+            }
+            return endArray();
+        } else if (value instanceof Map) {
+            beginObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getKey() != null) property(entry.getKey().toString(), entry.getValue());
+            }
+            return endObject();
+        } else if (value instanceof JSONObject || value instanceof JSONArray) {
+            return rawValue(value.toString());
+        } else if (value instanceof Enum) {
+            return value(((Enum<?>) value).name());
+        } else {
+            return value(value.toString());
+        }
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        if (value == null) return nullValue();
+        beforeValue();
+        string(value);
+        return this;
+    }
+
+    /**
+     * Writes the number rounded to the configured amount of decimal places. <code>NaN</code> and infinite values are
+     * written as <code>null</code>.
+     *
+     * @param value The number to write.
+     * @return This instance to allow for API chaining.
+     * @see #setDecimalPrecision(int)
+     */
+    public JsonWriter value(double value) {
+        beforeValue();
+        appendNumber(DecimalFormatter.format(value, decimalPrecision, numberBuffer, 0));
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        if (value == Long.MIN_VALUE) {
+            append(Long.toString(value));
+            return this;
+        }
+        int position = numberBuffer.length;
+        long remaining = Math.abs(value);
+        do {
+            numberBuffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) numberBuffer[--position] = '-';
+        System.arraycopy(numberBuffer, position, numberBuffer, 0, numberBuffer.length - position);
+        appendNumber(numberBuffer.length - position);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        append(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        append("null");
+        return this;
+    }
+
+    /**
+     * Writes the given text as a value without any conversion or escaping. This can be used to insert JavaScript
+     * expressions such as functions into the configuration.
+     *
+     * @param value The text to insert.
+     * @return This instance to allow for API chaining.
+     */
+    public JsonWriter rawValue(CharSequence value) {
+        beforeValue();
+        append(value);
+        return this;
+    }
+
+    private void push() {
+        if (depth == hasElements.length) {
+            boolean[] grown = new boolean[depth * 2];
+            System.arraycopy(hasElements, 0, grown, 0, depth);
+            hasElements = grown;
+        }
+        hasElements[depth++] = false;
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+        } else if (depth > 0) {
+            if (hasElements[depth - 1]) append(',');
+            hasElements[depth - 1] = true;
+        }
+    }
+
+    /**
+     * Writes a quoted string, escaped the same way <code>JSONObject.quote</code> escapes them.
+     */
+    private void string(String value) {
+        append('"');
+        int start = 0;
+        char previous = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = null;
+            switch (c) {
+                case '"':
+                    replacement = "\\\"";
+                    break;
+                case '\\':
+                    replacement = "\\\\";
+                    break;
+                case '/':
+                    if (previous == '<') replacement = "\\/";
+                    break;
+                case '\b':
+                    replacement = "\\b";
+                    break;
+                case '\t':
+                    replacement = "\\t";
+                    break;
+                case '\n':
+                    replacement = "\\n";
+                    break;
+                case '\f':
+                    replacement = "\\f";
+                    break;
+                case '\r':
+                    replacement = "\\r";
+                    break;
+                default:
+                    if (c < ' ' || (c >= 0x80 && c < 0xa0) || (c >= 0x2000 && c < 0x2100)) {
+                        replacement = "\\u" + HEX_DIGITS[(c >> 12) & 0xF] + HEX_DIGITS[(c >> 8) & 0xF] + HEX_DIGITS[(c >> 4) & 0xF] + HEX_DIGITS[c & 0xF];
+                    }
+            }
+            if (replacement != null) {
+                append(value, start, i);
+                append(replacement);
+                start = i + 1;
+            }
+            previous = c;
+        }
+        append(value, start, value.length());
+        append('"');
+    }
+
+    /**
+     * A view of the values at the selected datapoint indices.
+     */
+    private static class SelectedValues extends AbstractList<Object> {
+        private final List<?> values;
+        private final int[] indices;
+        private final int size;
+
+        private SelectedValues(List<?> values, int[] indices, int size) {
+            this.values = values;
+            this.indices = indices;
+            this.size = size;
+        }
+
+        @Override
+        public Object get(int index) {
+            return values.get(indices[index] % values.size());
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A view of the primitive values at the selected datapoint indices.
+     */
+    private static class SelectedDoubles extends AbstractList<Number> implements DoubleSequence {
+        private final DoubleSequence values;
+        private final int[] indices;
+        private final int size;
+
+        private SelectedDoubles(DoubleSequence values, int[] indices, int size) {
+            this.values = values;
+            this.indices = indices;
+            this.size = size;
+        }
+
+        @Override
+        public double getDouble(int index) {
+            return values.getDouble(indices[index] % values.size());
+        }
+
+        @Override
+        public Number get(int index) {
+            double value = getDouble(index);
+            return Double.isNaN(value) ? null : value;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final static char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private void appendNumber(int length) {
+        try {
+            if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(numberBuffer, 0, length);
+            } else {
+                out.append(numberChars, 0, length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(char c) {
+        try {
+            out.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(CharSequence s) {
+        try {
+            out.append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(CharSequence s, int start, int end) {
+        if (start == end) return;
+        try {
+            out.append(s, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
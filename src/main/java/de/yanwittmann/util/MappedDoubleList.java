@@ -0,0 +1,110 @@
+package de.yanwittmann.util;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A read-only list of numbers backed by a memory-mapped region of a file that contains little-endian
+ * <code>double</code> values. The values stay off-heap and are only read when they are accessed, for example while
+ * a chart is being built.<br>
+ * Large regions are mapped in multiple chunks, since a single mapping is limited to 2 GB. <code>NaN</code> values are
+ * read as <code>null</code>.
+ */
+public class MappedDoubleList extends AbstractList<Number> implements DoubleSequence, RandomAccess {
+
+    /**
+     * Amount of values per mapped chunk as a power of two: 2^27 values are 1 GB.
+     */
+    private final static int CHUNK_SHIFT = 27;
+    private final static int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final DoubleBuffer[] chunks;
+    private final int size;
+
+    private MappedDoubleList(DoubleBuffer[] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Maps all values of the file.
+     *
+     * @param file The file containing the little-endian <code>double</code> values.
+     * @return The list of values.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static MappedDoubleList map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return map(channel, 0, channel.size() / Double.BYTES);
+        }
+    }
+
+    /**
+     * Maps a region of the file.
+     *
+     * @param file   The file containing the little-endian <code>double</code> values.
+     * @param offset The position in bytes in the file at which the first value starts.
+     * @param count  The amount of values to map.
+     * @return The list of values.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static MappedDoubleList map(Path file, long offset, long count) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return map(channel, offset, count);
+        }
+    }
+
+    /**
+     * Maps a region of the channel. The mapping stays valid after the channel has been closed.
+     *
+     * @param channel The channel to map the values from.
+     * @param offset  The position in bytes at which the first value starts.
+     * @param count   The amount of values to map.
+     * @return The list of values.
+     * @throws IOException If the channel cannot be mapped.
+     */
+    public static MappedDoubleList map(FileChannel channel, long offset, long count) throws IOException {
+        if (offset < 0 || count < 0) {
+            throw new IllegalArgumentException("Offset and count must not be negative: " + offset + ", " + count);
+        }
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Cannot map more than " + (Integer.MAX_VALUE - 8) + " values: " + count);
+        }
+        if (offset + count * Double.BYTES > channel.size()) {
+            throw new IllegalArgumentException("Region exceeds the size of the file (" + channel.size() + " bytes): " + count + " values at " + offset);
+        }
+
+        DoubleBuffer[] chunks = new DoubleBuffer[(int) ((count + CHUNK_MASK) >> CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+            long first = (long) i << CHUNK_SHIFT;
+            long values = Math.min(count - first, 1L << CHUNK_SHIFT);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + first * Double.BYTES, values * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asDoubleBuffer();
+        }
+        return new MappedDoubleList(chunks, (int) count);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return chunks[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    @Override
+    public Number get(int index) {
+        double value = getDouble(index);
+        return Double.isNaN(value) ? null : value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,130 @@
+package de.yanwittmann.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list with a fixed capacity that stores its elements in a circular buffer. Adding an element to a full list
+ * removes the oldest element, so the list always contains the latest elements in the order they were added. Adding
+ * elements and removing the first or last element take constant time.
+ *
+ * @param <E> Type of the elements.
+ */
+public class RingList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final Object[] elements;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param capacity The maximum amount of elements in this list.
+     */
+    public RingList(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("The capacity has to be positive: " + capacity);
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * @param capacity The maximum amount of elements in this list.
+     * @param elements The initial elements, only the latest of them are kept if they exceed the capacity.
+     */
+    public RingList(int capacity, Collection<? extends E> elements) {
+        this(capacity);
+        addAll(elements);
+    }
+
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    public boolean isFull() {
+        return size == elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) elements[position(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int position = position(index);
+        E previous = (E) elements[position];
+        elements[position] = element;
+        return previous;
+    }
+
+    /**
+     * Appends the element, removing the oldest element if the list is full.
+     *
+     * @param element The element to append.
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean add(E element) {
+        if (size == elements.length) {
+            elements[head] = element;
+            head = (head + 1) % elements.length;
+        } else {
+            elements[position(size++)] = element;
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Only appending elements is supported.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index != size) throw new UnsupportedOperationException("Elements can only be appended to a ring list");
+        add(element);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        E previous = (E) elements[position(index)];
+        if (index == 0) {
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[position(i)] = elements[position(i + 1)];
+            }
+            elements[position(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int position(int index) {
+        int position = head + index;
+        return position < elements.length ? position : position - elements.length;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
@@ -0,0 +1,291 @@
+package de.yanwittmann.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.Checksum;
+
+/**
+ * An {@link Appendable} that encodes the appended characters as UTF-8 on the fly and passes the bytes on to an
+ * {@link OutputStream}, a {@link WritableByteChannel} or a {@link ByteBuffer}.<br>
+ * Streams and channels are written to through a buffer of a fixed size, so the memory footprint does not depend on
+ * the amount of text written. Call {@link #flush()} after the last character has been appended.<br>
+ * Unpaired surrogate characters are replaced by <code>?</code>, like {@link String#getBytes(java.nio.charset.Charset)}
+ * does.
+ */
+public abstract class Utf8Output implements Appendable, Flushable {
+
+    public final static int DEFAULT_BUFFER_SIZE = 8192;
+
+    protected final ByteBuffer buffer;
+    private char highSurrogate = 0;
+    private Checksum checksum;
+    private int checksumStart;
+    private byte[] checksumChunk;
+
+    protected Utf8Output(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static Utf8Output to(OutputStream out) {
+        return to(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param out        The stream to write the encoded bytes to.
+     * @param bufferSize The size of the buffer in bytes, at least <code>4</code> to hold any encoded character.
+     * @return The output.
+     */
+    public static Utf8Output to(OutputStream out, int bufferSize) {
+        return new StreamOutput(out, checkBufferSize(bufferSize));
+    }
+
+    public static Utf8Output to(WritableByteChannel channel) {
+        return to(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel    The channel to write the encoded bytes to.
+     * @param bufferSize The size of the buffer in bytes, at least <code>4</code> to hold any encoded character.
+     * @return The output.
+     */
+    public static Utf8Output to(WritableByteChannel channel, int bufferSize) {
+        return new ChannelOutput(channel, checkBufferSize(bufferSize));
+    }
+
+    private static int checkBufferSize(int bufferSize) {
+        if (bufferSize < 4) throw new IllegalArgumentException("The buffer has to hold at least 4 bytes: " + bufferSize);
+        return bufferSize;
+    }
+
+    /**
+     * Creates an output that only updates the checksum with the encoded bytes and discards them, to compute the
+     * checksum of a text without building it.
+     *
+     * @param checksum The checksum to update.
+     * @return The output.
+     */
+    public static Utf8Output checksum(Checksum checksum) {
+        return new DiscardingOutput().setChecksum(checksum);
+    }
+
+    /**
+     * Encodes the characters directly into the given buffer, starting at its current position.
+     *
+     * @param target The buffer to write into.
+     * @return The output.
+     * @throws BufferOverflowException When appending, if the remaining space in the buffer is not sufficient.
+     */
+    public static Utf8Output into(ByteBuffer target) {
+        return new BufferOutput(target);
+    }
+
+    public Checksum getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Updates the checksum with all bytes written from now on, for example to compute an HTTP <code>ETag</code> while
+     * writing the response. The checksum is up to date after {@link #flush()}.
+     *
+     * @param checksum The checksum to update, <code>null</code> to stop updating it.
+     * @return This instance to allow for API chaining.
+     */
+    public Utf8Output setChecksum(Checksum checksum) {
+        this.checksum = checksum;
+        this.checksumStart = buffer.position();
+        return this;
+    }
+
+    @Override
+    public Utf8Output append(CharSequence csq) throws IOException {
+        if (csq == null) csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Utf8Output append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) csq = "null";
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Utf8Output append(char c) throws IOException {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                require(4);
+                buffer.put((byte) (0xf0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3f)));
+                return this;
+            }
+            require(1);
+            buffer.put((byte) '?');
+        }
+
+        if (c < 0x80) {
+            require(1);
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            require(2);
+            buffer.put((byte) (0xc0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3f)));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            require(1);
+            buffer.put((byte) '?');
+        } else {
+            require(3);
+            buffer.put((byte) (0xe0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+            buffer.put((byte) (0x80 | (c & 0x3f)));
+        }
+        return this;
+    }
+
+    /**
+     * Writes bytes that are already encoded as UTF-8, for example constant parts of the output that are encoded once
+     * and written many times.
+     *
+     * @param bytes The UTF-8 encoded bytes.
+     * @return This instance to allow for API chaining.
+     * @throws IOException If the target throws an exception while writing.
+     */
+    public Utf8Output write(byte[] bytes) throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            require(1);
+            buffer.put((byte) '?');
+        }
+        int offset = 0;
+        while (offset < bytes.length) {
+            require(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+        return this;
+    }
+
+    /**
+     * Writes all buffered bytes to the target. A pending unpaired surrogate character is written as <code>?</code>.
+     *
+     * @throws IOException If the target throws an exception while writing.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            require(1);
+            buffer.put((byte) '?');
+        }
+        emit();
+    }
+
+    private void require(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) emit();
+        if (buffer.remaining() < bytes) throw new BufferOverflowException();
+    }
+
+    /**
+     * Updates the checksum with the bytes written since the last update and passes the buffer on to the target.
+     */
+    private void emit() throws IOException {
+        if (checksum != null) {
+            int end = buffer.position();
+            if (buffer.hasArray()) {
+                checksum.update(buffer.array(), buffer.arrayOffset() + checksumStart, end - checksumStart);
+            } else {
+                if (checksumChunk == null) checksumChunk = new byte[Math.min(buffer.capacity(), 4096)];
+                ByteBuffer written = buffer.duplicate();
+                written.position(checksumStart);
+                while (written.position() < end) {
+                    int length = Math.min(checksumChunk.length, end - written.position());
+                    written.get(checksumChunk, 0, length);
+                    checksum.update(checksumChunk, 0, length);
+                }
+            }
+        }
+        drain();
+        checksumStart = buffer.position();
+    }
+
+    /**
+     * Passes the bytes between the start of the buffer and its position on to the target and clears the buffer.
+     *
+     * @throws IOException If the target throws an exception while writing.
+     */
+    protected abstract void drain() throws IOException;
+
+    private static class StreamOutput extends Utf8Output {
+        private final OutputStream out;
+
+        private StreamOutput(OutputStream out, int bufferSize) {
+            super(ByteBuffer.allocate(bufferSize));
+            this.out = out;
+        }
+
+        @Override
+        protected void drain() throws IOException {
+            out.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            super.flush();
+            out.flush();
+        }
+    }
+
+    private static class ChannelOutput extends Utf8Output {
+        private final WritableByteChannel channel;
+
+        private ChannelOutput(WritableByteChannel channel, int bufferSize) {
+            super(ByteBuffer.allocateDirect(bufferSize));
+            this.channel = channel;
+        }
+
+        @Override
+        protected void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static class DiscardingOutput extends Utf8Output {
+        private DiscardingOutput() {
+            super(ByteBuffer.allocate(DEFAULT_BUFFER_SIZE));
+        }
+
+        @Override
+        protected void drain() {
+            buffer.clear();
+        }
+    }
+
+    private static class BufferOutput extends Utf8Output {
+        private BufferOutput(ByteBuffer target) {
+            super(target);
+        }
+
+        @Override
+        protected void drain() {
+            // the bytes are already in the target buffer
+        }
+    }
+}
@@ -12,9 +12,6 @@ import org.json.JSONObject;
 import java.awt.*;
 import java.util.List;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public abstract class Util {
 
@@ -96,9 +93,9 @@ public abstract class Util {
         return object;
     }
 
-    private static String convertColorToJs(Color color) {
+    static String convertColorToJs(Color color) {
         if (color.getAlpha() != 255)
-            return "rgba(" + color.getRed() + "," + color.getGreen() + "," + color.getBlue() + "," + roundToDecimals(mapRange(0, 255, 0, 1, color.getAlpha()), 3) + ")";
+            return "rgba(" + color.getRed() + "," + color.getGreen() + "," + color.getBlue() + "," + DecimalFormatter.toString(mapRange(0, 255, 0, 1, color.getAlpha()), 3) + ")";
         return "rgb(" + color.getRed() + "," + color.getGreen() + "," + color.getBlue() + ")";
     }
 
@@ -116,10 +113,24 @@ public abstract class Util {
         return b1 + ((s - a1) * (b2 - b1)) / (a2 - a1);
     }
 
+    /**
+     * Rounds the value half away from zero to the given amount of decimal places. Values that are too large to have
+     * any decimal places at that precision are returned unchanged.
+     *
+     * @param d The value to round.
+     * @param c The amount of decimal places, between <code>0</code> and {@link DecimalFormatter#MAX_PRECISION}.
+     * @return The rounded value.
+     * @see DecimalFormatter
+     */
     public static double roundToDecimals(double d, int c) {
-        return ((double) (int) (d * Math.pow(10, c))) / Math.pow(10, c);
+        double power = POWERS_OF_TEN[DecimalFormatter.checkPrecision(c)];
+        double scaled = Math.abs(d) * power;
+        if (Double.isNaN(scaled) || scaled >= (1L << 53)) return d;
+        return Math.copySign(Math.floor(scaled + 0.5), d) / power;
     }
 
+    private final static double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+
     private final static Set<String> STRING_ARRAY_IDENTIFIERS = new HashSet<String>() {{
         add("pointBackgroundColor");
         add("pointBorderColor");
@@ -148,99 +159,172 @@ public abstract class Util {
         add("rotation");
     }};
 
-    public static String finalizeBuildString(String build) {
-        for (String identifier : STRING_ARRAY_IDENTIFIERS)
-            build = replaceIdentifierWithContextIndexFunction(build, identifier, true);
-        for (String identifier : INTEGER_ARRAY_IDENTIFIERS)
-            build = replaceIdentifierWithContextIndexFunction(build, identifier, false);
-        return build;
-    }
-
-    private final static String INSERT_PATTERN = "(\"data\":\\[([^\\]]+)\\][^{}]+)?\"%s\":\\[([^\\]]+)\\]([^{}]+\"data\":\\[([^\\]]+)\\])?";
-
-    private static String replaceIdentifierWithContextIndexFunction(String build, String identifier, boolean valueTypeIsString) {
-        Pattern searchPattern = Pattern.compile(String.format(INSERT_PATTERN, identifier));
-        Matcher matcher = searchPattern.matcher(build);
+    /**
+     * Creates a compact representation of the values of a per-datapoint attribute, if possible:<ul>
+     * <li>if all values are identical, they are simplified into a single value</li>
+     * <li>otherwise, a function that returns the values based on the index of the datapoint is created, if it is
+     * shorter than the list of values. The function either checks the indices of every distinct value, looks the value
+     * up in a table or searches it in a run-length encoded list, whichever is the shortest.</li>
+     * </ul>
+     * This is only done for the attributes in {@link #STRING_ARRAY_IDENTIFIERS} and {@link #INTEGER_ARRAY_IDENTIFIERS}
+     * and if there are at least as many values as there are datapoints.
+     *
+     * @param identifier The key of the attribute.
+     * @param values     The per-datapoint values of the attribute.
+     * @param dataSize   The amount of datapoints in the dataset.
+     * @return The JavaScript representation of the values or <code>null</code> if they should be written as they are.
+     */
+    static String compactDatapointAttribute(String identifier, List<?> values, int dataSize) {
+        boolean valueTypeIsString = STRING_ARRAY_IDENTIFIERS.contains(identifier);
+        if (!valueTypeIsString && !INTEGER_ARRAY_IDENTIFIERS.contains(identifier)) return null;
+        // if there is more data than values in the current attribute, do not change the values.
+        if (values.isEmpty() || (dataSize > 0 && dataSize > values.size())) return null;
 
-        while (matcher.find()) {
-            // count how often the individual values appear in the list
-            Map<String, List<Integer>> indexedValues = new HashMap<>();
-            int index = 0;
-            if (valueTypeIsString) {
-                for (String value : Arrays.stream(matcher.group(3).replaceAll("^[\"'](.+)[\"']$", "$1").split("[\"'],[\"']")).collect(Collectors.toList())) {
-                    indexedValues.computeIfAbsent(value, k -> new ArrayList<>()).add(index);
-                    index++;
-                }
-            } else {
-                for (String value : Arrays.stream(matcher.group(3).split(",")).collect(Collectors.toList())) {
-                    indexedValues.computeIfAbsent(value, k -> new ArrayList<>()).add(index);
-                    index++;
+        // assign an id to every distinct value and count how often the individual values appear in the list
+        Map<Object, Integer> objectIds = new HashMap<>();
+        Map<String, Integer> valueIds = new HashMap<>();
+        List<String> distinctValues = new ArrayList<>();
+        int[] ids = new int[values.size()];
+        int listLength = 1 + values.size();
+        for (int i = 0; i < ids.length; i++) {
+            Object value = values.get(i);
+            if (value == null) return null;
+            Integer id = objectIds.get(value);
+            if (id == null) {
+                String formattedValue = formatContextIndexValue(value, valueTypeIsString);
+                id = valueIds.get(formattedValue);
+                if (id == null) {
+                    id = distinctValues.size();
+                    valueIds.put(formattedValue, id);
+                    distinctValues.add(formattedValue);
                 }
+                objectIds.put(value, id);
             }
+            ids[i] = id;
+            listLength += distinctValues.get(id).length() + (valueTypeIsString ? 2 : 0);
+        }
 
-            // find the amount of data the dataset has
-            int dataSize;
-            String dataString = nonNull(matcher.group(2), matcher.group(5)).replaceAll("[{}]", "");
-            if (dataString.contains("\""))
-                dataSize = dataString.replaceAll("[{}]", "").split("\"?,\"").length;
-            else dataSize = dataString.replaceAll("[{}]", "").split(",").length;
-            if (dataString.contains("\"x\"") && dataString.contains("\"y\"")) {
-                if (dataString.contains("\"r\"")) dataSize = dataSize / 3;
-                else dataSize = dataSize / 2;
+        // if there is only one detected value, simplify it into a simple value. Otherwise, create a function that returns the values based on their index.
+        if (distinctValues.size() == 1) {
+            String quote = valueTypeIsString ? "'" : "";
+            return "[" + quote + distinctValues.get(0) + quote + "]";
+        }
+        // use the shortest of the available encodings, if it is shorter than the list itself
+        String shortest = null;
+        for (String function : new String[]{
+                makeContextIndexFunctionFromValues(distinctValues, ids, valueTypeIsString),
+                makeLookupTableFunction(distinctValues, ids, valueTypeIsString),
+                makeRangeLookupFunction(distinctValues, ids, valueTypeIsString)}) {
+            if (function.length() < listLength && (shortest == null || function.length() < shortest.length())) {
+                shortest = function;
             }
-            // if there is more or equal data than values in the current attribute, do not change the values.
-            if (dataSize > 0 && dataSize > index) continue;
+        }
+        return shortest;
+    }
 
-            // if there is only one detected value, simplify it into a simple value. Otherwise, create a function that returns the values based on their index.
-            if (indexedValues.size() == 1) {
-                build = build.replace(matcher.group(), nonNull(matcher.group(1)) + "\"" + identifier + "\":[" + (valueTypeIsString ? "'" : "") + indexedValues.keySet().stream().findFirst().orElse("") + (valueTypeIsString ? "'" : "") + "]" + nonNull(matcher.group(4)));
-            } else {
-                String function = makeContextIndexFunctionFromValues(indexedValues, valueTypeIsString);
-                function = build.replace(matcher.group(), nonNull(matcher.group(1)) + "\"" + identifier + "\":" + function + nonNull(matcher.group(4)));
-                if (function.length() < build.length())
-                    build = function;
+    private static String formatContextIndexValue(Object value, boolean valueTypeIsString) {
+        String json = JsonWriter.serialize(writer -> writer.value(value));
+        if (valueTypeIsString && json.startsWith("\"")) {
+            return json.substring(1, json.length() - 1).replace("'", "\\'");
+        }
+        return json;
+    }
+
+    /**
+     * Creates a function that looks up the value of a datapoint in a dictionary of the distinct values using an index
+     * array that contains the dictionary index for every datapoint. If there are no more than ten distinct values, the
+     * index array is encoded as a String of digits.<br>
+     * <code>(function(v,k){return function(c){return v[k[c.dataIndex]]}})(['a','b'],'0110')</code>
+     */
+    private static String makeLookupTableFunction(List<String> distinctValues, int[] ids, boolean valueTypeIsString) {
+        StringBuilder function = new StringBuilder();
+        function.append("(function(v,k){return function(c){return v[k[c.dataIndex]]}})(");
+        appendValueArray(function, distinctValues, valueTypeIsString);
+        if (distinctValues.size() <= 10) {
+            function.append(",'");
+            for (int id : ids) function.append((char) ('0' + id));
+            function.append("')");
+        } else {
+            function.append(",[");
+            for (int i = 0; i < ids.length; i++) {
+                if (i > 0) function.append(',');
+                function.append(ids[i]);
             }
+            function.append("])");
         }
+        return function.toString();
+    }
+
+    /**
+     * Creates a function that looks up the value of a datapoint in a run-length encoded list of values using a binary
+     * search over the exclusive end indices of the runs. Indices past the end of the list resolve to
+     * <code>undefined</code>, like in the lookup table encoding.<br>
+     * <code>(function(v,e,r){...})(['a','b'],[3,7,9],[0,1,0])</code>
+     */
+    private static String makeRangeLookupFunction(List<String> distinctValues, int[] ids, boolean valueTypeIsString) {
+        StringBuilder ends = new StringBuilder();
+        StringBuilder runs = new StringBuilder();
+        for (int i = 0; i < ids.length; i++) {
+            if (i == ids.length - 1 || ids[i] != ids[i + 1]) {
+                if (ends.length() > 0) {
+                    ends.append(',');
+                    runs.append(',');
+                }
+                ends.append(i + 1);
+                runs.append(ids[i]);
+            }
+        }
+        StringBuilder function = new StringBuilder();
+        function.append("(function(v,e,r){return function(c){var i=c.dataIndex,l=0,h=e.length-1;if(i>=e[h])return;while(l<h){var m=(l+h)>>1;if(e[m]>i)h=m;else l=m+1}return v[r[l]]}})(");
+        appendValueArray(function, distinctValues, valueTypeIsString);
+        function.append(",[").append(ends).append("],[").append(runs).append("])");
+        return function.toString();
+    }
 
-        return build;
+    private static void appendValueArray(StringBuilder builder, List<String> distinctValues, boolean valueTypeIsString) {
+        builder.append('[');
+        for (int i = 0; i < distinctValues.size(); i++) {
+            if (i > 0) builder.append(',');
+            if (valueTypeIsString) builder.append('\'').append(distinctValues.get(i)).append('\'');
+            else builder.append(distinctValues.get(i));
+        }
+        builder.append(']');
     }
 
-    private static String makeContextIndexFunctionFromValues(Map<String, List<Integer>> indexedValues, boolean valueTypeIsString) {
+    private static String makeContextIndexFunctionFromValues(List<String> distinctValues, int[] ids, boolean valueTypeIsString) {
+        // group the indices by the id of their values
+        int[] offsets = new int[distinctValues.size() + 1];
+        for (int id : ids) offsets[id + 1]++;
+        Integer[] order = new Integer[distinctValues.size()];
+        for (int id = 0; id < order.length; id++) order[id] = id;
+        Arrays.sort(order, Comparator.comparingInt(id -> offsets[id + 1]));
+        for (int id = 0; id < distinctValues.size(); id++) offsets[id + 1] += offsets[id];
+        int[] indices = new int[ids.length];
+        int[] positions = Arrays.copyOf(offsets, distinctValues.size());
+        for (int i = 0; i < ids.length; i++) indices[positions[ids[i]]++] = i;
+
         StringBuilder function = new StringBuilder();
         function.append("function(c){");
-        boolean isFirst = true;
-        Iterator<Map.Entry<String, List<Integer>>> i = indexedValues.entrySet().stream().sorted(Comparator.comparing(o -> o.getValue().size())).iterator();
-        while (i.hasNext()) {
-            Map.Entry<String, List<Integer>> entry = i.next();
-            if (i.hasNext()) {
-                if (!isFirst) function.append("else ");
-                function.append("if([")
-                        .append(entry.getValue().stream().map(Object::toString).collect(Collectors.joining(",")))
-                        .append("].indexOf(c.dataIndex)>-1)return");
+        for (int o = 0; o < order.length; o++) {
+            int id = order[o];
+            if (o < order.length - 1) {
+                if (o > 0) function.append("else ");
+                function.append("if([");
+                for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                    if (i > offsets[id]) function.append(',');
+                    function.append(indices[i]);
+                }
+                function.append("].indexOf(c.dataIndex)>-1)return");
             } else {
                 function.append("return");
             }
             if (valueTypeIsString) function.append("'");
             else function.append(" ");
-            function.append(entry.getKey());
+            function.append(distinctValues.get(id));
             if (valueTypeIsString) function.append("'");
             function.append(";");
-            isFirst = false;
         }
         function.append("}");
         return function.toString();
     }
-
-    /**
-     * Returns the first non-null string or an empty string if none was found.
-     *
-     * @param s An array of Strings.
-     * @return The first non-null String or an empty String if none was found.
-     */
-    private static String nonNull(String... s) {
-        for (String test : s) {
-            if (test != null) return test;
-        }
-        return "";
-    }
 }
@@ -0,0 +1,31 @@
+package de.yanwittmann.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out version numbers for modifiable chart elements. The numbers are unique across all elements, so that a
+ * combination of versions identifies the state of a chart within the running application.
+ */
+public final class Versions {
+
+    private final static AtomicLong NEXT = new AtomicLong();
+
+    private Versions() {
+    }
+
+    public static long next() {
+        return NEXT.incrementAndGet();
+    }
+
+    /**
+     * Combines a hash with another value.
+     *
+     * @param hash  The hash to combine the value into.
+     * @param value The value to add to the hash.
+     * @return The combined hash.
+     */
+    public static long mix(long hash, long value) {
+        long mixed = (hash ^ value) * 0x9e3779b97f4a7c15L;
+        return mixed ^ (mixed >>> 29);
+    }
+}
@@ -4,7 +4,14 @@ import de.yanwittmann.j2chartjs.chart.*;
 import de.yanwittmann.j2chartjs.data.*;
 import de.yanwittmann.j2chartjs.datapoint.BubbleChartDatapoint;
 import de.yanwittmann.j2chartjs.datapoint.ScatterChartDatapoint;
+import de.yanwittmann.j2chartjs.datapoint.ScatterChartDatapointList;
+import de.yanwittmann.j2chartjs.decimation.BubbleClustering;
+import de.yanwittmann.j2chartjs.decimation.DensityGrid;
+import de.yanwittmann.j2chartjs.decimation.LttbDecimation;
+import de.yanwittmann.j2chartjs.decimation.M4Decimation;
+import de.yanwittmann.j2chartjs.decimation.SliceFolding;
 import de.yanwittmann.j2chartjs.dataset.*;
+import de.yanwittmann.j2chartjs.options.AbstractChartOption;
 import de.yanwittmann.j2chartjs.options.ChartOptions;
 import de.yanwittmann.j2chartjs.options.animation.*;
 import de.yanwittmann.j2chartjs.options.interaction.InteractionOption;
@@ -16,14 +23,43 @@ import de.yanwittmann.j2chartjs.options.plugins.tooltip.TooltipOption;
 import de.yanwittmann.j2chartjs.options.scale.*;
 import de.yanwittmann.j2chartjs.preset.ChartColors;
 import de.yanwittmann.j2chartjs.quick.*;
+import de.yanwittmann.j2chartjs.type.ChartFill;
 import de.yanwittmann.j2chartjs.type.ChartFont;
 import de.yanwittmann.j2chartjs.type.ChartPadding;
+import de.yanwittmann.util.DoubleList;
+import de.yanwittmann.util.JsonWriter;
+import de.yanwittmann.util.MappedDoubleList;
+import de.yanwittmann.util.Utf8Output;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
 import java.awt.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GenerateTest {
 
@@ -40,6 +76,758 @@ public class GenerateTest {
         System.out.println(new LineChart().setChartOptions(options).setChartData(data).build());
     }
 
+    @Test
+    public void datapointAttributeCompactionTest() {
+        LineChartDataset dataset = new LineChartDataset()
+                .setData(4, 8, 15, 16)
+                .addPointBackgroundColor(Color.RED, Color.RED, Color.RED, Color.RED)
+                .addPointRadius(2, 2, 5, 2)
+                .addPointBorderColor(Color.BLUE);
+        String chart = new LineChart().setChartData(new LineChartData().addDataset(dataset)).build();
+        System.out.println(chart);
+
+        assertTrue(chart.contains("\"pointBackgroundColor\":['rgb(255,0,0)']"));
+        assertTrue(chart.contains("\"pointRadius\":[2,2,5,2]"));
+        assertTrue(chart.contains("\"pointBorderColor\":[\"rgb(0,0,255)\"]"));
+
+        LineChartDataset runs = new LineChartDataset();
+        for (int i = 0; i < 200; i++) {
+            runs.addData(i).addPointBackgroundColor(i < 100 ? Color.RED : Color.BLUE).addPointRadius(i % 3);
+        }
+        chart = new LineChart().setChartData(new LineChartData().addDataset(runs)).build();
+        System.out.println(chart);
+
+        assertTrue(chart.contains("\"pointBackgroundColor\":(function(v,e,r){"));
+        // indices past the end of the list resolve to undefined, like in the lookup table encoding
+        assertTrue(chart.contains("h=e.length-1;if(i>=e[h])return;"));
+        assertTrue(chart.contains("\"pointRadius\":(function(v,k){"));
+    }
+
+    @Test
+    public void numberFormattingTest() {
+        LineChartDataset dataset = new LineChartDataset()
+                .setData(0.29, -1.0005, 3_000_000_000.25, Double.NaN, -0.0001, 2.5);
+        String chart = new LineChart().setChartData(new LineChartData().addDataset(dataset)).build();
+        System.out.println(chart);
+        assertTrue(chart.contains("\"data\":[0.29,-1.001,3000000000.25,null,0,2.5]"));
+
+        chart = new LineChart().setChartData(new LineChartData().addDataset(dataset)).setDecimalPrecision(0).build();
+        System.out.println(chart);
+        assertTrue(chart.contains("\"data\":[0,-1,3000000000,null,0,3]"));
+    }
+
+    @Test
+    public void primitiveDataTest() {
+        LineChartDataset dataset = new LineChartDataset()
+                .setData(new double[]{1.5, Double.NaN, 3})
+                .addData(4.25)
+                .addData((Number) null);
+        assertEquals(5, dataset.getData().size());
+        assertEquals(null, dataset.getData().get(1));
+        String chart = new LineChart().setChartData(new LineChartData().addDataset(dataset)).build();
+        System.out.println(chart);
+        assertTrue(chart.contains("\"data\":[1.5,null,3,4.25,null]"));
+    }
+
+    @Test
+    public void mappedDataSourceTest() throws IOException {
+        Path file = Files.createTempFile("j2chartjs", ".bin");
+        file.toFile().deleteOnExit();
+        ByteBuffer values = ByteBuffer.allocate(5 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        values.putDouble(1).putDouble(2.5).putDouble(Double.NaN).putDouble(4).putDouble(5);
+        Files.write(file, values.array());
+
+        LineChartDataset dataset = new LineChartDataset().setDataSource(MappedDoubleList.map(file, Double.BYTES, 3));
+        assertEquals(3, dataset.getData().size());
+        String chart = new LineChart().setChartData(new LineChartData().addDataset(dataset)).build();
+        System.out.println(chart);
+        assertTrue(chart.contains("\"data\":[2.5,null,4]"));
+
+        assertThrows(UnsupportedOperationException.class, () -> dataset.addData(6));
+        dataset.setData(7, 8);
+        assertEquals(2, dataset.getData().size());
+    }
+
+    @Test
+    public void lttbDecimationTest() {
+        LineChartDataset first = new LineChartDataset();
+        LineChartDataset second = new LineChartDataset();
+        LineChartData data = new LineChartData().addDataset(first, second).setDecimation(new LttbDecimation(50));
+        for (int i = 0; i < 1000; i++) {
+            first.addData(i == 500 ? 100 : Math.sin(i / 50.0)).addPointRadius(i);
+            second.addData(Math.cos(i / 50.0));
+            data.addLabels("Label " + i);
+        }
+
+        JSONObject json = data.toJson();
+        int labels = json.getJSONArray("labels").length();
+        JSONArray datasets = json.getJSONArray("datasets");
+        assertTrue(labels < 150);
+        assertEquals(labels, datasets.getJSONObject(0).getJSONArray("data").length());
+        assertEquals(labels, datasets.getJSONObject(0).getJSONArray("pointRadius").length());
+        assertEquals(labels, datasets.getJSONObject(1).getJSONArray("data").length());
+        assertTrue(json.getJSONArray("labels").toList().contains("Label 500"));
+        assertTrue(json.getJSONArray("labels").toList().contains("Label 999"));
+        assertEquals(100, datasets.getJSONObject(0).getJSONArray("data").getDouble(json.getJSONArray("labels").toList().indexOf("Label 500")), 0);
+
+        // every bucket keeps a gap marker in addition to its largest triangle, bounded by 2 * targetPoints - 2
+        double[] gaps = new double[1000];
+        for (int i = 0; i < gaps.length; i++) {
+            gaps[i] = i % 2 == 0 ? Double.NaN : Math.sin(i / 50.0);
+        }
+        BitSet selected = new BitSet();
+        new LttbDecimation(50).select(new DoubleList(gaps), selected);
+        assertTrue(selected.cardinality() > 50);
+        assertTrue(selected.cardinality() <= 2 * 50 - 2);
+        BitSet withoutGaps = new BitSet();
+        new LttbDecimation(50).select(new DoubleList(new double[1000]), withoutGaps);
+        assertEquals(50, withoutGaps.cardinality());
+    }
+
+    @Test
+    public void m4DecimationTest() {
+        double[] values = new double[1_000_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.sin(i / 1000.0);
+        }
+        values[123_457] = 50;
+        values[765_433] = -50;
+        BarChartData data = new BarChartData()
+                .addDataset(new BarChartDataset().setData(values))
+                .setDecimation(new M4Decimation(100));
+
+        JSONObject json = data.toJson();
+        JSONArray decimated = json.getJSONArray("datasets").getJSONObject(0).getJSONArray("data");
+        assertTrue(decimated.length() <= 400);
+        assertEquals(decimated.length(), json.getJSONArray("labels").length());
+        double min = 0, max = 0;
+        for (int i = 0; i < decimated.length(); i++) {
+            min = Math.min(min, decimated.getDouble(i));
+            max = Math.max(max, decimated.getDouble(i));
+        }
+        assertEquals(-50, min, 0);
+        assertEquals(50, max, 0);
+    }
+
+    @Test
+    public void densityGridTest() {
+        DensityGrid grid = new DensityGrid(0, 10, 0, 10, 10, 10).setRadiusRange(2, 10);
+        DensityGrid reduced = IntStream.range(0, 1_000_000).parallel()
+                .mapToObj(i -> new ScatterChartDatapoint((i % 1000) / 100.0, (i % 5) / 1.0))
+                .collect(grid::emptyCopy, DensityGrid::add, DensityGrid::merge);
+        reduced.add(-1, 5).add(Double.NaN, 5);
+
+        ScatterChartDataset dataset = reduced.applyTo(new ScatterChartDataset());
+        assertEquals(50, dataset.getData().size());
+        assertEquals(50, dataset.getPointRadius().size());
+        assertEquals(2, reduced.getIgnoredCount());
+        assertEquals(20_000, reduced.getCount(3, 4));
+        assertEquals(3.475, dataset.getData().get(3).getX().doubleValue(), 0.000001);
+        System.out.println(new ScatterChart().setChartData(new ScatterChartData().addDataset(dataset)).build());
+
+        // (x - minX) * cellsPerX rounds up to the amount of columns for the value just below the upper bound
+        DensityGrid edges = new DensityGrid(0, 0.1, 0, 0.1, 5, 5).add(Math.nextDown(0.1), Math.nextDown(0.1)).add(0.1, 0.1).add(0.2, 0.05);
+        assertEquals(2, edges.getCount(4, 4));
+        assertEquals(1, edges.getIgnoredCount());
+
+        ScatterChartDatapoint missingX = new ScatterChartDatapoint(0.05, 0.05) {
+            @Override
+            public Number getX() {
+                return null;
+            }
+        };
+        edges.add(missingX).add((ScatterChartDatapoint) null);
+        assertEquals(3, edges.getIgnoredCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> edges.getCount(5, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> edges.getCount(0, -1));
+    }
+
+    @Test
+    public void bubbleClusteringTest() {
+        int size = 200_000;
+        double[] x = new double[size], y = new double[size], r = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i % 100;
+            y[i] = (i / 100) % 10;
+            r[i] = 1;
+        }
+        BubbleChartDataset dataset = new BubbleChartDataset().setXYR(x, y, r).addBackgroundColor(Color.RED, Color.BLUE);
+        BubbleChartData data = new BubbleChartData().addDataset(dataset)
+                .setClustering(new BubbleClustering(10, 5).setMaxRadius(30));
+
+        JSONObject json = data.toJson();
+        JSONArray clusters = json.getJSONArray("datasets").getJSONObject(0).getJSONArray("data");
+        assertEquals(20, clusters.length());
+        assertEquals(10_000, clusters.getJSONObject(0).getInt("count"));
+        assertEquals(4.5, clusters.getJSONObject(0).getDouble("x"), 0);
+        assertEquals(2, clusters.getJSONObject(0).getDouble("y"), 0);
+        assertEquals(30, clusters.getJSONObject(0).getDouble("r"), 0);
+        assertEquals(20, json.getJSONArray("datasets").getJSONObject(0).getJSONArray("backgroundColor").length());
+        assertEquals(size, dataset.getData().size());
+    }
+
+    @Test
+    public void sliceFoldingTest() {
+        DoughnutPieChartDataset dataset = new DoughnutPieChartDataset();
+        DoughnutPieChartData data = new DoughnutPieChartData().addDataset(dataset).setSliceFolding(new SliceFolding(3));
+        for (int i = 0; i < 1000; i++) {
+            dataset.addData((i * 7919) % 1000).addBackgroundColor(new Color(i % 256, 0, 0));
+            data.addLabels("Slice " + i);
+        }
+
+        JSONObject json = data.toJson();
+        System.out.println(json);
+        JSONArray labels = json.getJSONArray("labels");
+        JSONObject folded = json.getJSONArray("datasets").getJSONObject(0);
+        assertEquals(4, labels.length());
+        assertEquals("Other", labels.getString(3));
+        assertEquals(4, folded.getJSONArray("data").length());
+        assertEquals(4, folded.getJSONArray("backgroundColor").length());
+        assertEquals("Slice 321", labels.getString(0));
+        assertEquals(999, folded.getJSONArray("data").getDouble(0), 0);
+        assertEquals(499500 - 999 - 998 - 997, folded.getJSONArray("data").getDouble(3), 0);
+        assertEquals(1000, dataset.getData().size());
+    }
+
+    @Test
+    public void columnarDatapointsTest() {
+        ScatterChartDataset scatter = new ScatterChartDataset()
+                .setXY(new double[]{1, 2.5}, new double[]{3, 4})
+                .addXY(5, 6)
+                .addData(new ScatterChartDatapoint(7, 8));
+        BubbleChartDataset bubble = new BubbleChartDataset()
+                .setXYR(new double[]{1, 2}, new double[]{3, 4}, new double[]{5, 6})
+                .addData(new BubbleChartDatapoint(7, 8));
+        assertEquals(4, scatter.getData().size());
+        assertEquals(2.5, scatter.getData().get(1).getX().doubleValue(), 0);
+
+        String scatterChart = new ScatterChart().setChartData(new ScatterChartData().addDataset(scatter)).build();
+        String bubbleChart = new BubbleChart().setChartData(new BubbleChartData().addDataset(bubble)).build();
+        System.out.println(scatterChart);
+        System.out.println(bubbleChart);
+        assertTrue(scatterChart.contains("\"data\":[{\"x\":1,\"y\":3},{\"x\":2.5,\"y\":4},{\"x\":5,\"y\":6},{\"x\":7,\"y\":8}]"));
+        assertTrue(bubbleChart.contains("\"data\":[{\"x\":1,\"y\":3,\"r\":5},{\"x\":2,\"y\":4,\"r\":6},{\"x\":7,\"y\":8}]"));
+
+        scatter.getData().get(0).setX(9).setY(10);
+        assertTrue(bubble.getData().get(2).getR() == null);
+        bubble.getData().get(2).setR(11);
+        bubble.getData().get(1).setX(3);
+        assertTrue(new ScatterChart().setChartData(new ScatterChartData().addDataset(scatter)).build().contains("\"data\":[{\"x\":9,\"y\":10},"));
+        assertTrue(new BubbleChart().setChartData(new BubbleChartData().addDataset(bubble)).build().contains("{\"x\":3,\"y\":4,\"r\":6},{\"x\":7,\"y\":8,\"r\":11}]"));
+
+        ScatterChartDataset objects = new ScatterChartDataset().addData(new ScatterChartDatapoint(1, 2)).addXY(3, 4);
+        assertTrue(!(objects.getData() instanceof ScatterChartDatapointList));
+        assertTrue(objects.getData().get(0).getX() instanceof Integer);
+        objects.getData().get(0).setX(5);
+        assertTrue(new ScatterChart().setChartData(new ScatterChartData().addDataset(objects)).build().contains("\"data\":[{\"x\":5,\"y\":2},{\"x\":3,\"y\":4}]"));
+    }
+
+    @Test
+    public void utf8OutputTest() throws IOException {
+        BarChart chart = new BarChart().setChartData(new BarChartData()
+                .addDataset(new BarChartDataset().setLabel("Gr\u00f6\u00dfe \u20ac").addData(10, 20, 30))
+                .addLabels("\ud83d\udcc8", "\u65e5\u672c", "Point 3"));
+        byte[] expected = chart.build().getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        chart.writeTo(stream);
+        assertArrayEquals(expected, stream.toByteArray());
+
+        stream.reset();
+        Utf8Output output = Utf8Output.to(Channels.newChannel(stream), 16);
+        chart.build(output);
+        output.flush();
+        assertArrayEquals(expected, stream.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+        chart.writeTo(buffer);
+        assertArrayEquals(expected, buffer.array());
+
+        assertThrows(BufferOverflowException.class, () -> chart.writeTo(ByteBuffer.allocate(expected.length - 1)));
+
+        stream.reset();
+        Utf8Output smallest = Utf8Output.to(stream, 4);
+        chart.build(smallest);
+        smallest.flush();
+        assertArrayEquals(expected, stream.toByteArray());
+        assertThrows(IllegalArgumentException.class, () -> Utf8Output.to(stream, 3));
+        assertThrows(IllegalArgumentException.class, () -> Utf8Output.to(Channels.newChannel(stream), 0));
+    }
+
+    @Test
+    public void parallelSerializationTest() {
+        Random random = new Random(14);
+        LineChartData chartData = new LineChartData();
+        for (int i = 0; i < 16; i++) {
+            LineChartDataset dataset = new LineChartDataset().setLabel("Dataset " + i);
+            for (int j = 0; j < 500; j++) {
+                dataset.addData(random.nextGaussian() * 100);
+            }
+            chartData.addDataset(dataset.addPointRadius(1, 2, 2, 1));
+        }
+        LineChart chart = new LineChart().setChartData(chartData);
+        String sequential = chart.build();
+
+        chartData.setSerializationExecutor(ForkJoinPool.commonPool());
+        assertEquals(sequential, chart.build());
+
+        chartData.setDecimation(new LttbDecimation(50));
+        String decimated = chart.build();
+        chartData.setSerializationExecutor(null);
+        assertEquals(chart.build(), decimated);
+
+        MixedChartData mixedData = new MixedChartData()
+                .addDataset(new LineChartDataset().addData(1, 2, 3))
+                .addDataset(new BarChartDataset().addData(4, 5, 6));
+        String mixedSequential = new MixedChart().setChartData(mixedData).toString();
+        mixedData.setSerializationExecutor(ForkJoinPool.commonPool());
+        assertEquals(mixedSequential, new MixedChart().setChartData(mixedData).toString());
+    }
+
+    @Test
+    public void slidingWindowTest() {
+        LineChartDataset dataset = new LineChartDataset().setLabel("Live").addData(1, 2, 3).addPointRadius(1, 1, 1);
+        LineChartData chartData = new LineChartData().addDataset(dataset).addLabels("a", "b", "c").setWindow(4);
+        for (int i = 4; i <= 10; i++) {
+            chartData.addLabels(String.valueOf((char) ('a' + i - 1)));
+            dataset.addData(i).addPointRadius(i);
+        }
+
+        assertEquals(Arrays.asList("g", "h", "i", "j"), chartData.getLabels());
+        assertEquals(Arrays.<Number>asList(7.0, 8.0, 9.0, 10.0), dataset.getData());
+        JSONObject json = chartData.toJson();
+        assertEquals("[\"g\",\"h\",\"i\",\"j\"]", json.getJSONArray("labels").toString());
+        assertEquals("[7,8,9,10]", json.getJSONArray("datasets").getJSONObject(0).getJSONArray("data").toString());
+        assertEquals("[7,8,9,10]", json.getJSONArray("datasets").getJSONObject(0).getJSONArray("pointRadius").toString());
+
+        dataset.getData().remove(0);
+        dataset.setData(new double[]{1, 2, 3, 4, 5, 6});
+        assertEquals(Arrays.<Number>asList(3.0, 4.0, 5.0, 6.0), dataset.getData());
+
+        chartData.setWindow(0);
+        dataset.addData(7);
+        assertEquals(5, dataset.getData().size());
+    }
+
+    @Test
+    public void chartBaselineTest() {
+        LineChartDataset dataset = new LineChartDataset().setLabel("Live").addData(1, 2, 3).setBorderColor(Color.RED);
+        LineChartData chartData = new LineChartData().addDataset(dataset).addLabels("a", "b", "c").setWindow(4);
+        LineChart chart = new LineChart().setChartData(chartData);
+        ChartBaseline baseline = ChartBaseline.of(chart);
+        assertEquals("{}", baseline.diff(chart));
+
+        chartData.addLabels("d", "e");
+        dataset.addData(4).addData(5);
+        String delta = baseline.update(chart);
+        System.out.println(delta);
+        JSONObject data = new JSONObject(delta).getJSONObject("data");
+        assertEquals("[1,[\"d\",\"e\"]]", data.getJSONObject("arrays").getJSONArray("labels").toString());
+        assertEquals("[1,[4,5]]", data.getJSONArray("datasetPatches").getJSONObject(0).getJSONObject("arrays").getJSONArray("data").toString());
+
+        dataset.setBorderColor(Color.BLUE).setLabel(null);
+        chart.setChartOptions(new ChartOptions().setOption(new TitleOption().setText("Live")));
+        delta = baseline.update(chart);
+        System.out.println(delta);
+        JSONObject patch = new JSONObject(delta).getJSONObject("data").getJSONArray("datasetPatches").getJSONObject(0);
+        assertEquals("[\"label\"]", patch.getJSONArray("unset").toString());
+        assertTrue(patch.getJSONObject("set").has("borderColor"));
+        assertTrue(new JSONObject(delta).has("options"));
+
+        chartData.addDataset(new LineChartDataset().addData(1));
+        delta = baseline.update(chart);
+        assertTrue(new JSONObject(delta).getJSONObject("data").getJSONObject("arrays").getJSONArray("datasets").toString().startsWith("[0,[{"));
+        assertEquals("{}", baseline.diff(chart));
+
+        LineChartDataset previousSeries = new LineChartDataset();
+        LineChartDataset currentSeries = new LineChartDataset();
+        for (int i = 0; i < 40000; i++) {
+            previousSeries.addData(i % 2);
+            currentSeries.addData(i == 39999 ? 2 : i % 2);
+        }
+        ChartBaseline seriesBaseline = ChartBaseline.of(new LineChart().setChartData(new LineChartData().addDataset(previousSeries)));
+        delta = seriesBaseline.diff(new LineChart().setChartData(new LineChartData().addDataset(currentSeries)));
+        assertEquals("[2,[0,2]]", new JSONObject(delta).getJSONObject("data").getJSONArray("datasetPatches").getJSONObject(0).getJSONObject("arrays").getJSONArray("data").toString());
+
+        assertTrue(!new ChartBaseline("{\"data\":{\"labels\":[1,2,3]}}").diff("{\"data\":{\"labels\":[4,5]}}").contains("arrays"));
+    }
+
+    @Test
+    public void datasetCacheTest() throws InterruptedException {
+        LineChartData chartData = new LineChartData().addLabels("a", "b", "c");
+        for (int i = 0; i < 5; i++) {
+            chartData.addDataset(new LineChartDataset().setLabel("Dataset " + i).addData(i, i + 1, i + 2).addPointRadius(1, 2, 1));
+        }
+        LineChart chart = new LineChart().setChartData(chartData);
+        String uncached = chart.build();
+
+        DatasetCache cache = new DatasetCache(1 << 16);
+        chartData.setDatasetCache(cache);
+        assertEquals(uncached, chart.build());
+        assertEquals(5, cache.size());
+        assertEquals(uncached, chart.build());
+
+        LineChartDataset changed = (LineChartDataset) chartData.getDatasets().get(2);
+        long version = changed.getVersion();
+        changed.setLabel("Changed").addData(4);
+        assertTrue(changed.getVersion() > version);
+        chartData.setDatasetCache(null);
+        String expected = chart.build();
+        chartData.setDatasetCache(cache);
+        assertEquals(expected, chart.build());
+
+        changed.getData().set(0, 10);
+        assertEquals(expected, chart.build());
+        changed.invalidate();
+        assertTrue(chart.build().contains("\"data\":[10,3,4,4]"));
+
+        ChartFill fill = new ChartFill().setTarget("origin");
+        changed.setFill(fill);
+        assertTrue(chart.build().contains("\"fill\":{\"target\":\"origin\"}"));
+        fill.setTarget("start");
+        assertTrue(chart.build().contains("\"fill\":{\"target\":\"start\"}"));
+
+        DatasetCache smallCache = new DatasetCache(200);
+        chartData.setDatasetCache(smallCache);
+        chart.build();
+        assertTrue(smallCache.getLength() <= 200);
+        assertTrue(smallCache.size() < 5);
+
+        // the cache does not keep discarded datasets reachable
+        DatasetCache weakCache = new DatasetCache(1 << 24);
+        LineChartDataset discardedDataset = new LineChartDataset();
+        for (int i = 0; i < 100_000; i++) {
+            discardedDataset.addData(i);
+        }
+        LineChartData discarded = new LineChartData().setDatasetCache(weakCache).addDataset(discardedDataset);
+        new LineChart().setChartData(discarded).build();
+        assertEquals(1, weakCache.size());
+        discarded = null;
+        discardedDataset = null;
+        for (int i = 0; i < 50 && weakCache.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, weakCache.size());
+        assertEquals(0, weakCache.getLength());
+    }
+
+    @Test
+    public void optionMemoizationTest() {
+        ScaleGridOption grid = new ScaleGridOption().setBorderWidth(2).setBorderDash(new ArrayList<>(Arrays.asList(2, 4)));
+        ChartOptions options = new ChartOptions()
+                .addScale("x", new LinearScaleOption().setGrid(grid).setMin(0))
+                .setTitle(new TitleOption().setText("Memoized").setFont(new ChartFont().setSize(20)));
+        String first = JsonWriter.serialize(options::writeJson);
+        assertEquals(first, JsonWriter.serialize(options::writeJson));
+
+        grid.setBorderWidth(3);
+        String modified = JsonWriter.serialize(options::writeJson);
+        assertTrue(modified.contains("\"borderWidth\":3"));
+
+        grid.getBorderDash().add(6);
+        assertEquals(modified, JsonWriter.serialize(options::writeJson));
+        grid.invalidate();
+        assertTrue(JsonWriter.serialize(options::writeJson).contains("[2,4,6]"));
+
+        LinearScaleOption scale = new LinearScaleOption().setGrid(grid);
+        ChartOptions shared = new ChartOptions().addScale("y", scale);
+        assertTrue(JsonWriter.serialize(shared::writeJson).contains("[2,4,6]"));
+        grid.setCircular(true);
+        assertTrue(JsonWriter.serialize(shared::writeJson).contains("\"circular\":true"));
+        assertTrue(JsonWriter.serialize(options::writeJson).contains("\"circular\":true"));
+
+        AbstractChartOption legacy = new AbstractChartOption() {
+            @Override
+            public JSONObject toJson() {
+                return new JSONObject().put("legacy", true);
+            }
+        };
+        assertEquals("{\"legacy\":true}", JsonWriter.serialize(legacy::writeJson));
+        AbstractChartOption incomplete = new AbstractChartOption() {
+        };
+        assertThrows(IllegalStateException.class, incomplete::toJson);
+    }
+
+    @Test
+    public void chartTemplateTest() throws IOException {
+        LineChartDataset first = new LineChartDataset().setLabel("First").addData(1, 2).setBorderColor(Color.RED);
+        LineChartDataset second = new LineChartDataset().setLabel("Zweite \u00c4nderung").addData(3, 4).setTension(0.2);
+        LineChartData chartData = new LineChartData().addDataset(first).addDataset(second).addLabels("a", "b");
+        LineChart chart = new LineChart().setChartData(chartData)
+                .setChartOptions(new ChartOptions().setTitle(new TitleOption().setText("Template")));
+        ChartTemplate template = ChartTemplate.compile(chart);
+        assertEquals(2, template.getDatasetCount());
+        assertEquals(chart.build(), template.render(Arrays.asList("a", "b"), new double[]{1, 2}, new double[]{3, 4}));
+
+        List<String> labels = Arrays.asList("x", "y", "z");
+        first.setData(new double[]{0.5, Double.NaN, 7});
+        second.setData(new double[]{-1, 1e6, 2.0 / 3});
+        chartData.setLabels(labels);
+        String expected = chart.build();
+        assertEquals(expected, template.render(labels, new double[]{0.5, Double.NaN, 7}, new double[]{-1, 1e6, 2.0 / 3}));
+        assertEquals(expected, template.render(labels, Arrays.asList(first.getData(), second.getData())));
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        template.writeTo(stream, labels, new double[]{0.5, Double.NaN, 7}, new double[]{-1, 1e6, 2.0 / 3});
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), stream.toByteArray());
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(labels, new double[]{1}));
+    }
+
+    @Test
+    public void checksumAndFingerprintTest() throws IOException {
+        LineChartDataset dataset = new LineChartDataset().setLabel("Gr\u00f6\u00dfe").addData(1, 2, 3);
+        LinearScaleOption scale = new LinearScaleOption().setMin(0);
+        LineChart chart = new LineChart()
+                .setChartData(new LineChartData().addDataset(dataset).addLabels("\ud83d\udcc8", "b", "c"))
+                .setChartOptions(new ChartOptions().addScale("y", scale));
+
+        CRC32 expected = new CRC32();
+        expected.update(chart.build().getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected.getValue(), chart.checksum());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        CRC32 streamed = new CRC32();
+        chart.writeTo(stream, streamed);
+        assertEquals(expected.getValue(), streamed.getValue());
+
+        CRC32 channeled = new CRC32();
+        Utf8Output output = Utf8Output.to(Channels.newChannel(new ByteArrayOutputStream()), 16).setChecksum(channeled);
+        chart.build(output);
+        output.flush();
+        assertEquals(expected.getValue(), channeled.getValue());
+
+        long fingerprint = chart.fingerprint();
+        assertEquals(fingerprint, chart.fingerprint());
+        dataset.addData(4);
+        long afterData = chart.fingerprint();
+        assertTrue(afterData != fingerprint);
+        scale.setMax(10);
+        long afterOptions = chart.fingerprint();
+        assertTrue(afterOptions != afterData);
+        chart.getChartData().addLabels("d");
+        assertTrue(chart.fingerprint() != afterOptions);
+        long afterLabels = chart.fingerprint();
+        ChartFill fill = new ChartFill().setTarget("origin");
+        dataset.setFill(fill);
+        long afterFill = chart.fingerprint();
+        assertTrue(afterFill != afterLabels);
+        fill.setTarget("start");
+        assertTrue(chart.fingerprint() != afterFill);
+
+        SliceFolding folding = new SliceFolding(2);
+        DoughnutChart doughnut = new DoughnutChart().setChartData(new DoughnutPieChartData().setSliceFolding(folding)
+                .addDataset(new DoughnutPieChartDataset().addData(5, 4, 3, 2, 1)).addLabels("a", "b", "c", "d", "e"));
+        long beforeFolding = doughnut.fingerprint();
+        folding.setOtherLabel("Rest");
+        assertTrue(doughnut.fingerprint() != beforeFolding);
+        assertTrue(doughnut.build().contains("\"Rest\""));
+    }
+
+    @Test
+    public void chartPageTest() {
+        ChartPage page = new ChartPage();
+        ChartPage unsharedPage = new ChartPage().setMinSharedLength(Integer.MAX_VALUE);
+        for (int i = 0; i < 4; i++) {
+            LineChart chart = new LineChart()
+                    .setChartData(new LineChartData().addDataset(new LineChartDataset().setLabel("Chart " + i).addData(i, 2, 3)).addLabels("a", "b", "c"))
+                    .setChartOptions(new ChartOptions()
+                            .setTitle(new TitleOption().setText("Shared title").setFont(new ChartFont().setFamily("Helvetica").setSize(18)))
+                            .addScale("x", new LinearScaleOption().setMin(0).setMax(100))
+                            .addScale("y", new LinearScaleOption().setMin(-10).setMax(10 + i)));
+            page.add("chart" + i, chart);
+            unsharedPage.add("chart" + i, chart);
+        }
+        String script = page.build();
+        System.out.println(script);
+
+        assertTrue(script.startsWith("(function(){var c="));
+        assertTrue(script.contains("var s0="));
+        assertTrue(!script.contains("var s1="));
+        assertEquals(script.indexOf("Shared title"), script.lastIndexOf("Shared title"));
+        assertTrue(script.contains("new Chart(document.getElementById(\"chart2\")"));
+        String unshared = unsharedPage.build();
+        assertTrue(!unshared.contains("var c="));
+        assertTrue(script.length() < unshared.length());
+    }
+
+    @Test
+    public void labelPoolTest() {
+        LabelPool pool = new LabelPool();
+        ChartPage page = new ChartPage();
+        List<LineChartData> chartData = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            LineChartData data = new LineChartData().setLabelPool(pool);
+            for (int hour = 0; hour < 24; hour++) {
+                data.addLabels(new String("2024-01-01 " + hour + ":00"));
+            }
+            data.addDataset(new LineChartDataset().setLabel("Chart " + i).addData(i, 2, 3));
+            chartData.add(data);
+            page.add("chart" + i, new LineChart().setChartData(data));
+        }
+        assertEquals(24, pool.size());
+        assertTrue(chartData.get(0).getLabels().get(5) == chartData.get(2).getLabels().get(5));
+
+        String script = page.build();
+        System.out.println(script);
+        assertEquals(script.indexOf("2024-01-01 5:00"), script.lastIndexOf("2024-01-01 5:00"));
+        assertTrue(script.contains("\"labels\":c(s0)"));
+
+        MixedChartData mixedData = new MixedChartData().addLabels(new String("2024-01-01 1:00")).setLabelPool(pool);
+        assertTrue(mixedData.getLabels().get(0) == chartData.get(1).getLabels().get(1));
+
+        LabelPool boundedPool = new LabelPool(16);
+        for (int minute = 0; minute < 100; minute++) {
+            boundedPool.intern("00:" + minute);
+            assertTrue(boundedPool.size() <= 16);
+        }
+        String label = boundedPool.intern(new String("00:99"));
+        assertTrue(label == boundedPool.intern(new String("00:99")));
+    }
+
+    @Test
+    public void resetTest() throws IOException {
+        LineChartDataset dataset = new LineChartDataset();
+        LinearScaleOption scale = new LinearScaleOption();
+        ChartAnimationOption animation = new ChartAnimationOption();
+        ChartOptions options = new ChartOptions();
+        LineChart chart = new LineChart().setChartData(new LineChartData()).setChartOptions(options);
+        List<Number> data = dataset.getData();
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < 3; i++) {
+            chart.reset();
+            scale.reset();
+            animation.reset();
+            dataset.reset().setLabel("Run " + i).addData(i, i + 1, i + 2).setTension(0.2);
+            if (i > 0) dataset.addPointRadius(1, 2, i);
+            chart.getChartData().addDataset(dataset).addLabels("a", "b", "c");
+            options.addScale("y", scale.setMin(i)).setChartAnimation(animation.setDuration(100 * i));
+
+            builder.setLength(0);
+            chart.build(builder);
+            String expected = new LineChart()
+                    .setChartData(new LineChartData().addDataset(i > 0
+                            ? new LineChartDataset().setLabel("Run " + i).addData(i, i + 1, i + 2).setTension(0.2).addPointRadius(1, 2, i)
+                            : new LineChartDataset().setLabel("Run " + i).addData(i, i + 1, i + 2).setTension(0.2)).addLabels("a", "b", "c"))
+                    .setChartOptions(new ChartOptions().addScale("y", new LinearScaleOption().setMin(i)).setChartAnimation(new ChartAnimationOption().setDuration(100 * i)))
+                    .build();
+            assertEquals(expected, builder.toString());
+            assertTrue(data == dataset.getData());
+        }
+
+        chart.reset();
+        assertEquals(0, chart.getChartData().getLabels().size());
+        assertEquals(0, chart.getChartData().getDatasets().size());
+        assertEquals(3, dataset.getData().size());
+        assertEquals("{}", JsonWriter.serialize(options::writeJson));
+
+        BarChartDataset barDataset = new BarChartDataset().addData(1, 2).addBackgroundColor(Color.RED, Color.BLUE);
+        List<Color> backgroundColor = barDataset.getBackgroundColor();
+        barDataset.reset();
+        assertTrue(backgroundColor == barDataset.getBackgroundColor());
+        assertEquals(new BarChartDataset().toJson().toString(), barDataset.toJson().toString());
+        barDataset.addData(3).addBackgroundColor(Color.GREEN);
+        assertTrue(backgroundColor == barDataset.getBackgroundColor());
+        assertEquals(1, backgroundColor.size());
+    }
+
+    @Test
+    public void freezeTest() throws IOException {
+        LineChartDataset dataset = new LineChartDataset().setLabel("Gr\u00f6\u00dfe").addData(1, 2, 3);
+        LineChart chart = new LineChart()
+                .setChartData(new LineChartData().addDataset(dataset).addLabels("a", "b", "c"))
+                .setChartOptions(new ChartOptions().addScale("y", new LinearScaleOption().setMin(0)));
+        String configuration = chart.build();
+        long checksum = chart.checksum();
+
+        FrozenChart frozen = chart.freeze();
+        dataset.addData(4);
+        assertEquals(configuration, frozen.build());
+        assertEquals(checksum, frozen.checksum());
+        assertEquals(configuration.getBytes(StandardCharsets.UTF_8).length, frozen.getLength());
+        assertTrue(frozen.asByteBuffer().isReadOnly());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        frozen.writeTo(stream);
+        assertEquals(configuration, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(frozen, new LineChart()
+                .setChartData(new LineChartData().addDataset(new LineChartDataset().setLabel("Gr\u00f6\u00dfe").addData(1, 2, 3)).addLabels("a", "b", "c"))
+                .setChartOptions(new ChartOptions().addScale("y", new LinearScaleOption().setMin(0)))
+                .freeze());
+        assertTrue(!frozen.equals(chart.freeze()));
+
+        String[] results = IntStream.range(0, 64).parallel().mapToObj(i -> frozen.build()).toArray(String[]::new);
+        for (String result : results) {
+            assertEquals(configuration, result);
+        }
+
+        QuickBarChart quickChart = new QuickBarChart().addDataset("Data", 1, 2, 3).addLabels("a", "b", "c");
+        String quickConfiguration = quickChart.build();
+        assertEquals(quickConfiguration, quickChart.build());
+        assertEquals(quickConfiguration, quickChart.freeze().build());
+        String[] quickResults = IntStream.range(0, 64).parallel().mapToObj(i -> quickChart.build()).toArray(String[]::new);
+        for (String result : quickResults) {
+            assertEquals(quickConfiguration, result);
+        }
+
+        quickChart.addDataset("More data", 4, 5, 6);
+        JSONArray quickDatasets = new JSONObject(quickChart.build()).getJSONObject("data").getJSONArray("datasets");
+        assertEquals(new JSONObject(quickConfiguration).getJSONObject("data").getJSONArray("datasets").getJSONObject(0).toString(),
+                quickDatasets.getJSONObject(0).toString());
+        assertEquals(1, quickDatasets.getJSONObject(1).getJSONArray("backgroundColor").length());
+        assertTrue(!quickDatasets.getJSONObject(0).get("backgroundColor").toString().equals(quickDatasets.getJSONObject(1).get("backgroundColor").toString()));
+    }
+
+    @Test
+    public void chartBatchRendererTest() throws InterruptedException {
+        List<LineChart> charts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            charts.add(new LineChart().setChartData(new LineChartData()
+                    .addDataset(new LineChartDataset().setLabel("Chart " + i).addData(i, i * 2, i * 3))
+                    .addLabels("a", "b", "c")));
+        }
+        ByteArrayOutputStream[] outputs = new ByteArrayOutputStream[charts.size()];
+        List<Integer> callbackOrder = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<ChartBatchRenderer.Result<LineChart>> results = new ChartBatchRenderer(executor, 3).render(charts, LineChart::writeTo, (chart, index) -> {
+                if (index == 7) throw new IOException("Sink not available");
+                return outputs[index] = new ByteArrayOutputStream();
+            }, result -> callbackOrder.add(result.getIndex()));
+
+            assertEquals(charts.size(), results.size());
+            for (int i = 0; i < charts.size(); i++) {
+                assertEquals(i, (int) callbackOrder.get(i));
+                assertTrue(results.get(i).getChart() == charts.get(i));
+                if (i == 7) {
+                    assertTrue(!results.get(i).isSuccess());
+                    assertEquals("Sink not available", results.get(i).getError().getMessage());
+                } else {
+                    assertTrue(results.get(i).isSuccess());
+                    assertEquals(charts.get(i).build(), new String(outputs[i].toByteArray(), StandardCharsets.UTF_8));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<QuickBarChart> quickCharts = Arrays.asList(new QuickBarChart().addDataset(1, 2), new QuickBarChart().addDataset(3, 4));
+        ByteArrayOutputStream[] quickOutputs = new ByteArrayOutputStream[quickCharts.size()];
+        List<ChartBatchRenderer.Result<QuickBarChart>> quickResults = new ChartBatchRenderer().render(quickCharts, QuickBarChart::writeTo,
+                (chart, index) -> quickOutputs[index] = new ByteArrayOutputStream());
+        assertTrue(quickResults.get(0).isSuccess() && quickResults.get(1).isSuccess());
+        assertEquals(quickCharts.get(1).build(), new String(quickOutputs[1].toByteArray(), StandardCharsets.UTF_8));
+
+        AssertionError callbackError = assertThrows(AssertionError.class, () -> new ChartBatchRenderer().render(charts, LineChart::writeTo,
+                (chart, index) -> new ByteArrayOutputStream(), result -> {
+                    throw new AssertionError("Callback failed for " + result.getIndex());
+                }));
+        assertEquals("Callback failed for 0", callbackError.getMessage());
+    }
+
     @Test
     public void quickChartTest() {
         System.out.println(
@@ -120,6 +908,130 @@ public class GenerateTest {
         );
     }
 
+    @Test
+    public void baselineSerializationTest() throws IOException {
+        ChartOptions options = new ChartOptions()
+                .setTitle(new TitleOption().setText("Serialization \"test\"").setDisplay(true))
+                .addScale("y", new LinearScaleOption().setBeginAtZero(true).setSuggestedMax(10));
+        BarChart barChart = new BarChart().setChartOptions(options).setChartData(new BarChartData()
+                .addDataset(new BarChartDataset().setData(1, 2.5, -3).setLabel("First").addBorderWidth(2))
+                .addDataset(new BarChartDataset().setData(4, 5, 6).setLabel("Second"))
+                .addLabels("a", "b", "c")
+                .applyDefaultStylePerDataset());
+        LineChart lineChart = new LineChart().setChartData(new LineChartData()
+                .addDataset(new LineChartDataset().setData(1.25, 2, 3.125).setLabel("Line").setBorderColor(Color.BLUE).setTension(0.3))
+                .addLabels("a", "b", "c"));
+        ScatterChart scatterChart = new ScatterChart().setChartData(new ScatterChartData()
+                .addDataset(new ScatterChartDataset().setLabel("Scatter")
+                        .addData(new ScatterChartDatapoint(1, 2)).addData(new ScatterChartDatapoint(3.5, -4)))
+                .applyDefaultStylePerDatapoint());
+        BubbleChart bubbleChart = new BubbleChart().setChartData(new BubbleChartData()
+                .addDataset(new BubbleChartDataset().setLabel("Bubble")
+                        .addData(new BubbleChartDatapoint(1, 2, 3)).addData(new BubbleChartDatapoint(4.5, 5, 6)))
+                .applyDefaultStylePerDataset());
+        DoughnutPieChartData doughnutPieData = new DoughnutPieChartData()
+                .addDataset(new DoughnutPieChartDataset().setData(3, 4, 5).setLabel("Slices"))
+                .addLabels("a", "b", "c")
+                .applyDefaultStylePerDatapoint();
+        PolarAreaChart polarAreaChart = new PolarAreaChart().setChartData(new PolarAreaChartData()
+                .addDataset(new PolarAreaChartDataset().setData(7, 8.5).setLabel("Areas"))
+                .addLabels("a", "b")
+                .applyDefaultStylePerDatapoint());
+        RadarChart radarChart = new RadarChart().setChartData(new RadarChartData()
+                .addDataset(new RadarChartDataset().setData(1, 2, 3).setLabel("Radar"))
+                .addLabels("a", "b", "c")
+                .applyDefaultStylePerDataset());
+        MixedChart mixedChart = new MixedChart().setChartData(new MixedChartData()
+                .addDataset(new LineChartDataset().setData(23, 30).setLabel("Line"), new BarChartDataset().setData(10, 20).setLabel("Bar").addBorderWidth(2))
+                .addLabels("January", "February")
+                .applyDefaultStylePerDatapoint());
+
+        // the configurations created by the org.json based serialization
+        assertSameConfiguration(barChart,
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":[\"rgba(255,99,132,0.2)\"],\"borderColor\":[\"rgb(255," +
+                "99,132)\"],\"data\":[1,2.5,-3],\"borderWidth\":[2,1],\"label\":\"First\",\"hoverBorderWidth\":[2]}," +
+                "{\"backgroundColor\":[\"rgba(255,159,64,0.2)\"],\"borderColor\":[\"rgb(255,159,64)\"],\"data\":[4,5," +
+                "6],\"borderWidth\":[1],\"label\":\"Second\",\"hoverBorderWidth\":[2]}],\"labels\":[\"a\",\"b\"," +
+                "\"c\"]},\"options\":{\"plugins\":{\"title\":{\"display\":true," +
+                "\"text\":[\"Serialization \\\"test\\\"\"]}},\"scales\":{\"y\":{\"suggestedMax\":10," +
+                "\"beginAtZero\":true}}},\"type\":\"bar\"}");
+        assertSameConfiguration(lineChart,
+                "{\"data\":{\"datasets\":[{\"borderColor\":\"rgb(0,0,255)\",\"tension\":0.3,\"data\":[1.25,2,3.125]," +
+                "\"label\":\"Line\"}],\"labels\":[\"a\",\"b\",\"c\"]},\"type\":\"line\"}");
+        assertSameConfiguration(scatterChart,
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":[\"rgba(255,99,132,0.2)\",\"rgba(255,159,64,0.2)\"," +
+                "\"rgba(255,205,86,0.2)\",\"rgba(173,255,86,0.2)\",\"rgba(75,192,192,0.2)\",\"rgba(54,162,235,0.2)\"," +
+                "\"rgba(153,102,255,0.2)\",\"rgba(245,102,255,0.2)\",\"rgba(201,203,207,0.2)\"]," +
+                "\"borderColor\":[\"rgb(255,99,132)\",\"rgb(255,159,64)\",\"rgb(255,205,86)\",\"rgb(173,255,86)\"," +
+                "\"rgb(75,192,192)\",\"rgb(54,162,235)\",\"rgb(153,102,255)\",\"rgb(245,102,255)\",\"rgb(201,203," +
+                "207)\"],\"data\":[{\"x\":1,\"y\":2},{\"x\":3.5,\"y\":-4}],\"label\":\"Scatter\"}],\"labels\":[\"\"," +
+                "\"\"]},\"type\":\"scatter\"}");
+        assertSameConfiguration(bubbleChart,
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":[\"rgba(255,99,132,0.2)\"],\"borderColor\":[\"rgb(255," +
+                "99,132)\"],\"data\":[{\"r\":3,\"x\":1,\"y\":2},{\"r\":6,\"x\":4.5,\"y\":5}],\"label\":\"Bubble\"}]," +
+                "\"labels\":[\"\",\"\"]},\"type\":\"bubble\"}");
+        assertSameConfiguration(new DoughnutChart().setChartData(doughnutPieData),
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":[\"rgba(255,99,132,0.2)\",\"rgba(255,159,64,0.2)\"," +
+                "\"rgba(255,205,86,0.2)\",\"rgba(173,255,86,0.2)\",\"rgba(75,192,192,0.2)\",\"rgba(54,162,235,0.2)\"," +
+                "\"rgba(153,102,255,0.2)\",\"rgba(245,102,255,0.2)\",\"rgba(201,203,207,0.2)\"]," +
+                "\"borderColor\":[\"rgb(255,99,132)\",\"rgb(255,159,64)\",\"rgb(255,205,86)\",\"rgb(173,255,86)\"," +
+                "\"rgb(75,192,192)\",\"rgb(54,162,235)\",\"rgb(153,102,255)\",\"rgb(245,102,255)\",\"rgb(201,203," +
+                "207)\"],\"data\":[3,4,5],\"label\":\"Slices\"}],\"labels\":[\"a\",\"b\",\"c\"]}," +
+                "\"type\":\"doughnut\"}");
+        assertSameConfiguration(new PieChart().setChartData(doughnutPieData),
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":[\"rgba(255,99,132,0.2)\",\"rgba(255,159,64,0.2)\"," +
+                "\"rgba(255,205,86,0.2)\",\"rgba(173,255,86,0.2)\",\"rgba(75,192,192,0.2)\",\"rgba(54,162,235,0.2)\"," +
+                "\"rgba(153,102,255,0.2)\",\"rgba(245,102,255,0.2)\",\"rgba(201,203,207,0.2)\"]," +
+                "\"borderColor\":[\"rgb(255,99,132)\",\"rgb(255,159,64)\",\"rgb(255,205,86)\",\"rgb(173,255,86)\"," +
+                "\"rgb(75,192,192)\",\"rgb(54,162,235)\",\"rgb(153,102,255)\",\"rgb(245,102,255)\",\"rgb(201,203," +
+                "207)\"],\"data\":[3,4,5],\"label\":\"Slices\"}],\"labels\":[\"a\",\"b\",\"c\"]},\"type\":\"pie\"}");
+        assertSameConfiguration(polarAreaChart,
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":[\"rgba(255,99,132,0.2)\",\"rgba(255,159,64,0.2)\"," +
+                "\"rgba(255,205,86,0.2)\",\"rgba(173,255,86,0.2)\",\"rgba(75,192,192,0.2)\",\"rgba(54,162,235,0.2)\"," +
+                "\"rgba(153,102,255,0.2)\",\"rgba(245,102,255,0.2)\",\"rgba(201,203,207,0.2)\"]," +
+                "\"borderColor\":[\"rgb(255,99,132)\",\"rgb(255,159,64)\",\"rgb(255,205,86)\",\"rgb(173,255,86)\"," +
+                "\"rgb(75,192,192)\",\"rgb(54,162,235)\",\"rgb(153,102,255)\",\"rgb(245,102,255)\",\"rgb(201,203," +
+                "207)\"],\"data\":[7,8.5],\"label\":\"Areas\"}],\"labels\":[\"a\",\"b\"]},\"type\":\"polarArea\"}");
+        assertSameConfiguration(radarChart,
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":\"rgba(255,99,132,0.2)\",\"borderColor\":\"rgb(255,99," +
+                "132)\",\"data\":[1,2,3],\"label\":\"Radar\"}],\"labels\":[\"a\",\"b\",\"c\"]},\"type\":\"radar\"}");
+        assertSameConfiguration(mixedChart,
+                "{\"data\":{\"datasets\":[{\"backgroundColor\":\"rgba(255,99,132,0.2)\",\"borderColor\":\"rgb(255,99," +
+                "132)\",\"tension\":0.15,\"data\":[23,30],\"label\":\"Line\",\"type\":\"line\"}," +
+                "{\"backgroundColor\":[\"rgba(255,99,132,0.2)\",\"rgba(255,159,64,0.2)\",\"rgba(255,205,86,0.2)\"," +
+                "\"rgba(173,255,86,0.2)\",\"rgba(75,192,192,0.2)\",\"rgba(54,162,235,0.2)\",\"rgba(153,102,255," +
+                "0.2)\",\"rgba(245,102,255,0.2)\",\"rgba(201,203,207,0.2)\"],\"borderColor\":[\"rgb(255,99,132)\"," +
+                "\"rgb(255,159,64)\",\"rgb(255,205,86)\",\"rgb(173,255,86)\",\"rgb(75,192,192)\",\"rgb(54,162,235)\"," +
+                "\"rgb(153,102,255)\",\"rgb(245,102,255)\",\"rgb(201,203,207)\"],\"data\":[10,20],\"borderWidth\":[2," +
+                "1],\"label\":\"Bar\",\"type\":\"bar\",\"hoverBorderWidth\":[2]}],\"labels\":[\"January\"," +
+                "\"February\"]}}");
+    }
+
+    /**
+     * Checks that every way of building the chart creates the expected configuration.
+     */
+    private static void assertSameConfiguration(Chart<?, ?, ?, ?> chart, String expected) throws IOException {
+        String configuration = chart.build();
+        assertTrue(new JSONObject(expected).similar(new JSONObject(configuration)), configuration);
+        StringBuilder appended = new StringBuilder();
+        chart.build(appended);
+        assertEquals(configuration, appended.toString());
+        StringWriter written = new StringWriter();
+        chart.writeTo(written);
+        assertEquals(configuration, written.toString());
+    }
+
+    private static void assertSameConfiguration(MixedChart chart, String expected) throws IOException {
+        String configuration = chart.toString();
+        assertTrue(new JSONObject(expected).similar(new JSONObject(configuration)), configuration);
+        StringBuilder appended = new StringBuilder();
+        chart.build(appended);
+        assertEquals(configuration, appended.toString());
+        StringWriter written = new StringWriter();
+        chart.writeTo(written);
+        assertEquals(configuration, written.toString());
+    }
+
     @Test
     public void mixedChartTest() {
         BarChartDataset barChartDataset = new BarChartDataset()